@@ -8,7 +8,10 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import school.faang.user_service.listener.FollowerEventListener;
+import school.faang.user_service.listener.UserCacheInvalidationListener;
 
 @Configuration
 public class RedisConfig {
@@ -39,4 +42,42 @@ public class RedisConfig {
             @Value("${spring.data.redis.channels.premium_bought_channel.name}") String topicName) {
         return new ChannelTopic(topicName);
     }
+
+    @Bean
+    public ChannelTopic topicForFollowerEvent(
+            @Value("${spring.data.redis.channels.follower_channel.name}") String topicName) {
+        return new ChannelTopic(topicName);
+    }
+
+    @Bean
+    public ChannelTopic topicForProfileViewEvent(
+            @Value("${spring.data.redis.channels.profile_view_channel.name}") String topicName) {
+        return new ChannelTopic(topicName);
+    }
+
+    @Bean
+    public ChannelTopic topicForWaitlistPromotionEvent(
+            @Value("${spring.data.redis.channels.waitlist_promotion_channel.name}") String topicName) {
+        return new ChannelTopic(topicName);
+    }
+
+    @Bean
+    public ChannelTopic topicForUserCacheInvalidation(
+            @Value("${spring.data.redis.channels.user_cache_invalidation_channel.name}") String topicName) {
+        return new ChannelTopic(topicName);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            UserCacheInvalidationListener userCacheInvalidationListener,
+            ChannelTopic topicForUserCacheInvalidation,
+            FollowerEventListener followerEventListener,
+            ChannelTopic topicForFollowerEvent) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(userCacheInvalidationListener, topicForUserCacheInvalidation);
+        container.addMessageListener(followerEventListener, topicForFollowerEvent);
+        return container;
+    }
 }
@@ -2,6 +2,8 @@ package school.faang.user_service.config.context;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 public class UserContext {
 
@@ -15,6 +17,11 @@ public class UserContext {
         return userIdHolder.get();
     }
 
+    // Без заголовка x-user-id (внутренние вызовы, задачи по расписанию) пользователя в контексте нет
+    public Optional<Long> findUserId() {
+        return Optional.ofNullable(userIdHolder.get());
+    }
+
     public void clear() {
         userIdHolder.remove();
     }
@@ -2,10 +2,19 @@ package school.faang.user_service.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import school.faang.user_service.dto.PublisherStatsDto;
 import school.faang.user_service.dto.filter.SubscriptionFilterDto;
+import school.faang.user_service.dto.subscription.FollowDegreeDto;
+import school.faang.user_service.dto.subscription.FollowRecommendationDto;
+import school.faang.user_service.dto.subscription.FollowStatusDto;
 import school.faang.user_service.dto.subscription.SubscriptionDto;
+import school.faang.user_service.dto.subscription.SubscriptionOutcomeDto;
+import school.faang.user_service.dto.subscription.SubscriptionPageDto;
 import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.publisher.FollowerEventPublisher;
 import school.faang.user_service.service.SubscriptionService;
+import school.faang.user_service.service.subscription.graph.FollowGraphIndex;
+import school.faang.user_service.service.subscription.graph.FollowRecommendationEngine;
 
 import java.util.List;
 
@@ -15,6 +24,9 @@ import java.util.List;
 public class SubscriptionController {
 
     private final SubscriptionService subscriptionService;
+    private final FollowGraphIndex followGraphIndex;
+    private final FollowRecommendationEngine followRecommendationEngine;
+    private final FollowerEventPublisher followerEventPublisher;
 
     //followerId - id пользователя, который хочет подписаться
     //followeeId - id того, на кого хотят подписаться.
@@ -36,6 +48,28 @@ public class SubscriptionController {
         subscriptionService.unfollowUser(followerId, followeeId);
     }
 
+    @PostMapping("/follow/bulk") // Подписаться сразу на нескольких пользователей, результат по каждому id
+    public List<SubscriptionOutcomeDto> followUsers(@RequestParam long followerId, @RequestBody List<Long> followeeIds) {
+        return subscriptionService.followUsers(followerId, followeeIds);
+    }
+
+    @PostMapping("/unfollow/bulk") // Отписаться сразу от нескольких пользователей, результат по каждому id
+    public List<SubscriptionOutcomeDto> unfollowUsers(@RequestParam long followerId,
+                                                      @RequestBody List<Long> followeeIds) {
+        return subscriptionService.unfollowUsers(followerId, followeeIds);
+    }
+
+    @GetMapping("/isFollowing") // Подписан ли followerId на followeeId
+    public boolean isFollowing(@RequestParam long followerId, @RequestParam long followeeId) {
+        return subscriptionService.isFollowing(followerId, followeeId);
+    }
+
+    @GetMapping("/isFollowing/bulk") // Статус подписки на каждого из followeeIds, например для списка карточек
+    public List<FollowStatusDto> getFollowStatuses(@RequestParam long followerId,
+                                                   @RequestParam List<Long> followeeIds) {
+        return subscriptionService.getFollowStatuses(followerId, followeeIds);
+    }
+
     @GetMapping("/getFollowers") // Получить всех подписчиков
     public List<SubscriptionDto> getFollowers(@RequestParam long followeeId, SubscriptionFilterDto filter) {
         if (followeeId <= 0) {
@@ -45,6 +79,17 @@ public class SubscriptionController {
         return subscriptionService.getFollowers(followeeId, filter);
     }
 
+    @GetMapping("/getFollowers/page") // Подписчики постранично, nextCursor передается в следующий запрос
+    public SubscriptionPageDto getFollowersPage(@RequestParam long followeeId, SubscriptionFilterDto filter,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        if (followeeId <= 0) {
+            throw new RuntimeException("Не корректное ID пользователя.");
+        }
+
+        return subscriptionService.getFollowersPage(followeeId, filter, cursor, limit);
+    }
+
     @GetMapping("/getFollowersCount") // Получить количество подписчиков
     public int getFollowersCount(@RequestParam long followeeId) {
         if (followeeId <= 0) {
@@ -63,6 +108,17 @@ public class SubscriptionController {
         return subscriptionService.getFollowing(followerId, filter);
     }
 
+    @GetMapping("/getFollowing/page") // Подписки постранично, nextCursor передается в следующий запрос
+    public SubscriptionPageDto getFollowingPage(@RequestParam long followerId, SubscriptionFilterDto filter,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        if (followerId <= 0) {
+            throw new RuntimeException("Не корректное ID пользователя.");
+        }
+
+        return subscriptionService.getFollowingPage(followerId, filter, cursor, limit);
+    }
+
     @GetMapping("/getFollowingCount") // Получить количество своих подписок
     public int getFollowingCount(@RequestParam long followerId) {
         if (followerId <= 0) {
@@ -71,4 +127,46 @@ public class SubscriptionController {
 
         return subscriptionService.getFollowingCount(followerId);
     }
-}
\ No newline at end of file
+
+    // Запросы к графу подписок в памяти: ответ без обращения к БД, только id пользователей
+
+    @GetMapping("/graph/follows") // Подписан ли followerId на followeeId
+    public boolean follows(@RequestParam long followerId, @RequestParam long followeeId) {
+        return followGraphIndex.follows(followerId, followeeId);
+    }
+
+    @GetMapping("/graph/mutuals") // Взаимные подписки пользователя
+    public long[] getMutuals(@RequestParam long userId) {
+        return followGraphIndex.mutuals(userId);
+    }
+
+    @GetMapping("/graph/commonFollowers") // Пользователи, подписанные на обоих
+    public long[] getCommonFollowers(@RequestParam long userId, @RequestParam long otherUserId) {
+        return followGraphIndex.commonFollowers(userId, otherUserId);
+    }
+
+    @GetMapping("/graph/commonFollowing") // Пользователи, на которых подписаны оба
+    public long[] getCommonFollowing(@RequestParam long userId, @RequestParam long otherUserId) {
+        return followGraphIndex.commonFollowees(userId, otherUserId);
+    }
+
+    @GetMapping("/graph/degree") // Число подписчиков и подписок по графу
+    public FollowDegreeDto getDegree(@RequestParam long userId) {
+        return followGraphIndex.degree(userId);
+    }
+
+    @GetMapping("/recommendations") // На кого подписаться: подписки подписок, по убыванию веса
+    public List<FollowRecommendationDto> getRecommendations(@RequestParam long userId,
+                                                            @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0) {
+            throw new DataValidationException("Limit must be positive");
+        }
+
+        return followRecommendationEngine.getRecommendations(userId, limit);
+    }
+
+    @GetMapping("/events/stats") // Очередь, потери и задержка публикации событий в follower_channel
+    public PublisherStatsDto getFollowerEventStats() {
+        return followerEventPublisher.getStats();
+    }
+}
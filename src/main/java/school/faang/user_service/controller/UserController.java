@@ -6,17 +6,39 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import school.faang.user_service.dto.UserCacheStatsDto;
+import school.faang.user_service.dto.UserDeactivationReportDto;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserExportFormat;
+import school.faang.user_service.dto.UserPageDto;
+import school.faang.user_service.dto.UsersBatchDto;
 import school.faang.user_service.dto.filter.UserFilterDto;
+import school.faang.user_service.dto.userimport.UserImportReportDto;
 import school.faang.user_service.service.UserService;
+import school.faang.user_service.service.user.export.UserExportService;
+import school.faang.user_service.service.user.importing.UserImportService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RequiredArgsConstructor
 @RestController
@@ -24,7 +46,11 @@ import java.util.List;
 @Tag(name = "Deactivate User API", description = "API for managing deactivate users")
 public class UserController {
     private static final String MESSAGE_INVALID_ID = "userId cannot be less than zero";
+    private static final String MISSING_IDS_HEADER = "X-Missing-User-Ids";
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
     private final UserService service;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
 
     @PutMapping("/{userId}/deactivate")
     @Operation(summary = "Deactivate User Profile", description = "Deactivates the profile of a user identified by their user ID.")
@@ -41,18 +67,100 @@ public class UserController {
         return service.deactivatesUserProfile(userId);
     }
 
+    @PostMapping("/deactivate")
+    @Operation(summary = "Deactivate users in bulk",
+            description = "Deactivates the given users in chunks, each chunk in its own transaction")
+    public UserDeactivationReportDto deactivateUsers(@RequestBody List<Long> ids) {
+        return service.deactivateUsers(ids);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import students from CSV",
+            description = "Streams a students.csv file, validates rows and bulk inserts users in chunks; "
+                    + "returns counters and rejected rows")
+    public UserImportReportDto importStudents(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return userImportService.importStudents(csv);
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export users",
+            description = "Streams users matching the optional filter as CSV or NDJSON (format=CSV|NDJSON)")
+    public ResponseEntity<StreamingResponseBody> exportUsers(UserFilterDto userFilterDto,
+                                                             @RequestParam(defaultValue = "NDJSON")
+                                                             UserExportFormat format) {
+        boolean csv = format == UserExportFormat.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "users.csv" : "users.ndjson")
+                        .build()
+                        .toString())
+                .body(outputStream -> userExportService.export(userFilterDto, format, outputStream));
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get profile cache stats", description = "Hit, miss and eviction counters of the profile cache")
+    public UserCacheStatsDto getProfileCacheStats() {
+        return service.getProfileCacheStats();
+    }
+
     @GetMapping("/{userId}")
     public UserDto getUser(@PathVariable Long userId) {
         return service.getUser(userId);
     }
 
+    @GetMapping("/{userId}/views/unique")
+    @Operation(summary = "Count unique profile viewers",
+            description = "Approximate number of distinct users who viewed the profile (HyperLogLog)")
+    public long countUniqueViewers(@PathVariable long userId) {
+        return service.countUniqueViewers(userId);
+    }
+
     @GetMapping("/list")
-    public List<UserDto> getUsersByIds(@RequestBody List<Long> ids) {
-        return service.getUsersByIds(ids);
+    @Operation(summary = "Get users by ids",
+            description = "Returns found users in the order of the requested ids, missing ids are listed in the "
+                    + MISSING_IDS_HEADER + " header")
+    public ResponseEntity<List<UserDto>> getUsersByIds(@RequestBody List<Long> ids) {
+        UsersBatchDto batch = service.getUsersByIds(ids);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!batch.getMissingIds().isEmpty()) {
+            response.header(MISSING_IDS_HEADER, batch.getMissingIds().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+        return response.body(batch.getUsers());
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search users",
+            description = "Case-insensitive substring search by username, email, city and phone ranked by similarity")
+    public Page<UserDto> searchUsers(@RequestParam @Parameter(description = "Substring to search for") String query,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "20") int size) {
+        return service.searchUsers(query, page, size);
     }
 
     @GetMapping("/premium")
     public List<UserDto> getPremiumUsers(@RequestBody UserFilterDto userFilterDto) {
         return service.getPremiumUsers(userFilterDto);
     }
+
+    @GetMapping("/premium/page")
+    @Operation(summary = "Get premium users page",
+            description = "Keyset pagination by user id, pass nextCursor of the previous page as cursor")
+    public UserPageDto getPremiumUsersPage(UserFilterDto userFilterDto,
+                                           @RequestParam(required = false) Long cursor,
+                                           @RequestParam(defaultValue = "100") int limit) {
+        return service.getPremiumUsersPage(userFilterDto, cursor, limit);
+    }
+
+    @GetMapping(value = "/premium/stream", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream premium users", description = "Streams matching premium users as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamPremiumUsers(UserFilterDto userFilterDto) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> service.streamPremiumUsers(userFilterDto, outputStream));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package school.faang.user_service.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import school.faang.user_service.dto.ProfilePicDto;
+import school.faang.user_service.service.user.UserProfilePicService;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/users/{userId}/profile-pic")
+@Tag(name = "User Profile Picture API", description = "API for uploading and downloading user profile pictures")
+public class UserProfilePicController {
+    private static final String BYTES = "bytes";
+    private final UserProfilePicService profilePicService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload profile picture",
+            description = "Streams the image into the content store in chunks and replaces the previous picture")
+    public ProfilePicDto uploadProfilePic(@PathVariable long userId, @RequestParam("file") MultipartFile file) {
+        return profilePicService.upload(userId, file);
+    }
+
+    @GetMapping
+    @Operation(summary = "Download profile picture",
+            description = "Streams the picture; a single byte range in the Range header is answered with 206, "
+                    + "a matching If-None-Match with 304")
+    public ResponseEntity<StreamingResponseBody> downloadProfilePic(
+            @PathVariable long userId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return download(profilePicService.getProfilePic(userId, false), rangeHeader, ifNoneMatch);
+    }
+
+    @GetMapping("/small")
+    @Operation(summary = "Download profile picture thumbnail",
+            description = "Streams the downscaled picture, or the original one while the thumbnail is not ready")
+    public ResponseEntity<StreamingResponseBody> downloadSmallProfilePic(
+            @PathVariable long userId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return download(profilePicService.getProfilePic(userId, true), rangeHeader, ifNoneMatch);
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Delete profile picture")
+    public void deleteProfilePic(@PathVariable long userId) {
+        profilePicService.delete(userId);
+    }
+
+    // ETag - hash содержимого, поэтому клиент с актуальной копией получает 304 без тела
+    private ResponseEntity<StreamingResponseBody> download(ProfilePicDto profilePic, String rangeHeader,
+                                                           String ifNoneMatch) {
+        String etag = profilePic.hash() == null ? null : "\"" + profilePic.hash() + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        long size = profilePic.size();
+        HttpRange range = singleRange(rangeHeader);
+        if (range == null) {
+            return body(ResponseEntity.ok(), profilePic, etag, 0, size);
+        }
+
+        long start = range.getRangeStart(size);
+        long end = range.getRangeEnd(size);
+        if (start >= size || start > end) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, BYTES + " */" + size)
+                    .build();
+        }
+        return body(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + size),
+                profilePic, etag, start, end - start + 1);
+    }
+
+    private ResponseEntity<StreamingResponseBody> body(ResponseEntity.BodyBuilder response, ProfilePicDto profilePic,
+                                                       String etag, long offset, long length) {
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response
+                .header(HttpHeaders.ACCEPT_RANGES, BYTES)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.parseMediaType(profilePic.contentType()))
+                .contentLength(length)
+                .body(outputStream -> profilePicService.read(profilePic, offset, length, outputStream));
+    }
+
+    // Для If-None-Match используется слабое сравнение: W/"x" совпадает с "x"
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Некорректный заголовок и несколько диапазонов игнорируются, отдается весь файл (RFC 9110, 14.2)
+    private HttpRange singleRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import school.faang.user_service.dto.event.EventDto;
+import school.faang.user_service.dto.event.EventSearchResultDto;
 import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.filter.EventFilterDto;
 import school.faang.user_service.service.event.EventService;
@@ -70,6 +71,14 @@ public class EventController {
         return eventService.getEventsByFilter(filter);
     }
 
+    @PostMapping("/filter/search")
+    @Operation(summary = "Search events", description = "Full-text search over event titles and descriptions, "
+            + "ranked by relevance. Matches in the highlights are wrapped in U+0002 and U+0003; "
+            + "the text itself is not HTML-escaped")
+    public List<EventSearchResultDto> searchEvents(@RequestBody EventFilterDto filter) {
+        return eventService.searchEvents(filter);
+    }
+
     @GetMapping("/owned/{userId}")
     @Operation(summary = "Get owned events", description = "Retrieves events owned by the specified user")
     public List<EventDto> getOwnedEvents(@PathVariable @Parameter(description = "ID of the user whose events are to be retrieved") long userId) {
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.event.WaitlistPositionDto;
 import school.faang.user_service.service.event.EventParticipationService;
 
 import java.util.List;
@@ -24,17 +25,40 @@ public class EventParticipationController {
     private EventParticipationService eventParticipationService;
 
     @PostMapping("/register")
-    @Operation(summary = "Register a participant", description = "Registers a user as a participant in an event")
+    @Operation(summary = "Register a participant", description = "Registers a user as a participant in an event. "
+            + "Rejected while other users are waiting in the event waitlist")
     public void registerParticipant(@RequestParam @Parameter(description = "ID of the user") long userId,
                                     @RequestParam @Parameter(description = "ID of the event") long eventId) {
-        eventParticipationService.registrParticipant(userId, eventId);
+        eventParticipationService.registrParticipant(eventId, userId);
     }
 
     @DeleteMapping("/unregister")
     @Operation(summary = "Unregister a participant", description = "Unregisters a user from an event")
     public void unregisterParticipant(@RequestParam @Parameter(description = "ID of the user") long userId,
                                       @RequestParam @Parameter(description = "ID of the event") long eventId) {
-        eventParticipationService.unregisterParticipant(userId, eventId);
+        eventParticipationService.unregisterParticipant(eventId, userId);
+    }
+
+    @PostMapping("/waitlist")
+    @Operation(summary = "Join the waitlist", description = "Puts a user in the FIFO waitlist of an event; "
+            + "the user is promoted to participant when a seat is freed")
+    public WaitlistPositionDto joinWaitlist(@RequestParam @Parameter(description = "ID of the user") long userId,
+                                            @RequestParam @Parameter(description = "ID of the event") long eventId) {
+        return eventParticipationService.joinWaitlist(eventId, userId);
+    }
+
+    @DeleteMapping("/waitlist")
+    @Operation(summary = "Leave the waitlist", description = "Removes a user from the waitlist of an event")
+    public void leaveWaitlist(@RequestParam @Parameter(description = "ID of the user") long userId,
+                              @RequestParam @Parameter(description = "ID of the event") long eventId) {
+        eventParticipationService.leaveWaitlist(eventId, userId);
+    }
+
+    @GetMapping("/waitlist/position")
+    @Operation(summary = "Get waitlist position", description = "Retrieves the position of a user in the waitlist of an event")
+    public WaitlistPositionDto getWaitlistPosition(@RequestParam @Parameter(description = "ID of the user") long userId,
+                                                   @RequestParam @Parameter(description = "ID of the event") long eventId) {
+        return eventParticipationService.getWaitlistPosition(eventId, userId);
     }
 
     @GetMapping("/participants")
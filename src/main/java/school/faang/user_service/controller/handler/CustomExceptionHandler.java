@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import school.faang.user_service.dto.ErrorDto;
 import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.exception.NotFoundException;
+import school.faang.user_service.exception.ServiceNotReadyException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -59,6 +60,15 @@ public class CustomExceptionHandler {
                 .body(new ErrorDto(e.getMessage()));
     }
 
+    // Состояние временное, поэтому без стектрейса
+    @ExceptionHandler(ServiceNotReadyException.class)
+    public ResponseEntity<ErrorDto> handleServiceNotReadyException(ServiceNotReadyException e) {
+        log.warn("Service not ready: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorDto(e.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorDto> handleRuntimeException(RuntimeException e) {
         log.error("Runtime exception", e);
@@ -0,0 +1,26 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowerEvent {
+    private Long followerId;
+    private Long followeeId;
+    private Type type;
+    private LocalDateTime timestamp;
+    // Узел-отправитель и сквозной номер события на нем: по пропуску номера получатель видит потерю
+    private String sourceId;
+    private Long sequence;
+
+    public enum Type {
+        FOLLOW, UNFOLLOW
+    }
+}
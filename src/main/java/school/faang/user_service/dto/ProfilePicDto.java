@@ -0,0 +1,4 @@
+package school.faang.user_service.dto;
+
+public record ProfilePicDto(String fileId, long size, String contentType, String hash) {
+}
@@ -0,0 +1,22 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Просмотры профиля vieweeId пользователем viewerId, свернутые в интервал [bucketStart, bucketStart + bucket).
+// Обычно это одно событие на интервал после его закрытия; просмотр, вычитанный уже после закрытия,
+// и незакрытый интервал при остановке сервиса приходят отдельными событиями, поэтому получатель суммирует views
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileViewEvent {
+    private Long viewerId;
+    private Long vieweeId;
+    private LocalDateTime bucketStart;
+    private Integer views;
+}
@@ -0,0 +1,19 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublisherStatsDto {
+    private long queueSize;
+    private long published;
+    private long dropped;
+    private long failed;
+    private long batches;
+    // Время от постановки в очередь до отправки в Redis
+    private long averageLatencyMicros;
+    private long maxLatencyMicros;
+}
@@ -0,0 +1,19 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCacheStatsDto {
+    private long nearHits;
+    private long nearMisses;
+    private long nearEvictions;
+    private long nearSize;
+    private long redisHits;
+    private long redisMisses;
+    private long redisErrors;
+    private long staleWritesDropped;
+}
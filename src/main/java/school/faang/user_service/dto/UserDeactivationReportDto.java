@@ -0,0 +1,17 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDeactivationReportDto {
+    private int requested;
+    private int deactivated;
+    private List<Long> notFoundIds;
+    private List<Long> alreadyDeactivatedIds;
+}
@@ -0,0 +1,6 @@
+package school.faang.user_service.dto;
+
+public enum UserExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,7 @@
+package school.faang.user_service.dto;
+
+import java.util.List;
+
+// Изменились данные, которые входят в кэшируемый профиль пользователей userIds (события, менторы, цели)
+public record UserProfileChangedEvent(List<Long> userIds) {
+}
@@ -0,0 +1,13 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class UsersBatchDto {
+    private List<UserDto> users;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,19 @@
+package school.faang.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Пользователь userId переведен из очереди ожидания в участники события eventId
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistPromotionEvent {
+    private Long eventId;
+    private Long userId;
+    private LocalDateTime promotedAt;
+}
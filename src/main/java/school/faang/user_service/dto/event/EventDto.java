@@ -17,7 +17,8 @@ public class EventDto {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private String location;
-    private int maxAttendees;
+    // null - число участников не ограничено
+    private Integer maxAttendees;
     private Long ownerId;
     private List<Long> relatedSkillIds;
 }
@@ -0,0 +1,13 @@
+package school.faang.user_service.dto.event;
+
+/**
+ * Найденное событие с релевантностью и подсветкой совпадений.
+ * titleHighlight и descriptionHighlight - исходный текст события (описание - фрагментами), в котором
+ * каждое совпадение обернуто в {@link #HIGHLIGHT_START} (U+0002) и {@link #HIGHLIGHT_END} (U+0003).
+ * Сами эти символы из текста события удаляются, поэтому разметка однозначна. HTML в тексте не экранируется:
+ * клиент экранирует текст и только потом заменяет маркеры на свои теги.
+ */
+public record EventSearchResultDto(EventDto event, double rank, String titleHighlight, String descriptionHighlight) {
+    public static final String HIGHLIGHT_START = "\u0002";
+    public static final String HIGHLIGHT_END = "\u0003";
+}
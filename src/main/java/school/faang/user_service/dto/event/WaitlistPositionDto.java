@@ -0,0 +1,4 @@
+package school.faang.user_service.dto.event;
+
+public record WaitlistPositionDto(long eventId, long userId, int position) {
+}
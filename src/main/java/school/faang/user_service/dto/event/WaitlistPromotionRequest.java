@@ -0,0 +1,5 @@
+package school.faang.user_service.dto.event;
+
+// На событии могло освободиться место для очереди ожидания: место отдали или в очередь кто-то встал
+public record WaitlistPromotionRequest(long eventId) {
+}
@@ -14,4 +14,6 @@ public class UserFilterDto {
     private String email;
     private String city;
     private String phone;
-}
\ No newline at end of file
+    private int page;
+    private int pageSize;
+}
@@ -0,0 +1,4 @@
+package school.faang.user_service.dto.subscription;
+
+public record FollowDegreeDto(long userId, int followersCount, int followeesCount) {
+}
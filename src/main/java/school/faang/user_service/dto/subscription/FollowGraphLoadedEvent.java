@@ -0,0 +1,5 @@
+package school.faang.user_service.dto.subscription;
+
+// Граф подписок в памяти загружен впервые после старта
+public record FollowGraphLoadedEvent(int userCount, int edgeCount) {
+}
@@ -0,0 +1,5 @@
+package school.faang.user_service.dto.subscription;
+
+// sharedFollowees - сколько пользователей из подписок userId подписаны на кандидата
+public record FollowRecommendationDto(long userId, int sharedFollowees, int sharedSkills) {
+}
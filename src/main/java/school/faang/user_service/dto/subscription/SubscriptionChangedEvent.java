@@ -0,0 +1,7 @@
+package school.faang.user_service.dto.subscription;
+
+import java.util.List;
+
+// Подписки followerId на followeeIds созданы (followed = true) или удалены
+public record SubscriptionChangedEvent(long followerId, List<Long> followeeIds, boolean followed) {
+}
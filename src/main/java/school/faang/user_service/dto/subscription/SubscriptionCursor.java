@@ -0,0 +1,35 @@
+package school.faang.user_service.dto.subscription;
+
+import school.faang.user_service.exception.DataValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Позиция в списке подписок: (created_at, id) последней отданной подписки.
+ * Клиенту передается непрозрачной base64url-строкой.
+ */
+public record SubscriptionCursor(OffsetDateTime createdAt, long subscriptionId) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt.toInstant() + SEPARATOR + subscriptionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SubscriptionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new SubscriptionCursor(
+                    Instant.parse(raw.substring(0, separator)).atOffset(ZoneOffset.UTC),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new DataValidationException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package school.faang.user_service.dto.subscription;
+
+public enum SubscriptionOutcome {
+    FOLLOWED,
+    ALREADY_FOLLOWING,
+    UNFOLLOWED,
+    NOT_FOLLOWING,
+    USER_NOT_FOUND,
+    SELF_SUBSCRIPTION
+}
@@ -0,0 +1,4 @@
+package school.faang.user_service.dto.subscription;
+
+public record SubscriptionOutcomeDto(long followeeId, SubscriptionOutcome outcome) {
+}
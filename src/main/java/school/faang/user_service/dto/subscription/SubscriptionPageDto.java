@@ -0,0 +1,15 @@
+package school.faang.user_service.dto.subscription;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionPageDto {
+    private List<SubscriptionDto> subscriptions;
+    private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package school.faang.user_service.dto.userimport;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectedRowDto {
+    private long rowNumber;
+    private String studentId;
+    private String reason;
+}
@@ -0,0 +1,19 @@
+package school.faang.user_service.dto.userimport;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportReportDto {
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private List<RejectedRowDto> rejections = new ArrayList<>();
+    private boolean rejectionsTruncated;
+}
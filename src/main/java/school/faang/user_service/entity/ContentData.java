@@ -5,7 +5,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -21,7 +20,21 @@ public class ContentData {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
 
-    @Lob
-    @Column
-    private byte[] content;
-}
\ No newline at end of file
+    // oid large object, само содержимое читается и пишется кусками через LargeObjectRepository
+    @Column(name = "content")
+    private Long contentOid;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "content_type", length = 128)
+    private String contentType;
+
+    // sha-256 содержимого в hex: одинаковые файлы хранятся одной строкой
+    @Column(name = "hash", length = 64, unique = true)
+    private String hash;
+
+    // Сколько ссылок (fileId у пользователей) указывает на строку; при нуле объект удаляется
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import school.faang.user_service.entity.Skill;
@@ -40,8 +41,9 @@ public class Event {
     @Column(name = "location", length = 128)
     private String location;
 
+    // null - число участников не ограничено
     @Column(name = "max_attendees")
-    private int maxAttendees;
+    private Integer maxAttendees;
 
     @ManyToMany(mappedBy = "participatedEvents")
     private List<User> attendees;
@@ -49,11 +51,14 @@ public class Event {
     @OneToMany(mappedBy = "event")
     private List<Rating> ratings;
 
-    @ManyToOne
+    // Для страницы событий владелец не загружается: в EventDto нужен только его id
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User owner;
 
+    // Навыки страницы событий подгружаются пачками, а не запросом на каждое событие
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(name = "event_skill",
             joinColumns = @JoinColumn(name = "event_id"),
             inverseJoinColumns = @JoinColumn(name = "skill_id"))
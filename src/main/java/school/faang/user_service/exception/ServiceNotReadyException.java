@@ -0,0 +1,8 @@
+package school.faang.user_service.exception;
+
+// Данные для ответа еще готовятся (например, после старта сервиса), запрос стоит повторить позже
+public class ServiceNotReadyException extends RuntimeException {
+    public ServiceNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package school.faang.user_service.filter;
 
+import org.springframework.data.jpa.domain.Specification;
 import school.faang.user_service.entity.event.Event;
 
 import java.util.stream.Stream;
@@ -9,4 +10,7 @@ public interface EventFilter {
 
     Stream<Event> apply(Stream<Event> eventStream, EventFilterDto filters);
     boolean test(Event event, EventFilterDto filters);
+
+    // Условие фильтра для запроса в БД; все условия объединяются через AND
+    Specification<Event> toSpecification(EventFilterDto filters);
 }
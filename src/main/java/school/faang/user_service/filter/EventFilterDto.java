@@ -3,6 +3,7 @@ package school.faang.user_service.filter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
 import school.faang.user_service.entity.Skill;
 import school.faang.user_service.entity.User;
 
@@ -25,4 +26,16 @@ public class EventFilterDto {
     private User ownerPattern;
     private List<Skill> relatedSkillIsPattern;
     private boolean optionFilterSkills;
+    private LocalDateTime rangeFrom;
+    private LocalDateTime rangeTo;
+    private EventTimeRangeMode rangeMode;
+    // Запрос полнотекстового поиска для /filter/search в синтаксисе websearch: слова, "фраза", -исключение
+    private String searchQuery;
+    private int page;
+    private int pageSize;
+    // id последнего события предыдущей страницы: следующая страница берется по ключу сортировки, page не задается
+    private Long afterId;
+    // startDate, endDate, title, maxAttendees или createdAt; по умолчанию startDate
+    private String sortBy;
+    private Sort.Direction sortDirection;
 }
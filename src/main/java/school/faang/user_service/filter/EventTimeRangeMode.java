@@ -0,0 +1,13 @@
+package school.faang.user_service.filter;
+
+// Отношение интервала события [startDate, endDate] к окну [rangeFrom, rangeTo]
+public enum EventTimeRangeMode {
+    // Событие пересекается с окном
+    OVERLAPS,
+    // Событие целиком покрывает окно
+    CONTAINS,
+    // Событие закончилось до начала окна
+    BEFORE,
+    // Событие начинается после конца окна
+    AFTER
+}
@@ -1,9 +1,11 @@
 package school.faang.user_service.filter.impl;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.repository.specification.EventSpecifications;
 
 import java.util.stream.Stream;
 
@@ -16,11 +18,18 @@ public class MaxAttendeesFromPatternFilter implements EventFilter {
 
     @Override
     public Stream<Event> apply(Stream<Event> eventStream, EventFilterDto filters) {
-        return eventStream.filter(event -> event.getMaxAttendees() >= filters.getMaxAttendeesFromPattern());
+        return eventStream.filter(event -> test(event, filters));
     }
 
     @Override
     public boolean test(Event event, EventFilterDto filters) {
-        return event.getMaxAttendees() >= filters.getMaxAttendeesFromPattern();
+        // Событие без лимита вмещает сколько угодно участников
+        return event.getMaxAttendees() == null || event.getMaxAttendees() >= filters.getMaxAttendeesFromPattern();
+    }
+
+    @Override
+    public Specification<Event> toSpecification(EventFilterDto filters) {
+        return EventSpecifications.isNull("maxAttendees")
+                .or(EventSpecifications.atLeast("maxAttendees", filters.getMaxAttendeesFromPattern()));
     }
 }
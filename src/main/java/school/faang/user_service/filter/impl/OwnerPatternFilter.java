@@ -1,9 +1,11 @@
 package school.faang.user_service.filter.impl;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.repository.specification.EventSpecifications;
 
 import java.util.stream.Stream;
 
@@ -26,4 +28,9 @@ public class OwnerPatternFilter implements EventFilter {
         return event.getOwner().getUsername()
                 .contains(filters.getOwnerPattern().getUsername());
     }
+
+    @Override
+    public Specification<Event> toSpecification(EventFilterDto filters) {
+        return EventSpecifications.ownerUsernameContains(filters.getOwnerPattern().getUsername());
+    }
 }
@@ -1,10 +1,12 @@
 package school.faang.user_service.filter.impl;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.Skill;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.repository.specification.EventSpecifications;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -45,6 +47,16 @@ public class RelatedSkillsPatternFilter implements EventFilter {
         }
     }
 
+    @Override
+    public Specification<Event> toSpecification(EventFilterDto filters) {
+        List<String> titles = filters.getRelatedSkillIsPattern().stream()
+                .map(Skill::getTitle)
+                .toList();
+        return filters.isOptionFilterSkills()
+                ? EventSpecifications.hasOnlySkillsLike(titles)
+                : EventSpecifications.hasAnySkillLike(titles);
+    }
+
     private Stream<Event> containsAllSkills(Stream<Event> eventStream, List<Skill> skillsFilter) {
         return eventStream.filter(event -> event.getRelatedSkills().stream()
                 .allMatch(skillEvent -> skillsFilter.stream()
@@ -1,11 +1,15 @@
 package school.faang.user_service.filter.impl;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.repository.specification.EventSpecifications;
 
 import java.util.stream.Stream;
 
+@Component
 public class StartDateAfterPatternFilter implements EventFilter {
     @Override
     public boolean isApplicable(EventFilterDto filters) {
@@ -21,4 +25,9 @@ public class StartDateAfterPatternFilter implements EventFilter {
     public boolean test(Event event, EventFilterDto filters) {
         return event.getStartDate().isAfter(filters.getStartDateAfterPattern());
     }
+
+    @Override
+    public Specification<Event> toSpecification(EventFilterDto filters) {
+        return EventSpecifications.after("startDate", filters.getStartDateAfterPattern());
+    }
 }
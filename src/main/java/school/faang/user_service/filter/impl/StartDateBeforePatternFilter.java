@@ -1,9 +1,11 @@
 package school.faang.user_service.filter.impl;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.repository.specification.EventSpecifications;
 
 import java.util.stream.Stream;
 
@@ -23,4 +25,9 @@ public class StartDateBeforePatternFilter implements EventFilter {
     public boolean test(Event event, EventFilterDto filters) {
         return event.getStartDate().isBefore(filters.getStartDateBeforePattern());
     }
+
+    @Override
+    public Specification<Event> toSpecification(EventFilterDto filters) {
+        return EventSpecifications.before("startDate", filters.getStartDateBeforePattern());
+    }
 }
@@ -0,0 +1,49 @@
+package school.faang.user_service.filter.impl;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.entity.event.Event;
+import school.faang.user_service.filter.EventFilter;
+import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.repository.specification.EventSpecifications;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+// Границы интервалов включительные, пустая граница окна - бесконечность
+@Component
+public class TimeRangePatternFilter implements EventFilter {
+    @Override
+    public boolean isApplicable(EventFilterDto filters) {
+        return filters.getRangeMode() != null;
+    }
+
+    @Override
+    public Stream<Event> apply(Stream<Event> eventStream, EventFilterDto filters) {
+        return eventStream.filter(event -> test(event, filters));
+    }
+
+    @Override
+    public boolean test(Event event, EventFilterDto filters) {
+        LocalDateTime from = filters.getRangeFrom();
+        LocalDateTime to = filters.getRangeTo();
+        return switch (filters.getRangeMode()) {
+            case OVERLAPS -> (to == null || !event.getStartDate().isAfter(to))
+                    && (from == null || !event.getEndDate().isBefore(from));
+            case CONTAINS -> from != null && to != null
+                    && !event.getStartDate().isAfter(from) && !event.getEndDate().isBefore(to);
+            case BEFORE -> event.getEndDate().isBefore(from);
+            case AFTER -> event.getStartDate().isAfter(to);
+        };
+    }
+
+    @Override
+    public Specification<Event> toSpecification(EventFilterDto filters) {
+        return switch (filters.getRangeMode()) {
+            case OVERLAPS -> EventSpecifications.overlaps(filters.getRangeFrom(), filters.getRangeTo());
+            case CONTAINS -> EventSpecifications.contains(filters.getRangeFrom(), filters.getRangeTo());
+            case BEFORE -> EventSpecifications.endsBefore(filters.getRangeFrom());
+            case AFTER -> EventSpecifications.startsAfter(filters.getRangeTo());
+        };
+    }
+}
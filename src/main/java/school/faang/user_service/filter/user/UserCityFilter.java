@@ -1,8 +1,12 @@
 package school.faang.user_service.filter.user;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.filter.UserFilterDto;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.specification.UserSpecifications;
+
+import java.util.Optional;
 
 @Component
 public class UserCityFilter implements UserFilter {
@@ -15,4 +19,9 @@ public class UserCityFilter implements UserFilter {
     public boolean filterUsers(User user, UserFilterDto userFilterDto) {
         return user.getCity().toLowerCase().contains(userFilterDto.getCity().toLowerCase());
     }
+
+    @Override
+    public Optional<Specification<User>> toSpecification(UserFilterDto userFilterDto) {
+        return Optional.of(UserSpecifications.containsIgnoreCase("city", userFilterDto.getCity()));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,19 @@
 package school.faang.user_service.filter.user;
 
+import org.springframework.data.jpa.domain.Specification;
 import school.faang.user_service.dto.filter.UserFilterDto;
 import school.faang.user_service.entity.User;
 
+import java.util.Optional;
+
 public interface UserFilter {
     boolean checkingForNull(UserFilterDto userFilterDto);
 
     boolean filterUsers(User user, UserFilterDto userFilterDto);
-}
\ No newline at end of file
+
+    // Условие для выполнения фильтра в БД. Если фильтр нельзя выразить запросом,
+    // возвращается пустой Optional и фильтр применяется в памяти через filterUsers
+    default Optional<Specification<User>> toSpecification(UserFilterDto userFilterDto) {
+        return Optional.empty();
+    }
+}
@@ -1,8 +1,12 @@
 package school.faang.user_service.filter.user;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.filter.UserFilterDto;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.specification.UserSpecifications;
+
+import java.util.Optional;
 
 @Component
 public class UserNameFilter implements UserFilter {
@@ -17,4 +21,9 @@ public class UserNameFilter implements UserFilter {
 
         return user.getUsername().toLowerCase().contains(userFilterDto.getName().toLowerCase());
     }
+
+    @Override
+    public Optional<Specification<User>> toSpecification(UserFilterDto userFilterDto) {
+        return Optional.of(UserSpecifications.containsIgnoreCase("username", userFilterDto.getName()));
+    }
 }
\ No newline at end of file
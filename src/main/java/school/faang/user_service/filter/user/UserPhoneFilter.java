@@ -1,11 +1,18 @@
 package school.faang.user_service.filter.user;
 
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.filter.UserFilterDto;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.specification.UserSpecifications;
+
+import java.util.Optional;
 
 @Component
 public class UserPhoneFilter implements UserFilter {
+    private static final String NOT_DIGITS_REGEX = "[^0-9]";
+
     @Override
     public boolean checkingForNull(UserFilterDto userFilterDto) {
         return userFilterDto.getPhone() != null;
@@ -18,10 +25,28 @@ public class UserPhoneFilter implements UserFilter {
         return user.getPhone().contains(userFilterDto.getPhone()) || resultOfUser == resultOfFilter;
     }
 
+    @Override
+    public Optional<Specification<User>> toSpecification(UserFilterDto userFilterDto) {
+        String phone = userFilterDto.getPhone();
+        String pattern = "%" + UserSpecifications.escapeLike(phone) + "%";
+        String digits = phone.replaceAll(NOT_DIGITS_REGEX, "");
+        return Optional.of((root, query, cb) -> {
+            Expression<String> userPhone = root.get("phone");
+            if (digits.isEmpty()) {
+                return cb.like(userPhone, pattern, UserSpecifications.LIKE_ESCAPE);
+            }
+            Expression<String> userDigits = cb.function("regexp_replace", String.class,
+                    userPhone, cb.literal(NOT_DIGITS_REGEX), cb.literal(""), cb.literal("g"));
+            return cb.or(
+                    cb.like(userPhone, pattern, UserSpecifications.LIKE_ESCAPE),
+                    cb.equal(userDigits, digits));
+        });
+    }
+
     private int extractNumbers(String phone) {
         return phone.chars()
                 .filter(Character::isDigit)
                 .map(Character::getNumericValue)
                 .reduce(0, (a, b) -> a * 10 + b);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package school.faang.user_service.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.FollowerEvent;
+import school.faang.user_service.service.subscription.SubscriptionBloomFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Подписки, оформленные на других узлах, попадают в локальный фильтр Блума через follower_channel.
+ * Доставка не гарантирована, поэтому отслеживаются номера событий каждого отправителя: пропуск номера
+ * или повторная подписка на канал после обрыва сбрасывают фильтр до пересборки из БД.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowerEventListener implements MessageListener, SubscriptionListener {
+    private final SubscriptionBloomFilter subscriptionBloomFilter;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final AtomicBoolean subscribedOnce = new AtomicBoolean();
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            FollowerEvent event = objectMapper.readValue(message.getBody(), FollowerEvent.class);
+            checkSequence(event);
+            if (event.getType() == FollowerEvent.Type.FOLLOW) {
+                subscriptionBloomFilter.add(event.getFollowerId(), event.getFolloweeId());
+            }
+        } catch (IOException e) {
+            log.error("Failed to read follower event", e);
+            subscriptionBloomFilter.resync("unreadable follower event");
+        }
+    }
+
+    // Первая подписка - при старте, до построения фильтра; следующие - после обрыва соединения
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (!subscribedOnce.compareAndSet(false, true)) {
+            lastSequences.clear();
+            subscriptionBloomFilter.resync("follower channel resubscribed");
+        }
+    }
+
+    private void checkSequence(FollowerEvent event) {
+        if (event.getSourceId() == null || event.getSequence() == null) {
+            return;
+        }
+        Long previous = lastSequences.put(event.getSourceId(), event.getSequence());
+        if (previous != null && event.getSequence() != previous + 1) {
+            subscriptionBloomFilter.resync("follower events lost from " + event.getSourceId()
+                    + ": expected " + (previous + 1) + ", got " + event.getSequence());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package school.faang.user_service.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.UserCacheInvalidationEvent;
+import school.faang.user_service.service.user.cache.UserProfileCache;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener implements MessageListener {
+    private final UserProfileCache userProfileCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UserCacheInvalidationEvent event = objectMapper.readValue(message.getBody(), UserCacheInvalidationEvent.class);
+            userProfileCache.evictLocal(event.getUserIds());
+        } catch (IOException e) {
+            log.error("Failed to read user cache invalidation event", e);
+        }
+    }
+}
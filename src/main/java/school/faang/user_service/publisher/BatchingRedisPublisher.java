@@ -0,0 +1,211 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import school.faang.user_service.dto.PublisherStatsDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Асинхронный публикатор в канал Redis. {@link #publish} только сериализует событие и кладет его
+ * в ограниченную очередь; отдельный поток собирает пачки до batchSize сообщений или до истечения
+ * flushInterval с первого сообщения пачки и отправляет пачку одним pipeline. При полной очереди
+ * вызывающий поток ждет не дольше offerTimeout на весь вызов {@link #publishAll}, после чего оставшиеся
+ * события кладутся без ожидания или отбрасываются и учитываются в dropped. О сброшенных событиях поток
+ * отправки пишет в лог одной строкой за цикл, а не по строке на событие.
+ */
+@Slf4j
+public abstract class BatchingRedisPublisher<T> implements MessagePublisher<T> {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final byte[] channel;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+    private volatile boolean running;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder droppedSinceReport = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0);
+
+    protected BatchingRedisPublisher(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+                                     ChannelTopic topic, int queueCapacity, int batchSize,
+                                     Duration flushInterval, Duration offerTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = topic.getTopic().getBytes(StandardCharsets.UTF_8);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flushExecutor.execute(this::flushLoop);
+    }
+
+    // Поток отправки дочищает очередь и завершается
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Publisher to {} stopped with {} unsent messages", channelName(), queue.size());
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void publish(T event) throws JsonProcessingException {
+        publishAll(List.of(event));
+    }
+
+    // Все события вызова делят один срок ожидания: после первого отказа остальные кладутся без ожидания
+    public void publishAll(Collection<? extends T> events) throws JsonProcessingException {
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        for (T event : events) {
+            payloads.add(objectMapper.writeValueAsBytes(event));
+        }
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        for (byte[] payload : payloads) {
+            if (!enqueue(new PendingMessage(payload, System.nanoTime()), deadline)) {
+                dropped.increment();
+                droppedSinceReport.increment();
+            }
+        }
+    }
+
+    public PublisherStatsDto getStats() {
+        long count = published.sum();
+        return new PublisherStatsDto(queue.size(), count, dropped.sum(), failed.sum(), batches.sum(),
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(latencyNanos.sum() / count),
+                TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get()));
+    }
+
+    // Отправляет то, что уже лежит в очереди, не дожидаясь новых сообщений; возвращает размер пачки
+    int flush() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        send(batch);
+        return batch.size();
+    }
+
+    private boolean enqueue(PendingMessage message, long deadline) {
+        long wait = deadline - System.nanoTime();
+        if (wait <= 0 || Thread.currentThread().isInterrupted()) {
+            return queue.offer(message);
+        }
+        try {
+            return queue.offer(message, wait, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            reportDrops();
+            try {
+                PendingMessage first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = first.enqueuedAt() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || wait <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Принудительная остановка: отправляется только уже собранная пачка
+                Thread.currentThread().interrupt();
+                send(batch);
+                reportDrops();
+                return;
+            }
+            send(batch);
+            batch.clear();
+        }
+        reportDrops();
+    }
+
+    private void reportDrops() {
+        long count = droppedSinceReport.sumThenReset();
+        if (count > 0) {
+            log.warn("Publish queue of {} was full, {} events dropped", channelName(), count);
+        }
+    }
+
+    private void send(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                publishAll(connection, batch);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Failed to publish {} messages to {}", batch.size(), channelName(), e);
+            return;
+        }
+        long now = System.nanoTime();
+        for (PendingMessage message : batch) {
+            long latency = now - message.enqueuedAt();
+            latencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+        }
+        published.add(batch.size());
+        batches.increment();
+    }
+
+    private void publishAll(RedisConnection connection, List<PendingMessage> batch) {
+        for (PendingMessage message : batch) {
+            connection.publish(channel, message.payload());
+        }
+    }
+
+    private String channelName() {
+        return new String(channel, StandardCharsets.UTF_8);
+    }
+
+    private record PendingMessage(byte[] payload, long enqueuedAt) {
+    }
+}
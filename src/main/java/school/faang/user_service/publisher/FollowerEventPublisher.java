@@ -0,0 +1,59 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import school.faang.user_service.dto.FollowerEvent;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// События подписки и отписки в follower_channel, только по зафиксированным транзакциям
+@Component
+public class FollowerEventPublisher extends BatchingRedisPublisher<FollowerEvent> {
+    private final String sourceId = UUID.randomUUID().toString();
+    // Номер занимается и отброшенными событиями, чтобы получатели увидели пропуск
+    private final AtomicLong sequence = new AtomicLong();
+    // Номера выдаются и события кладутся в очередь под одной блокировкой: иначе параллельные коммиты
+    // встают в очередь не по порядку номеров, и получатели принимают перестановку за потерю
+    private final Object sequenceLock = new Object();
+
+    public FollowerEventPublisher(RedisTemplate<String, Object> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  ChannelTopic topicForFollowerEvent,
+                                  @Value("${publishers.follower.queue-capacity}") int queueCapacity,
+                                  @Value("${publishers.follower.batch-size}") int batchSize,
+                                  @Value("${publishers.follower.flush-interval}") Duration flushInterval,
+                                  @Value("${publishers.follower.offer-timeout}") Duration offerTimeout) {
+        super(redisTemplate, objectMapper, topicForFollowerEvent, queueCapacity, batchSize, flushInterval,
+                offerTimeout);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) throws JsonProcessingException {
+        FollowerEvent.Type type = event.followed() ? FollowerEvent.Type.FOLLOW : FollowerEvent.Type.UNFOLLOW;
+        LocalDateTime timestamp = LocalDateTime.now();
+        // Одна пачка на изменение: поток запроса ждет места в очереди не дольше offerTimeout на все события
+        synchronized (sequenceLock) {
+            List<FollowerEvent> events = event.followeeIds().stream()
+                    .map(followeeId -> FollowerEvent.builder()
+                            .followerId(event.followerId())
+                            .followeeId(followeeId)
+                            .type(type)
+                            .timestamp(timestamp)
+                            .sourceId(sourceId)
+                            .sequence(sequence.incrementAndGet())
+                            .build())
+                    .toList();
+            publishAll(events);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.ProfileViewEvent;
+
+import java.time.Duration;
+
+@Component
+public class ProfileViewEventPublisher extends BatchingRedisPublisher<ProfileViewEvent> {
+
+    public ProfileViewEventPublisher(RedisTemplate<String, Object> redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     ChannelTopic topicForProfileViewEvent,
+                                     @Value("${publishers.profile-view.queue-capacity}") int queueCapacity,
+                                     @Value("${publishers.profile-view.batch-size}") int batchSize,
+                                     @Value("${publishers.profile-view.flush-interval}") Duration flushInterval,
+                                     @Value("${publishers.profile-view.offer-timeout}") Duration offerTimeout) {
+        super(redisTemplate, objectMapper, topicForProfileViewEvent, queueCapacity, batchSize, flushInterval,
+                offerTimeout);
+    }
+}
@@ -0,0 +1,22 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.UserCacheInvalidationEvent;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationPublisher implements MessagePublisher<UserCacheInvalidationEvent> {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChannelTopic topicForUserCacheInvalidation;
+    private final ObjectMapper objectMapper;
+
+    public void publish(UserCacheInvalidationEvent event) throws JsonProcessingException {
+        String jsonEvent = objectMapper.writeValueAsString(event);
+        redisTemplate.convertAndSend(topicForUserCacheInvalidation.getTopic(), jsonEvent);
+    }
+}
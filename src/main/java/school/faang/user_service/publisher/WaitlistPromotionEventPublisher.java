@@ -0,0 +1,25 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.WaitlistPromotionEvent;
+
+import java.time.Duration;
+
+@Component
+public class WaitlistPromotionEventPublisher extends BatchingRedisPublisher<WaitlistPromotionEvent> {
+
+    public WaitlistPromotionEventPublisher(RedisTemplate<String, Object> redisTemplate,
+                                           ObjectMapper objectMapper,
+                                           ChannelTopic topicForWaitlistPromotionEvent,
+                                           @Value("${publishers.waitlist-promotion.queue-capacity}") int queueCapacity,
+                                           @Value("${publishers.waitlist-promotion.batch-size}") int batchSize,
+                                           @Value("${publishers.waitlist-promotion.flush-interval}") Duration flushInterval,
+                                           @Value("${publishers.waitlist-promotion.offer-timeout}") Duration offerTimeout) {
+        super(redisTemplate, objectMapper, topicForWaitlistPromotionEvent, queueCapacity, batchSize, flushInterval,
+                offerTimeout);
+    }
+}
@@ -1,9 +1,29 @@
 package school.faang.user_service.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.ContentData;
 
+import java.util.Optional;
+
 @Repository
 public interface ContentDataRepository extends JpaRepository<ContentData, Long> {
+    // Новая строка или +1 ссылка на уже сохраненное содержимое с тем же hash; строка остается заблокированной
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO content_data (content, size, content_type, hash, ref_count)
+            VALUES (:contentOid, :size, :contentType, :hash, 1)
+            ON CONFLICT (hash) DO UPDATE SET ref_count = content_data.ref_count + 1
+            """)
+    void upsertReference(long contentOid, long size, String contentType, String hash);
+
+    Optional<ContentData> findByHash(String hash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ContentData c WHERE c.id = :id")
+    Optional<ContentData> findByIdForUpdate(long id);
 }
@@ -0,0 +1,65 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Потоковое чтение всех ребер subscription (и навыков user_skill) для построения графа подписок в памяти.
+ * Строки читаются курсором по fetch-size штук и сразу отдаются потребителю, без сущностей JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FollowGraphRepository {
+    private static final String SELECT_EDGES = """
+            SELECT follower_id, followee_id
+            FROM subscription
+            """;
+    private static final String COUNT_EDGES = """
+            SELECT count(*) FROM subscription
+            """;
+    private static final String SELECT_USER_SKILLS = """
+            SELECT user_id, skill_id
+            FROM user_skill
+            ORDER BY user_id, skill_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${subscriptions.graph.fetch-size}")
+    private int fetchSize;
+
+    // Курсор PostgreSQL работает только внутри транзакции, иначе драйвер загрузит весь результат сразу
+    @Transactional(readOnly = true)
+    public void forEachEdge(EdgeConsumer consumer) {
+        streamPairs(SELECT_EDGES, consumer);
+    }
+
+    public long countEdges() {
+        Long count = jdbcTemplate.queryForObject(COUNT_EDGES, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    // Пары (user_id, skill_id), отсортированные по пользователю и навыку
+    @Transactional(readOnly = true)
+    public void forEachUserSkill(EdgeConsumer consumer) {
+        streamPairs(SELECT_USER_SKILLS, consumer);
+    }
+
+    private void streamPairs(String sql, EdgeConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getLong(1), rs.getLong(2));
+        });
+    }
+
+    @FunctionalInterface
+    public interface EdgeConsumer {
+        void accept(long followerId, long followeeId);
+    }
+}
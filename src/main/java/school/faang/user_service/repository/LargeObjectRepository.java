@@ -0,0 +1,41 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+/**
+ * Работа с large object PostgreSQL через серверные функции lo_*: содержимое пишется и читается
+ * кусками по смещению, поэтому целиком в памяти приложения объект не держится.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LargeObjectRepository {
+    private static final String CREATE = "SELECT lo_create(0)";
+    private static final String WRITE_CHUNK = "SELECT lo_put(CAST(:oid AS oid), :offset, :chunk)";
+    private static final String READ_CHUNK = "SELECT lo_get(CAST(:oid AS oid), :offset, :length)";
+    private static final String UNLINK = "SELECT lo_unlink(CAST(:oid AS oid))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long create() {
+        return jdbcTemplate.queryForObject(CREATE, Map.of(), Long.class);
+    }
+
+    public void writeChunk(long oid, long offset, byte[] chunk) {
+        jdbcTemplate.query(WRITE_CHUNK, Map.of("oid", oid, "offset", offset, "chunk", chunk), rs -> {
+        });
+    }
+
+    public byte[] readChunk(long oid, long offset, int length) {
+        return jdbcTemplate.queryForObject(READ_CHUNK, Map.of("oid", oid, "offset", offset, "length", length),
+                byte[].class);
+    }
+
+    public void unlink(long oid) {
+        jdbcTemplate.query(UNLINK, Map.of("oid", oid), rs -> {
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.dto.subscription.SubscriptionOutcome;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Подписка и отписка сразу на список пользователей одним запросом. Повтор безопасен:
+ * существующие подписки пропускаются через ON CONFLICT, а результат по каждому id
+ * вычисляется в том же запросе.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionBulkRepository {
+    private static final String FOLLOW = """
+            WITH requested AS (
+                SELECT DISTINCT unnest(CAST(:followeeIds AS bigint[])) AS id
+            ), inserted AS (
+                INSERT INTO subscription (follower_id, followee_id)
+                SELECT :followerId, r.id FROM requested r
+                JOIN users u ON u.id = r.id
+                WHERE r.id <> :followerId
+                ON CONFLICT (follower_id, followee_id) DO NOTHING
+                RETURNING followee_id
+            )
+            SELECT r.id,
+                   CASE WHEN i.followee_id IS NOT NULL THEN 'FOLLOWED'
+                        WHEN r.id = :followerId THEN 'SELF_SUBSCRIPTION'
+                        WHEN u.id IS NULL THEN 'USER_NOT_FOUND'
+                        ELSE 'ALREADY_FOLLOWING' END AS outcome
+            FROM requested r
+            LEFT JOIN inserted i ON i.followee_id = r.id
+            LEFT JOIN users u ON u.id = r.id
+            """;
+    private static final String UNFOLLOW = """
+            WITH requested AS (
+                SELECT DISTINCT unnest(CAST(:followeeIds AS bigint[])) AS id
+            ), deleted AS (
+                DELETE FROM subscription
+                WHERE follower_id = :followerId AND followee_id = ANY(CAST(:followeeIds AS bigint[]))
+                RETURNING followee_id
+            )
+            SELECT r.id,
+                   CASE WHEN d.followee_id IS NOT NULL THEN 'UNFOLLOWED'
+                        WHEN r.id = :followerId THEN 'SELF_SUBSCRIPTION'
+                        ELSE 'NOT_FOLLOWING' END AS outcome
+            FROM requested r
+            LEFT JOIN deleted d ON d.followee_id = r.id
+            """;
+
+    private static final String SELECT_FOLLOWED = """
+            SELECT followee_id FROM subscription
+            WHERE follower_id = :followerId AND followee_id = ANY(CAST(:followeeIds AS bigint[]))
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Map<Long, SubscriptionOutcome> followAll(long followerId, Collection<Long> followeeIds) {
+        return execute(FOLLOW, followerId, followeeIds);
+    }
+
+    public Map<Long, SubscriptionOutcome> unfollowAll(long followerId, Collection<Long> followeeIds) {
+        return execute(UNFOLLOW, followerId, followeeIds);
+    }
+
+    // Те из followeeIds, на кого followerId подписан, одним запросом
+    public Set<Long> findFollowedAmong(long followerId, Collection<Long> followeeIds) {
+        Set<Long> followed = new HashSet<>();
+        jdbcTemplate.query(SELECT_FOLLOWED,
+                Map.of("followerId", followerId, "followeeIds", followeeIds.toArray(Long[]::new)),
+                rs -> {
+                    followed.add(rs.getLong("followee_id"));
+                });
+        return followed;
+    }
+
+    private Map<Long, SubscriptionOutcome> execute(String sql, long followerId, Collection<Long> followeeIds) {
+        Map<Long, SubscriptionOutcome> outcomes = new HashMap<>(followeeIds.size());
+        jdbcTemplate.query(sql, Map.of("followerId", followerId, "followeeIds", followeeIds.toArray(Long[]::new)),
+                rs -> {
+                    outcomes.put(rs.getLong("id"), SubscriptionOutcome.valueOf(rs.getString("outcome")));
+                });
+        return outcomes;
+    }
+}
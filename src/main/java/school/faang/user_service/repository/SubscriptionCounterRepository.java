@@ -0,0 +1,158 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Материализованные счетчики подписчиков и подписок из таблицы user_follow_counts.
+ * Изменения вызываются в транзакции, которая меняет subscription, поэтому счетчик и подписка
+ * фиксируются атомарно; расхождения после сбоев исправляет периодическая сверка. Сверка блокирует
+ * строки своего диапазона, поэтому не теряет приращения подписок, закоммиченных во время ее работы.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionCounterRepository {
+    // Дельты сворачиваются по user_id, иначе ON CONFLICT задел бы одну строку дважды.
+    // Строки блокируются по возрастанию user_id: параллельные пересекающиеся вызовы не встают в deadlock
+    private static final String APPLY_DELTA = """
+            INSERT INTO user_follow_counts (user_id, followers_count, followees_count)
+            SELECT d.user_id, sum(d.followers_count), sum(d.followees_count)
+            FROM (
+                SELECT unnest(CAST(:followeeIds AS bigint[])) AS user_id,
+                       CAST(:sign AS int) AS followers_count, 0 AS followees_count
+                UNION ALL
+                SELECT CAST(:followerId AS bigint), 0, CAST(:sign AS int) * CAST(:count AS int)
+            ) AS d
+            GROUP BY d.user_id
+            ORDER BY d.user_id
+            ON CONFLICT (user_id) DO UPDATE
+            SET followers_count = user_follow_counts.followers_count + EXCLUDED.followers_count,
+                followees_count = user_follow_counts.followees_count + EXCLUDED.followees_count
+            """;
+    private static final String SELECT_FOLLOWERS = """
+            SELECT coalesce((SELECT followers_count FROM user_follow_counts WHERE user_id = :userId), 0)
+            """;
+    private static final String SELECT_FOLLOWEES = """
+            SELECT coalesce((SELECT followees_count FROM user_follow_counts WHERE user_id = :userId), 0)
+            """;
+    // Блокирует строки счетчиков диапазона до конца транзакции сверки, по возрастанию user_id, как APPLY_DELTA.
+    // Пользователям с подписками, но без строки, создается строка-заглушка: иначе параллельный applyDelta
+    // вставил бы ее сам, и сверка затерла бы его приращение абсолютным значением
+    private static final String LOCK_RANGE = """
+            INSERT INTO user_follow_counts (user_id, followers_count, followees_count)
+            SELECT ids.user_id, 0, 0
+            FROM (
+                SELECT followee_id AS user_id FROM subscription WHERE followee_id BETWEEN :fromId AND :toId
+                UNION
+                SELECT follower_id FROM subscription WHERE follower_id BETWEEN :fromId AND :toId
+                UNION
+                SELECT user_id FROM user_follow_counts WHERE user_id BETWEEN :fromId AND :toId
+            ) AS ids
+            ORDER BY ids.user_id
+            ON CONFLICT (user_id) DO UPDATE SET followers_count = user_follow_counts.followers_count
+            """;
+    // Пересчет диапазона пользователей по subscription; записываются только расходящиеся строки.
+    // Выполняется после LOCK_RANGE отдельным запросом, поэтому видит все подписки, закоммиченные до блокировки,
+    // а подписки, чьи транзакции ждут блокировки, добавят свои приращения уже поверх исправленного значения
+    private static final String RECONCILE_RANGE = """
+            WITH actual AS (
+                SELECT user_id, sum(followers_count) AS followers_count, sum(followees_count) AS followees_count
+                FROM (
+                    SELECT followee_id AS user_id, count(*) AS followers_count, 0 AS followees_count
+                    FROM subscription WHERE followee_id BETWEEN :fromId AND :toId GROUP BY followee_id
+                    UNION ALL
+                    SELECT follower_id, 0, count(*)
+                    FROM subscription WHERE follower_id BETWEEN :fromId AND :toId GROUP BY follower_id
+                ) AS counts
+                GROUP BY user_id
+            ), stored AS (
+                SELECT user_id, followers_count, followees_count
+                FROM user_follow_counts WHERE user_id BETWEEN :fromId AND :toId
+            ), drift AS (
+                SELECT coalesce(a.user_id, s.user_id) AS user_id,
+                       coalesce(a.followers_count, 0) AS followers_count,
+                       coalesce(a.followees_count, 0) AS followees_count
+                FROM actual a FULL JOIN stored s ON s.user_id = a.user_id
+                WHERE coalesce(a.followers_count, 0) <> coalesce(s.followers_count, -1)
+                   OR coalesce(a.followees_count, 0) <> coalesce(s.followees_count, -1)
+            )
+            INSERT INTO user_follow_counts (user_id, followers_count, followees_count)
+            SELECT user_id, followers_count, followees_count FROM drift
+            ORDER BY user_id
+            ON CONFLICT (user_id) DO UPDATE
+            SET followers_count = EXCLUDED.followers_count, followees_count = EXCLUDED.followees_count
+            """;
+
+    // Ключ advisory-блокировки, под которой сверка идет только на одном узле
+    private static final long RECONCILE_LOCK_KEY = 7_316_201_300L;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // sign = 1 для добавленных подписок followerId на followeeIds, sign = -1 для удаленных
+    public void applyDelta(long followerId, Collection<Long> followeeIds, int sign) {
+        if (followeeIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(APPLY_DELTA, Map.of(
+                "followerId", followerId,
+                "followeeIds", followeeIds.toArray(Long[]::new),
+                "sign", sign,
+                "count", followeeIds.size()));
+    }
+
+    public int getFollowersCount(long userId) {
+        return jdbcTemplate.queryForObject(SELECT_FOLLOWERS, Map.of("userId", userId), Integer.class);
+    }
+
+    public int getFolloweesCount(long userId) {
+        return jdbcTemplate.queryForObject(SELECT_FOLLOWEES, Map.of("userId", userId), Integer.class);
+    }
+
+    public Long findMaxUserId() {
+        return jdbcTemplate.queryForObject("SELECT max(id) FROM users", Map.of(), Long.class);
+    }
+
+    // Возвращает число исправленных строк
+    @Transactional
+    public int reconcileRange(long fromId, long toId) {
+        Map<String, Long> range = Map.of("fromId", fromId, "toId", toId);
+        jdbcTemplate.update(LOCK_RANGE, range);
+        return jdbcTemplate.update(RECONCILE_RANGE, range);
+    }
+
+    // Выполняет задачу, если сверка не идет на другом узле; иначе возвращает пустой результат.
+    // Сессионная блокировка держится на отдельном соединении, а диапазоны сверяются своими короткими транзакциями
+    public <T> Optional<T> withReconcileLock(Supplier<T> task) {
+        return Optional.ofNullable(jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<T>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                return null;
+            }
+            try {
+                return task.get();
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        }));
+    }
+
+    private boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, RECONCILE_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.dto.filter.SubscriptionFilterDto;
+import school.faang.user_service.dto.subscription.SubscriptionCursor;
+import school.faang.user_service.dto.subscription.SubscriptionDto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Страница подписчиков или подписок пользователя в порядке (created_at, id) подписки.
+ * Фильтры по подстроке выполняются в SQL, из базы читается не больше limit строк.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionPageRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public enum Direction {
+        // Пользователи, подписанные на userId
+        FOLLOWERS("follower_id", "followee_id"),
+        // Пользователи, на которых подписан userId
+        FOLLOWING("followee_id", "follower_id");
+
+        private final String userColumn;
+        private final String ownerColumn;
+
+        Direction(String userColumn, String ownerColumn) {
+            this.userColumn = userColumn;
+            this.ownerColumn = ownerColumn;
+        }
+    }
+
+    public record Row(SubscriptionDto user, SubscriptionCursor position) {
+    }
+
+    public List<Row> findPage(Direction direction, long userId, SubscriptionFilterDto filter,
+                              SubscriptionCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT u.id, u.username, u.email, s.created_at, s.id AS subscription_id
+                FROM subscription s
+                JOIN users u ON u.id = s.%s
+                WHERE s.%s = :userId
+                """.formatted(direction.userColumn, direction.ownerColumn));
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+                .addValue("limit", limit);
+
+        // strpos повторяет семантику String.contains: подстрока с учетом регистра, без спецсимволов LIKE
+        if (filter != null) {
+            appendContains(sql, params, "username", filter.getNamePattern());
+            appendContains(sql, params, "email", filter.getEmailPattern());
+            appendContains(sql, params, "city", filter.getCityPattern());
+            appendContains(sql, params, "phone", filter.getPhonePattern());
+        }
+        if (after != null) {
+            sql.append("AND (s.created_at, s.id) > (:afterCreatedAt, :afterId)\n");
+            params.addValue("afterCreatedAt", after.createdAt())
+                    .addValue("afterId", after.subscriptionId());
+        }
+        sql.append("ORDER BY s.created_at, s.id\nLIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+            SubscriptionDto user = new SubscriptionDto();
+            user.setId(rs.getLong("id"));
+            user.setUsername(rs.getString("username"));
+            user.setEmail(rs.getString("email"));
+            return new Row(user, new SubscriptionCursor(
+                    rs.getObject("created_at", OffsetDateTime.class), rs.getLong("subscription_id")));
+        });
+    }
+
+    private void appendContains(StringBuilder sql, MapSqlParameterSource params, String column, String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return;
+        }
+        sql.append("AND strpos(u.").append(column).append(", :").append(column).append(") > 0\n");
+        params.addValue(column, pattern);
+    }
+}
@@ -0,0 +1,17 @@
+package school.faang.user_service.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.User;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface UserCriteriaRepository {
+
+    // Только id пользователей по возрастанию, без загрузки сущностей и без count-запроса
+    List<Long> findIdsOrderById(Specification<User> specification, Pageable pageable);
+
+    // Курсор по id пользователей в порядке возрастания
+    Stream<Long> streamIdsOrderById(Specification<User> specification, int fetchSize);
+}
@@ -0,0 +1,113 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based деактивация пользователей: каждый шаг - один SQL-запрос сразу для всей пачки id.
+ * Методы не открывают транзакцию сами, их вызывают внутри транзакции сервиса.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserDeactivationRepository {
+    // Цели, у которых все участники входят в деактивируемую пачку
+    private static final String SELECT_SOLO_GOAL_IDS = """
+            SELECT ug.goal_id FROM user_goal ug
+            WHERE ug.user_id IN (:ids)
+            GROUP BY ug.goal_id
+            HAVING NOT EXISTS (
+                SELECT 1 FROM user_goal other
+                WHERE other.goal_id = ug.goal_id AND other.user_id NOT IN (:ids))
+            """;
+    private static final String DETACH_SUBGOALS = """
+            UPDATE goal SET parent_goal_id = NULL
+            WHERE parent_goal_id IN (:goalIds) AND id NOT IN (:goalIds)
+            """;
+    // Внешние ключи без ON DELETE проверяются в конце запроса, поэтому дочерние строки
+    // и сами цели удаляются одним запросом; возвращаются участники удаленных целей
+    private static final String DELETE_GOALS = """
+            WITH deleted_skills AS (
+                DELETE FROM goal_skill WHERE goal_id IN (:goalIds)
+            ), deleted_invitations AS (
+                DELETE FROM goal_invitation WHERE goal_id IN (:goalIds)
+            ), deleted_links AS (
+                DELETE FROM user_goal WHERE goal_id IN (:goalIds)
+                RETURNING user_id
+            ), deleted_goals AS (
+                DELETE FROM goal WHERE id IN (:goalIds)
+            )
+            SELECT DISTINCT user_id FROM deleted_links
+            """;
+    // Возвращаются участники удаленных событий: события входят в их профили
+    private static final String DELETE_OWNED_EVENTS = """
+            WITH owned AS (
+                SELECT id FROM event WHERE user_id IN (:ids)
+            ), deleted_participants AS (
+                DELETE FROM user_event WHERE event_id IN (SELECT id FROM owned)
+                RETURNING user_id
+            ), deleted_waitlist AS (
+                DELETE FROM event_waitlist WHERE event_id IN (SELECT id FROM owned)
+            ), deleted_ratings AS (
+                DELETE FROM rating WHERE event_id IN (SELECT id FROM owned)
+            ), deleted_events AS (
+                DELETE FROM event WHERE id IN (SELECT id FROM owned)
+            )
+            SELECT DISTINCT user_id FROM deleted_participants
+            """;
+    // Деактивированный пользователь не должен быть переведен из очереди в участники
+    private static final String DELETE_WAITLIST_ENTRIES = "DELETE FROM event_waitlist WHERE user_id IN (:ids)";
+    // Возвращаются менти: ментор входит в их профиль
+    private static final String DELETE_MENTORSHIPS = """
+            DELETE FROM mentorship WHERE mentor_id IN (:ids)
+            RETURNING mentee_id
+            """;
+    private static final String DEACTIVATE_USERS = """
+            UPDATE users SET active = false, updated_at = current_timestamp
+            WHERE id IN (:ids) AND active
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Строки пользователей блокируются до конца транзакции, чтобы параллельная деактивация ждала
+    public Map<Long, Boolean> findActiveFlags(Collection<Long> ids) {
+        Map<Long, Boolean> flags = new HashMap<>(ids.size());
+        jdbcTemplate.query("SELECT id, active FROM users WHERE id IN (:ids) FOR UPDATE", Map.of("ids", ids),
+                rs -> {
+                    flags.put(rs.getLong("id"), rs.getBoolean("active"));
+                });
+        return flags;
+    }
+
+    // Возвращает участников удаленных целей
+    public List<Long> deleteSoloGoals(Collection<Long> ids) {
+        List<Long> goalIds = jdbcTemplate.queryForList(SELECT_SOLO_GOAL_IDS, Map.of("ids", ids), Long.class);
+        if (goalIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Object> params = Map.of("goalIds", goalIds);
+        jdbcTemplate.update(DETACH_SUBGOALS, params);
+        return jdbcTemplate.queryForList(DELETE_GOALS, params, Long.class);
+    }
+
+    public List<Long> deleteOwnedEvents(Collection<Long> ids) {
+        return jdbcTemplate.queryForList(DELETE_OWNED_EVENTS, Map.of("ids", ids), Long.class);
+    }
+
+    public int deleteWaitlistEntries(Collection<Long> ids) {
+        return jdbcTemplate.update(DELETE_WAITLIST_ENTRIES, Map.of("ids", ids));
+    }
+
+    public List<Long> deleteMentorships(Collection<Long> ids) {
+        return jdbcTemplate.queryForList(DELETE_MENTORSHIPS, Map.of("ids", ids), Long.class);
+    }
+
+    public int deactivateUsers(Collection<Long> ids) {
+        return jdbcTemplate.update(DEACTIVATE_USERS, Map.of("ids", ids));
+    }
+}
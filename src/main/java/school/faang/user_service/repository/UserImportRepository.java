@@ -0,0 +1,87 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.entity.User;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Пакетная загрузка импортируемых пользователей: вся пачка уходит одним INSERT ... SELECT FROM unnest(...),
+ * конфликты по уникальным username, email и phone пропускаются без ошибки.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserImportRepository {
+    private static final String INSERT_COUNTRIES = """
+            INSERT INTO country (title)
+            SELECT unnest(CAST(:titles AS varchar[]))
+            ON CONFLICT (title) DO NOTHING
+            """;
+    private static final String INSERT_USERS = """
+            INSERT INTO users (username, password, email, phone, about_me, active, city, country_id)
+            SELECT r.username, r.password, r.email, r.phone, r.about_me, true, r.city, r.country_id
+            FROM unnest(CAST(:usernames AS varchar[]), CAST(:passwords AS varchar[]), CAST(:emails AS varchar[]),
+                        CAST(:phones AS varchar[]), CAST(:aboutMes AS varchar[]), CAST(:cities AS varchar[]),
+                        CAST(:countryIds AS bigint[]))
+                AS r(username, password, email, phone, about_me, city, country_id)
+            ON CONFLICT DO NOTHING
+            RETURNING username
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Недостающие страны создаются, для всех переданных названий возвращаются id
+    public Map<String, Long> resolveCountryIds(Collection<String> titles) {
+        Map<String, Long> ids = new HashMap<>(titles.size());
+        if (titles.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.update(INSERT_COUNTRIES, Map.of("titles", titles.toArray(String[]::new)));
+        jdbcTemplate.query("SELECT id, title FROM country WHERE title IN (:titles)", Map.of("titles", titles),
+                rs -> {
+                    ids.put(rs.getString("title"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    // country у пользователей должна содержать id; возвращает username реально вставленных строк
+    public Set<String> insertIgnoringConflicts(List<User> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        int size = users.size();
+        String[] usernames = new String[size];
+        String[] passwords = new String[size];
+        String[] emails = new String[size];
+        String[] phones = new String[size];
+        String[] aboutMes = new String[size];
+        String[] cities = new String[size];
+        Long[] countryIds = new Long[size];
+        for (int i = 0; i < size; i++) {
+            User user = users.get(i);
+            usernames[i] = user.getUsername();
+            passwords[i] = user.getPassword();
+            emails[i] = user.getEmail();
+            phones[i] = user.getPhone();
+            aboutMes[i] = user.getAboutMe();
+            cities[i] = user.getCity();
+            countryIds[i] = user.getCountry().getId();
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("usernames", usernames);
+        params.put("passwords", passwords);
+        params.put("emails", emails);
+        params.put("phones", phones);
+        params.put("aboutMes", aboutMes);
+        params.put("cities", cities);
+        params.put("countryIds", countryIds);
+        return new HashSet<>(jdbcTemplate.queryForList(INSERT_USERS, params, String.class));
+    }
+}
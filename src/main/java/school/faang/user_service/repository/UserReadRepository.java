@@ -0,0 +1,90 @@
+package school.faang.user_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.dto.UserDto;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-модель пользователя: {@link UserDto} собирается одним SQL-запросом,
+ * списки id связанных сущностей агрегируются в массивы на стороне БД.
+ * Сущности {@code User} при этом не загружаются, поэтому ленивых догрузок коллекций нет.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserReadRepository {
+    private static final String SELECT_USER_DTO = """
+            SELECT u.id, u.username, u.email, u.phone, u.password, u.active, u.about_me,
+                   u.country_id, u.city, u.experience, u.created_at, u.updated_at,
+                   ARRAY(SELECT e.id FROM event e WHERE e.user_id = u.id ORDER BY e.id) AS owned_events_ids,
+                   ARRAY(SELECT m.mentee_id FROM mentorship m WHERE m.mentor_id = u.id ORDER BY m.mentee_id) AS mentees_ids,
+                   ARRAY(SELECT m.mentor_id FROM mentorship m WHERE m.mentee_id = u.id ORDER BY m.mentor_id) AS mentors_ids,
+                   ARRAY(SELECT g.id FROM goal g WHERE g.mentor_id = u.id ORDER BY g.id) AS set_goals_ids,
+                   ARRAY(SELECT ug.goal_id FROM user_goal ug WHERE ug.user_id = u.id ORDER BY ug.goal_id) AS goals_ids
+            FROM users u
+            """;
+    private static final RowMapper<UserDto> USER_DTO_ROW_MAPPER = UserReadRepository::mapRow;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<UserDto> findById(long id) {
+        return findAllByIds(List.of(id)).stream().findFirst();
+    }
+
+    // Порядок результата не гарантируется, недостающие id просто отсутствуют в ответе
+    public List<UserDto> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_USER_DTO + "WHERE u.id IN (:ids)",
+                Map.of("ids", ids), USER_DTO_ROW_MAPPER);
+    }
+
+    private static UserDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        UserDto dto = new UserDto();
+        dto.setId(rs.getLong("id"));
+        dto.setUsername(rs.getString("username"));
+        dto.setEmail(rs.getString("email"));
+        dto.setPhone(rs.getString("phone"));
+        dto.setPassword(rs.getString("password"));
+        dto.setActive(rs.getBoolean("active"));
+        dto.setAboutMe(rs.getString("about_me"));
+        dto.setCountryId(rs.getLong("country_id"));
+        dto.setCity(rs.getString("city"));
+        dto.setExperience(rs.getObject("experience", Integer.class));
+        dto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        dto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        dto.setOwnedEventsIds(toIds(rs.getArray("owned_events_ids")));
+        dto.setMenteesIds(toIds(rs.getArray("mentees_ids")));
+        dto.setMentorsIds(toIds(rs.getArray("mentors_ids")));
+        dto.setSetGoalsIds(toIds(rs.getArray("set_goals_ids")));
+        dto.setGoalsIds(toIds(rs.getArray("goals_ids")));
+        return dto;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static List<Long> toIds(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return List.of((Long[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+}
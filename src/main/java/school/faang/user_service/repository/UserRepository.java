@@ -1,8 +1,16 @@
 package school.faang.user_service.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.exception.NotFoundException;
 
@@ -10,9 +18,12 @@ import java.util.List;
 import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+        UserCriteriaRepository {
 // Репозиторий UserRepository расширяет JpaRepository, что автоматически предоставляет
 // методы для работы с базой данных, такие как сохранение, обновление, удаление и поиск сущностей.
+    String STREAM_FETCH_SIZE = "500";
+
     @Query(nativeQuery = true, value = """
             SELECT COUNT(s.id) FROM users u
             JOIN user_skill us ON us.user_id = u.id
@@ -25,9 +36,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
             SELECT u.* FROM users u
             JOIN user_premium up ON up.user_id = u.id
             WHERE up.end_date > NOW()
+            ORDER BY u.id
             """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     Stream<User> findPremiumUsers();
 
+    // Поиск подстроки без учета регистра; LIKE обслуживается trigram-индексами из user_V009,
+    // similarity() считается только для найденных строк. Возвращаются только id: профили собирает UserReadRepository
+    @Query(nativeQuery = true, value = """
+            SELECT u.id FROM users u
+            WHERE lower(u.username) LIKE :pattern ESCAPE '\\'
+               OR lower(u.email) LIKE :pattern ESCAPE '\\'
+               OR lower(u.city) LIKE :pattern ESCAPE '\\'
+               OR u.phone LIKE :pattern ESCAPE '\\'
+            ORDER BY greatest(
+                    similarity(lower(u.username), :query),
+                    similarity(lower(u.email), :query),
+                    similarity(lower(coalesce(u.city, '')), :query),
+                    similarity(coalesce(u.phone, ''), :query)) DESC, u.id
+            """,
+            countQuery = """
+            SELECT count(*) FROM users u
+            WHERE lower(u.username) LIKE :pattern ESCAPE '\\'
+               OR lower(u.email) LIKE :pattern ESCAPE '\\'
+               OR lower(u.city) LIKE :pattern ESCAPE '\\'
+               OR u.phone LIKE :pattern ESCAPE '\\'
+            """)
+    Page<Long> searchIdsBySubstring(String query, String pattern, Pageable pageable);
+
+    // Миниатюра привязывается, только если у пользователя все еще тот же исходный аватар
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE users SET profile_pic_small_file_id = :smallFileId
+            WHERE id = :userId AND profile_pic_file_id = :fileId
+            """)
+    int setProfilePicSmallFileId(long userId, String fileId, String smallFileId);
+
     default User getById(long userId) {
         return findById(userId).orElseThrow(() -> new NotFoundException("Skill by id " + userId + " not found"));
     }
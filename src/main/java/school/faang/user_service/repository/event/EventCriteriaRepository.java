@@ -0,0 +1,13 @@
+package school.faang.user_service.repository.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.event.Event;
+
+import java.util.List;
+
+public interface EventCriteriaRepository {
+
+    // Одна страница событий с сортировкой pageable, без count-запроса
+    List<Event> findAllWithoutCount(Specification<Event> specification, Pageable pageable);
+}
@@ -7,28 +7,51 @@ import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.User;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventParticipationRepository extends CrudRepository<User, Long> {
 
+    // Повторная регистрация отсекается уникальным индексом (event_id, user_id); 0 - уже зарегистрирован
     @Modifying
-    @Query(nativeQuery = true, value = "INSERT INTO user_event (event_id, user_id) VALUES (:eventId, :userId")
-    void register(long eventId, long userId);
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_event (event_id, user_id) VALUES (:eventId, :userId)
+            ON CONFLICT (event_id, user_id) DO NOTHING
+            """)
+    int register(long eventId, long userId);
 
     @Modifying
     @Query(nativeQuery = true, value = "DELETE FROM user_event WHERE event_id = :eventId and user_id = :userId")
-    void unregister(long eventId, long userId);
+    int unregister(long eventId, long userId);
 
     @Query(nativeQuery = true, value = """
-            SELECT u.* FROM user u
-            JOIN user_event ue ON u.id = ue.user_id
-            WHERE ue.event_id = :eventId
+            SELECT EXISTS (SELECT 1 FROM user_event WHERE event_id = :eventId AND user_id = :userId)
             """)
-    List<User> findAllParticipantsByEventId(long eventId);
+    boolean isRegistered(long eventId, long userId);
+
+    // Занимает место, если оно есть: строка события блокируется до конца транзакции, и параллельные
+    // регистрации на то же событие перепроверяют условие по уже обновленному счетчику
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE event SET attendees_count = attendees_count + 1
+            WHERE id = :eventId AND (max_attendees IS NULL OR attendees_count < max_attendees)
+            """)
+    int reserveSeat(long eventId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE event SET attendees_count = attendees_count - 1
+            WHERE id = :eventId AND attendees_count > 0
+            """)
+    int releaseSeat(long eventId);
 
     @Query(nativeQuery = true, value = """
-            SELECT COUNT(ue.id) FROM user_event ue
+            SELECT u.* FROM users u
+            JOIN user_event ue ON u.id = ue.user_id
             WHERE ue.event_id = :eventId
             """)
-    int countParticipants(long eventId);
-}
\ No newline at end of file
+    List<User> findAllParticipantsByEventId(long eventId);
+
+    @Query(nativeQuery = true, value = "SELECT attendees_count FROM event WHERE id = :eventId")
+    Optional<Integer> countParticipants(long eventId);
+}
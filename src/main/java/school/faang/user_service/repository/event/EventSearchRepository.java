@@ -0,0 +1,56 @@
+package school.faang.user_service.repository.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Полнотекстовый поиск событий по колонке search_vector (GIN-индекс из user_V018).
+ * Сначала по индексу выбирается страница, отсортированная по релевантности, и только
+ * для ее строк строится подсветка: ts_headline заново разбирает текст и стоит дорого.
+ * Совпадения отмечаются управляющими символами, а не HTML-тегами (формат описан в
+ * {@link school.faang.user_service.dto.event.EventSearchResultDto}):
+ * текст события пользовательский и не экранируется, поэтому теги в нем неотличимы от подсветки.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSearchRepository {
+    private static final String SEARCH = """
+            WITH query AS (
+                SELECT websearch_to_tsquery('simple', :query) AS q
+            ), page AS (
+                SELECT e.id, e.title, e.description, ts_rank_cd(e.search_vector, query.q) AS rank
+                FROM event e, query
+                WHERE e.search_vector @@ query.q
+                ORDER BY rank DESC, e.id
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT page.id, page.rank,
+                   ts_headline('simple', translate(page.title, chr(2) || chr(3), ''), query.q,
+                               'HighlightAll=true, ' || markers.options) AS title_highlight,
+                   ts_headline('simple', translate(coalesce(page.description, ''), chr(2) || chr(3), ''), query.q,
+                               'MaxFragments=2, MaxWords=30, MinWords=10, ' || markers.options)
+                       AS description_highlight
+            FROM page, query,
+                 (SELECT 'StartSel="' || chr(2) || '", StopSel="' || chr(3) || '"' AS options) AS markers
+            ORDER BY page.rank DESC, page.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Match> search(String query, int limit, long offset) {
+        return jdbcTemplate.query(SEARCH, Map.of("query", query, "limit", limit, "offset", offset),
+                (rs, rowNum) -> new Match(
+                        rs.getLong("id"),
+                        rs.getDouble("rank"),
+                        rs.getString("title_highlight"),
+                        rs.getString("description_highlight")));
+    }
+
+    // Совпавшие слова в подсветке обернуты в HIGHLIGHT_START и HIGHLIGHT_END из EventSearchResultDto
+    public record Match(long eventId, double rank, String titleHighlight, String descriptionHighlight) {
+    }
+}
@@ -0,0 +1,81 @@
+package school.faang.user_service.repository.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Очередь ожидания на событие. Методы не открывают транзакцию сами: продвижение очереди
+ * вызывается внутри транзакции сервиса вместе с занятием места.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventWaitlistRepository {
+    private static final String ENQUEUE = """
+            INSERT INTO event_waitlist (event_id, user_id) VALUES (:eventId, :userId)
+            ON CONFLICT (event_id, user_id) DO NOTHING
+            """;
+    private static final String REMOVE = "DELETE FROM event_waitlist WHERE event_id = :eventId AND user_id = :userId";
+    // Место в очереди с единицы; 0 - пользователя в очереди нет
+    private static final String POSITION = """
+            SELECT count(*) FROM event_waitlist w
+            WHERE w.event_id = :eventId
+              AND w.id <= (SELECT id FROM event_waitlist WHERE event_id = :eventId AND user_id = :userId)
+            """;
+    // Есть ли в очереди кто-то впереди пользователя; если самого пользователя в очереди нет - любой ожидающий
+    private static final String HAS_WAITING_AHEAD = """
+            SELECT EXISTS (
+                SELECT 1 FROM event_waitlist w
+                WHERE w.event_id = :eventId AND w.user_id <> :userId
+                  AND w.id < COALESCE(
+                      (SELECT id FROM event_waitlist WHERE event_id = :eventId AND user_id = :userId),
+                      9223372036854775807)
+            )
+            """;
+    // Голова очереди блокируется и удаляется одним запросом
+    private static final String POLL_NEXT = """
+            DELETE FROM event_waitlist
+            WHERE id = (SELECT id FROM event_waitlist WHERE event_id = :eventId ORDER BY id LIMIT 1 FOR UPDATE)
+            RETURNING user_id
+            """;
+    private static final String SELECT_PROMOTABLE_EVENTS = """
+            SELECT DISTINCT w.event_id FROM event_waitlist w
+            JOIN event e ON e.id = w.event_id
+            WHERE e.max_attendees IS NULL OR e.attendees_count < e.max_attendees
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 0 - пользователь уже в очереди
+    public int enqueue(long eventId, long userId) {
+        return jdbcTemplate.update(ENQUEUE, Map.of("eventId", eventId, "userId", userId));
+    }
+
+    public int remove(long eventId, long userId) {
+        return jdbcTemplate.update(REMOVE, Map.of("eventId", eventId, "userId", userId));
+    }
+
+    public Optional<Integer> findPosition(long eventId, long userId) {
+        Integer position = jdbcTemplate.queryForObject(POSITION, Map.of("eventId", eventId, "userId", userId),
+                Integer.class);
+        return position == null || position == 0 ? Optional.empty() : Optional.of(position);
+    }
+
+    public boolean hasWaitingAhead(long eventId, long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_WAITING_AHEAD,
+                Map.of("eventId", eventId, "userId", userId), Boolean.class));
+    }
+
+    public Optional<Long> pollNext(long eventId) {
+        return jdbcTemplate.queryForList(POLL_NEXT, Map.of("eventId", eventId), Long.class).stream().findFirst();
+    }
+
+    // События с очередью и свободными местами - им нужно продвижение
+    public List<Long> findPromotableEventIds() {
+        return jdbcTemplate.queryForList(SELECT_PROMOTABLE_EVENTS, Map.of(), Long.class);
+    }
+}
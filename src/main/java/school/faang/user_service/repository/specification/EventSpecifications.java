@@ -0,0 +1,124 @@
+package school.faang.user_service.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.Skill;
+import school.faang.user_service.entity.event.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static school.faang.user_service.repository.specification.UserSpecifications.LIKE_ESCAPE;
+import static school.faang.user_service.repository.specification.UserSpecifications.escapeLike;
+
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> containsIgnoreCase(String attribute, String value) {
+        String pattern = "%" + escapeLike(value.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<Event> after(String attribute, LocalDateTime value) {
+        return (root, query, cb) -> cb.greaterThan(root.get(attribute), value);
+    }
+
+    public static Specification<Event> before(String attribute, LocalDateTime value) {
+        return (root, query, cb) -> cb.lessThan(root.get(attribute), value);
+    }
+
+    public static Specification<Event> isNull(String attribute) {
+        return (root, query, cb) -> cb.isNull(root.get(attribute));
+    }
+
+    public static Specification<Event> atLeast(String attribute, int value) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), value);
+    }
+
+    public static Specification<Event> atMost(String attribute, int value) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), value);
+    }
+
+    // Регистр учитывается, как и в фильтре по владельцу в памяти
+    public static Specification<Event> ownerUsernameContains(String value) {
+        String pattern = "%" + escapeLike(value) + "%";
+        return (root, query, cb) -> cb.like(root.join("owner").get("username"), pattern, LIKE_ESCAPE);
+    }
+
+    // Интервальные условия считаются функциями event_range_* из user_V017 по GiST-индексу;
+    // null в границе окна означает бесконечность
+    public static Specification<Event> overlaps(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> cb.isTrue(cb.function("event_range_overlaps", Boolean.class,
+                root.get("startDate"), root.get("endDate"), bound(cb, from), bound(cb, to)));
+    }
+
+    public static Specification<Event> contains(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> cb.isTrue(cb.function("event_range_contains", Boolean.class,
+                root.get("startDate"), root.get("endDate"), bound(cb, from), bound(cb, to)));
+    }
+
+    public static Specification<Event> endsBefore(LocalDateTime point) {
+        return (root, query, cb) -> cb.isTrue(cb.function("event_range_before", Boolean.class,
+                root.get("startDate"), root.get("endDate"), cb.literal(point)));
+    }
+
+    public static Specification<Event> startsAfter(LocalDateTime point) {
+        return (root, query, cb) -> cb.isTrue(cb.function("event_range_after", Boolean.class,
+                root.get("startDate"), root.get("endDate"), cb.literal(point)));
+    }
+
+    private static Expression<LocalDateTime> bound(CriteriaBuilder cb, LocalDateTime value) {
+        return value != null ? cb.literal(value) : cb.nullLiteral(LocalDateTime.class);
+    }
+
+    // Keyset-условие: события строго после курсора (value, id) при сортировке по attribute и id в направлении direction.
+    // PostgreSQL ставит NULL последними при ASC и первыми при DESC
+    public static <T extends Comparable<? super T>> Specification<Event> afterKey(String attribute,
+                                                                                Sort.Direction direction,
+                                                                                T value, long id) {
+        return (root, query, cb) -> {
+            Path<T> field = root.get(attribute);
+            Path<Long> eventId = root.get("id");
+            boolean ascending = direction.isAscending();
+            Predicate idAfter = ascending ? cb.greaterThan(eventId, id) : cb.lessThan(eventId, id);
+            if (value == null) {
+                Predicate sameNull = cb.and(cb.isNull(field), idAfter);
+                return ascending ? sameNull : cb.or(cb.isNotNull(field), sameNull);
+            }
+            Predicate valueAfter = ascending ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+            Predicate after = cb.or(valueAfter, cb.and(cb.equal(field, value), idAfter));
+            return ascending ? cb.or(after, cb.isNull(field)) : after;
+        };
+    }
+
+    // Хотя бы один навык события подходит под один из шаблонов
+    public static Specification<Event> hasAnySkillLike(List<String> titles) {
+        return (root, query, cb) -> cb.exists(skillSubquery(root, query.subquery(Long.class), cb, titles, true));
+    }
+
+    // Каждый навык события подходит хотя бы под один из шаблонов
+    public static Specification<Event> hasOnlySkillsLike(List<String> titles) {
+        return (root, query, cb) -> cb.not(cb.exists(skillSubquery(root, query.subquery(Long.class), cb, titles, false)));
+    }
+
+    private static Subquery<Long> skillSubquery(Root<Event> root, Subquery<Long> subquery, CriteriaBuilder cb,
+                                                List<String> titles, boolean matching) {
+        Root<Event> event = subquery.from(Event.class);
+        Join<Event, Skill> skill = event.join("relatedSkills");
+        Expression<String> title = cb.lower(skill.get("title"));
+        Predicate anyTitle = cb.or(titles.stream()
+                .map(value -> cb.like(title, "%" + escapeLike(value.toLowerCase()) + "%", LIKE_ESCAPE))
+                .toArray(Predicate[]::new));
+        return subquery.select(skill.get("id"))
+                .where(cb.equal(event.get("id"), root.get("id")), matching ? anyTitle : cb.not(anyTitle));
+    }
+}
@@ -0,0 +1,43 @@
+package school.faang.user_service.repository.specification;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.premium.Premium;
+
+import java.time.LocalDateTime;
+
+public final class UserSpecifications {
+    public static final char LIKE_ESCAPE = '\\';
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> hasActivePremium() {
+        return (root, query, cb) -> {
+            Subquery<Long> premiumQuery = query.subquery(Long.class);
+            Root<Premium> premium = premiumQuery.from(Premium.class);
+            premiumQuery.select(premium.get("id"))
+                    .where(cb.equal(premium.get("user"), root),
+                            cb.greaterThan(premium.<LocalDateTime>get("endDate"), LocalDateTime.now()));
+            return cb.exists(premiumQuery);
+        };
+    }
+
+    public static Specification<User> idGreaterThan(long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<User> containsIgnoreCase(String attribute, String value) {
+        String pattern = "%" + escapeLike(value.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, LIKE_ESCAPE);
+    }
+
+    public static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
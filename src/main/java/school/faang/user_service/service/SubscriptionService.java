@@ -3,41 +3,66 @@ package school.faang.user_service.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import school.faang.user_service.dto.filter.SubscriptionFilterDto;
+import school.faang.user_service.dto.subscription.FollowStatusDto;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+import school.faang.user_service.dto.subscription.SubscriptionCursor;
 import school.faang.user_service.dto.subscription.SubscriptionDto;
+import school.faang.user_service.dto.subscription.SubscriptionOutcome;
+import school.faang.user_service.dto.subscription.SubscriptionOutcomeDto;
+import school.faang.user_service.dto.subscription.SubscriptionPageDto;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.exception.NotFoundException;
 import school.faang.user_service.mapper.SubscriptionMapper;
+import school.faang.user_service.repository.SubscriptionBulkRepository;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
+import school.faang.user_service.repository.SubscriptionPageRepository;
+import school.faang.user_service.repository.SubscriptionPageRepository.Direction;
 import school.faang.user_service.repository.SubscriptionRepository;
+import school.faang.user_service.service.subscription.SubscriptionBloomFilter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SubscriptionService {
+    private static final int MAX_PAGE_LIMIT = 1000;
+    private static final int MAX_BULK_SIZE = 1000;
     private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionMapper subscriptionMapper;
+    private final SubscriptionCounterRepository subscriptionCounterRepository;
+    private final SubscriptionPageRepository subscriptionPageRepository;
+    private final SubscriptionBulkRepository subscriptionBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SubscriptionBloomFilter subscriptionBloomFilter;
 
+    // Одна вставка с ON CONFLICT вместо проверки существования: гонка двух подписок не создает дубликат
     @Transactional
     public void followUser(long followerId, long followeeId) {
-        if (subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)) {
+        SubscriptionOutcome outcome = followUsers(followerId, List.of(followeeId)).get(0).outcome();
+        if (outcome == SubscriptionOutcome.ALREADY_FOLLOWING) {
             log.error("Попытка подписки: пользователь с ID {} уже подписан на пользователя с ID {}",
                     followerId, followeeId);
             throw new DataValidationException(
                     "Пользователь с ID " + followerId + " уже подписан на пользователя с ID " + followeeId
             );
         }
-
-        subscriptionRepository.followUser(followerId, followeeId);
+        checkOutcome(outcome, followeeId);
         log.info("Пользователь с ID {} успешно подписался на пользователя с ID {}", followerId, followeeId);
     }
 
     @Transactional
     public void unfollowUser(long followerId, long followeeId) {
-        if (!subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)) {
+        SubscriptionOutcome outcome = unfollowUsers(followerId, List.of(followeeId)).get(0).outcome();
+        if (outcome == SubscriptionOutcome.NOT_FOLLOWING) {
             log.warn("Попытка отписаться от несуществующей подписки: followerId={}, followeeId={}",
                     followerId, followeeId);
             throw new DataValidationException(
@@ -45,11 +70,95 @@ public class SubscriptionService {
                             ", на которого вы не подписаны."
             );
         }
-
-        subscriptionRepository.unfollowUser(followerId, followeeId);
+        checkOutcome(outcome, followeeId);
         log.info("Пользователь с ID {} отписался от пользователя с ID {}", followerId, followeeId);
     }
 
+    @Transactional
+    public List<SubscriptionOutcomeDto> followUsers(long followerId, List<Long> followeeIds) {
+        List<Long> uniqueIds = validateBulk(followeeIds);
+        Map<Long, SubscriptionOutcome> outcomes = subscriptionBulkRepository.followAll(followerId, uniqueIds);
+        List<Long> followed = idsWith(outcomes, SubscriptionOutcome.FOLLOWED);
+        subscriptionCounterRepository.applyDelta(followerId, followed, 1);
+        publishChanges(followerId, followed, true);
+        return toOutcomes(uniqueIds, outcomes);
+    }
+
+    @Transactional
+    public List<SubscriptionOutcomeDto> unfollowUsers(long followerId, List<Long> followeeIds) {
+        List<Long> uniqueIds = validateBulk(followeeIds);
+        Map<Long, SubscriptionOutcome> outcomes = subscriptionBulkRepository.unfollowAll(followerId, uniqueIds);
+        List<Long> unfollowed = idsWith(outcomes, SubscriptionOutcome.UNFOLLOWED);
+        subscriptionCounterRepository.applyDelta(followerId, unfollowed, -1);
+        publishChanges(followerId, unfollowed, false);
+        return toOutcomes(uniqueIds, outcomes);
+    }
+
+    // Граф подписок в памяти получает изменения после коммита транзакции
+    private void publishChanges(long followerId, List<Long> followeeIds, boolean followed) {
+        if (!followeeIds.isEmpty()) {
+            eventPublisher.publishEvent(new SubscriptionChangedEvent(followerId, followeeIds, followed));
+        }
+    }
+
+    // Отрицательный ответ фильтра Блума точен: при потере событий фильтр сбрасывается до пересборки.
+    // В БД проверяются только возможные подписки
+    public boolean isFollowing(long followerId, long followeeId) {
+        return subscriptionBloomFilter.mightContain(followerId, followeeId)
+                && subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId);
+    }
+
+    // Статус кнопки "Подписаться" для страницы карточек: не больше одного запроса в БД
+    public List<FollowStatusDto> getFollowStatuses(long followerId, List<Long> followeeIds) {
+        List<Long> uniqueIds = validateBulk(followeeIds);
+        List<Long> candidates = uniqueIds.stream()
+                .filter(followeeId -> subscriptionBloomFilter.mightContain(followerId, followeeId))
+                .toList();
+        Set<Long> followed = candidates.isEmpty()
+                ? Set.of() : subscriptionBulkRepository.findFollowedAmong(followerId, candidates);
+        return uniqueIds.stream()
+                .map(id -> new FollowStatusDto(id, followed.contains(id)))
+                .toList();
+    }
+
+    private void checkOutcome(SubscriptionOutcome outcome, long followeeId) {
+        if (outcome == SubscriptionOutcome.USER_NOT_FOUND) {
+            throw new NotFoundException("Пользователь с ID " + followeeId + " не найден");
+        }
+        if (outcome == SubscriptionOutcome.SELF_SUBSCRIPTION) {
+            throw new DataValidationException("Нельзя подписываться на самого себя!");
+        }
+    }
+
+    private List<Long> validateBulk(List<Long> followeeIds) {
+        if (followeeIds == null || followeeIds.isEmpty()) {
+            throw new DataValidationException("Список пользователей не должен быть пустым");
+        }
+        List<Long> uniqueIds = followeeIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (uniqueIds.size() > MAX_BULK_SIZE) {
+            throw new DataValidationException("За один запрос можно обработать не больше " + MAX_BULK_SIZE
+                    + " пользователей");
+        }
+        return uniqueIds;
+    }
+
+    private List<Long> idsWith(Map<Long, SubscriptionOutcome> outcomes, SubscriptionOutcome outcome) {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getValue() == outcome)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // Результаты в порядке запроса
+    private List<SubscriptionOutcomeDto> toOutcomes(List<Long> ids, Map<Long, SubscriptionOutcome> outcomes) {
+        return ids.stream()
+                .map(id -> new SubscriptionOutcomeDto(id, outcomes.get(id)))
+                .toList();
+    }
+
     @Transactional
     public List<SubscriptionDto> getFollowers(long followeeId, SubscriptionFilterDto filter) {
         try (Stream<User> userStream = subscriptionRepository.findByFolloweeId(followeeId)) {
@@ -65,6 +174,30 @@ public class SubscriptionService {
         }
     }
 
+    public SubscriptionPageDto getFollowersPage(long followeeId, SubscriptionFilterDto filter, String cursor, int limit) {
+        return getPage(Direction.FOLLOWERS, followeeId, filter, cursor, limit);
+    }
+
+    public SubscriptionPageDto getFollowingPage(long followerId, SubscriptionFilterDto filter, String cursor, int limit) {
+        return getPage(Direction.FOLLOWING, followerId, filter, cursor, limit);
+    }
+
+    // Запрашивается limit + 1 строка: лишняя строка означает, что есть следующая страница
+    private SubscriptionPageDto getPage(Direction direction, long userId, SubscriptionFilterDto filter,
+                                        String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_LIMIT) {
+            throw new DataValidationException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        SubscriptionCursor after = cursor == null || cursor.isBlank() ? null : SubscriptionCursor.decode(cursor);
+        List<SubscriptionPageRepository.Row> rows =
+                subscriptionPageRepository.findPage(direction, userId, filter, after, limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<SubscriptionPageRepository.Row> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? page.get(page.size() - 1).position().encode() : null;
+        return new SubscriptionPageDto(page.stream().map(SubscriptionPageRepository.Row::user).toList(), nextCursor);
+    }
+
     private List<SubscriptionDto> filterUsers(List<User> userList, SubscriptionFilterDto filter) {
         return userList.stream()
                 .filter(user -> filter.getNamePattern() == null || user.getUsername().contains(filter.getNamePattern()))
@@ -77,7 +210,7 @@ public class SubscriptionService {
 
     @Transactional
     public int getFollowersCount(long followeeId) {
-        int count = subscriptionRepository.findFollowersAmountByFolloweeId(followeeId);
+        int count = subscriptionCounterRepository.getFollowersCount(followeeId);
         if (count == 0) {
             log.warn("У пользователя с ID {}, нет подписчиков", followeeId);
             throw new DataValidationException("Подписчики не найдены");
@@ -102,7 +235,7 @@ public class SubscriptionService {
 
     @Transactional
     public int getFollowingCount(long followerId) {
-        int count = subscriptionRepository.findFolloweesAmountByFollowerId(followerId);
+        int count = subscriptionCounterRepository.getFolloweesCount(followerId);
         if (count == 0) {
             log.warn("У пользователя с ID {}, нет подписок", followerId);
             throw new DataValidationException("Подписки не найдены");
@@ -1,105 +1,230 @@
 package school.faang.user_service.service;
 
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.UserCacheStatsDto;
+import school.faang.user_service.dto.UserDeactivationReportDto;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserPageDto;
+import school.faang.user_service.dto.UsersBatchDto;
 import school.faang.user_service.dto.filter.UserFilterDto;
 import school.faang.user_service.entity.User;
-import school.faang.user_service.entity.event.Event;
-import school.faang.user_service.entity.event.EventStatus;
-import school.faang.user_service.entity.goal.Goal;
+import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.filter.user.UserFilter;
-import school.faang.user_service.mapper.UserMapper;
+import school.faang.user_service.repository.UserReadRepository;
 import school.faang.user_service.repository.UserRepository;
-import school.faang.user_service.repository.event.EventRepository;
-import school.faang.user_service.repository.goal.GoalRepository;
-import school.faang.user_service.service.mentorship.MentorshipService;
+import school.faang.user_service.repository.specification.UserSpecifications;
+import school.faang.user_service.service.user.NdjsonWriter;
+import school.faang.user_service.service.user.UserBatchLoader;
+import school.faang.user_service.service.user.UserDeactivationService;
+import school.faang.user_service.service.user.UserStreamWriter;
+import school.faang.user_service.service.user.cache.UserProfileCache;
+import school.faang.user_service.service.user.view.ProfileViewTracker;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
-    private static final String MESSAGE_USER_NOT_EXIST = "User does not exist";
-    private static final String MESSAGE_USER_ALREADY_DEACTIVATED = "User is already deactivated";
-    private static final int ONE_USER = 1;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_LIMIT = 1000;
     private final UserRepository userRepository;
-    private final GoalRepository goalRepository;
-    private final EventRepository eventRepository;
-    private final MentorshipService mentorshipService;
-    private final UserMapper mapper;
+    private final UserReadRepository userReadRepository;
     private final List<UserFilter> userFilters;
+    private final UserBatchLoader userBatchLoader;
+    private final UserDeactivationService userDeactivationService;
+    private final UserProfileCache userProfileCache;
+    private final UserStreamWriter userStreamWriter;
+    private final ObjectMapper objectMapper;
+    private final ProfileViewTracker profileViewTracker;
 
     public UserDto deactivatesUserProfile(long userId) {
-        User user = getValidationUser(userId);
-        List<Goal> goalsForDeleteFromDB = getGoalsForDelete(user);
-        user.setGoals(null);
-        deleteGoalFromDbIfPresent(goalsForDeleteFromDB);
-        List<Event> events = getEventsWithCanceledStatus(user);
-        events.forEach(event -> eventRepository.deleteById(event.getId()));
-        user.setActive(false);
-        return mapper.toDto(userRepository.save(mentorshipService.stopMentorship(user)));
+        userDeactivationService.deactivate(userId);
+        return loadUser(userId);
     }
 
+    public UserDeactivationReportDto deactivateUsers(List<Long> ids) {
+        return userDeactivationService.deactivateAll(ids);
+    }
+
+    // Просмотр профиля учитывается только после успешной загрузки
     public UserDto getUser(Long userId) {
-        Optional<User> user = userRepository.findById(userId);
-        UserDto dto = mapper.toDto(user.orElseThrow(() ->
-                new RuntimeException("userId is not Found")));
-        return dto;
+        UserDto user = loadUser(userId);
+        profileViewTracker.recordView(userId);
+        return user;
     }
 
-    public List<UserDto> getUsersByIds(List<Long> ids) {
-        return ids.stream()
-                .map(num -> userRepository.findById(num))
-                .map(user -> mapper.toDto(user.orElseThrow(() ->
-                        new RuntimeException("userId is not Found"))))
-                .toList();
+    public long countUniqueViewers(long userId) {
+        return profileViewTracker.countUniqueViewers(userId);
     }
 
-    @Transactional
+    private UserDto loadUser(Long userId) {
+        UserDto user = userProfileCache.get(userId, id -> userReadRepository.findById(id).orElse(null));
+        if (user == null) {
+            throw new RuntimeException("userId is not Found");
+        }
+        return user;
+    }
+
+    public UserCacheStatsDto getProfileCacheStats() {
+        return userProfileCache.getStats();
+    }
+
+    public UsersBatchDto getUsersByIds(List<Long> ids) {
+        Map<Long, UserDto> usersById = userBatchLoader.loadByIds(ids);
+        List<UserDto> users = new ArrayList<>(ids.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            UserDto user = usersById.get(id);
+            if (user == null) {
+                missingIds.add(id);
+            } else {
+                users.add(user);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            log.warn("Users not found for ids {}", missingIds);
+        }
+        return new UsersBatchDto(users, missingIds);
+    }
+
+    public Page<UserDto> searchUsers(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new DataValidationException("Search query must not be empty");
+        }
+        if (page < 0) {
+            throw new DataValidationException("Page must not be negative");
+        }
+        if (size <= 0 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new DataValidationException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        String normalizedQuery = query.trim().toLowerCase();
+        String pattern = "%" + UserSpecifications.escapeLike(normalizedQuery) + "%";
+        // Профили страницы собираются одним запросом, без ленивых догрузок коллекций у каждой строки
+        Page<Long> ids = userRepository.searchIdsBySubstring(normalizedQuery, pattern, PageRequest.of(page, size));
+        return new PageImpl<>(userBatchLoader.loadInOrder(ids.getContent()), ids.getPageable(),
+                ids.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
     public List<UserDto> getPremiumUsers(UserFilterDto userFilterDto) {
-        List<UserFilter> userFiltersActual = userFilters.stream()
-                .filter(u -> u.checkingForNull(userFilterDto)).toList();
+        if (userFilterDto.getPage() < 0) {
+            throw new DataValidationException("Page must not be negative");
+        }
+        List<UserFilter> userFiltersActual = getActualFilters(userFilterDto);
         if (userFiltersActual.isEmpty()) {
             throw new RuntimeException("No user filters found");
         }
 
-        try(Stream<User> userStream = userRepository.findPremiumUsers()) {
-            return userStream
-                    .filter(u -> userFiltersActual.stream()
-                            .allMatch(f -> f.filterUsers(u, userFilterDto)))
-                    .map(mapper::toDto)
-                    .toList();
+        Optional<Specification<User>> specification = toPremiumSpecification(userFiltersActual, userFilterDto);
+        if (specification.isEmpty()) {
+            return getPremiumUsersInMemory(userFiltersActual, userFilterDto);
         }
+
+        Pageable pageable = userFilterDto.getPageSize() > 0
+                ? PageRequest.of(userFilterDto.getPage(), userFilterDto.getPageSize())
+                : Pageable.unpaged();
+        return userBatchLoader.loadInOrder(userRepository.findIdsOrderById(specification.get(), pageable));
     }
 
-    private void deleteGoalFromDbIfPresent(List<Goal> goalsForDeleteFromDB) {
-        if (!goalsForDeleteFromDB.isEmpty()) {
-            goalsForDeleteFromDB.forEach(goal -> goalRepository
-                    .deleteById(goal.getId()));
+    // Keyset-пагинация по users.id: курсор - id последнего пользователя предыдущей страницы
+    @Transactional(readOnly = true)
+    public UserPageDto getPremiumUsersPage(UserFilterDto userFilterDto, Long cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_LIMIT) {
+            throw new DataValidationException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
         }
+        long afterId = cursor == null ? 0L : cursor;
+        List<UserFilter> userFiltersActual = getActualFilters(userFilterDto);
+        Optional<Specification<User>> specification = toPremiumSpecification(userFiltersActual, userFilterDto);
+
+        List<Long> ids;
+        if (specification.isPresent()) {
+            ids = userRepository.findIdsOrderById(
+                    specification.get().and(UserSpecifications.idGreaterThan(afterId)), PageRequest.of(0, limit + 1));
+        } else {
+            try (Stream<User> userStream = userRepository.findPremiumUsers()) {
+                ids = userStream
+                        .filter(u -> u.getId() > afterId)
+                        .filter(u -> matchesAll(userFiltersActual, u, userFilterDto))
+                        .limit(limit + 1)
+                        .map(User::getId)
+                        .toList();
+            }
+        }
+
+        boolean hasNext = ids.size() > limit;
+        List<Long> pageIds = hasNext ? ids.subList(0, limit) : ids;
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+        return new UserPageDto(userBatchLoader.loadInOrder(pageIds), nextCursor);
     }
 
-    private User getValidationUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException(MESSAGE_USER_NOT_EXIST));
-        if (!user.isActive()) {
-            throw new RuntimeException(MESSAGE_USER_ALREADY_DEACTIVATED);
+    // Пишет премиум-пользователей в NDJSON по мере чтения курсора БД, не собирая весь список в памяти
+    @Transactional(readOnly = true)
+    public void streamPremiumUsers(UserFilterDto userFilterDto, OutputStream outputStream) {
+        List<UserFilter> userFiltersActual = getActualFilters(userFilterDto);
+        Optional<Specification<User>> specification = toPremiumSpecification(userFiltersActual, userFilterDto);
+
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+        if (specification.isPresent()) {
+            userStreamWriter.writeAll(specification.get(), writer);
+        } else {
+            userStreamWriter.writeIds(userRepository.findPremiumUsers()
+                    .filter(u -> matchesAll(userFiltersActual, u, userFilterDto))
+                    .map(User::getId), writer);
         }
-        return user;
     }
 
-    private List<Event> getEventsWithCanceledStatus(User user) {
-        return user.getOwnedEvents().stream()
-                .peek(event -> event.setStatus(EventStatus.CANCELED))
+    private List<UserFilter> getActualFilters(UserFilterDto userFilterDto) {
+        return userFilters.stream()
+                .filter(u -> u.checkingForNull(userFilterDto))
                 .toList();
     }
 
-    private List<Goal> getGoalsForDelete(User user) {
-        return user.getGoals().stream()
-                .filter(goal -> goal.getUsers().size() == ONE_USER)
-                .toList();
+    private boolean matchesAll(List<UserFilter> filters, User user, UserFilterDto userFilterDto) {
+        return filters.stream()
+                .allMatch(f -> f.filterUsers(user, userFilterDto));
+    }
+
+    // Запрос в БД строится, только если каждый фильтр умеет превращаться в условие запроса
+    private Optional<Specification<User>> toPremiumSpecification(List<UserFilter> filters,
+                                                                 UserFilterDto userFilterDto) {
+        Specification<User> specification = UserSpecifications.hasActivePremium();
+        for (UserFilter filter : filters) {
+            Optional<Specification<User>> filterSpecification = filter.toSpecification(userFilterDto);
+            if (filterSpecification.isEmpty()) {
+                return Optional.empty();
+            }
+            specification = specification.and(filterSpecification.get());
+        }
+        return Optional.of(specification);
+    }
+
+    private List<UserDto> getPremiumUsersInMemory(List<UserFilter> filters, UserFilterDto userFilterDto) {
+        try (Stream<User> userStream = userRepository.findPremiumUsers()) {
+            Stream<User> filtered = userStream
+                    .filter(u -> matchesAll(filters, u, userFilterDto));
+            if (userFilterDto.getPageSize() > 0) {
+                filtered = filtered
+                        .skip((long) userFilterDto.getPage() * userFilterDto.getPageSize())
+                        .limit(userFilterDto.getPageSize());
+            }
+            return userBatchLoader.loadInOrder(filtered
+                    .map(User::getId)
+                    .toList());
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,21 @@
 package school.faang.user_service.service.event;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.event.WaitlistPositionDto;
+import school.faang.user_service.dto.event.WaitlistPromotionRequest;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.exception.NotFoundException;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.event.EventParticipationRepository;
+import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.event.EventWaitlistRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -14,27 +23,93 @@ public class EventParticipationService {
 
     private final EventParticipationRepository eventParticipationRepository;
 
+    private final EventRepository eventRepository;
+
+    private final EventWaitlistRepository eventWaitlistRepository;
+
     private final UserMapper userMapper;
 
-    private boolean flag(long eventId , long userId) {
-        return eventParticipationRepository.findAllParticipantsByEventId(eventId).stream()
-                .anyMatch(user -> user.getId() == userId);
-    }
+    private final ApplicationEventPublisher eventPublisher;
 
+    // Место занимается до вставки участника: при отказе транзакция откатывает и счетчик, и вставку.
+    // Очередь проверяется после занятия места, пока строка события заблокирована: освободившееся место
+    // не достается тому, кто пришел в обход ожидающих
+    @Transactional
     public void registrParticipant(long eventId, long userId) {
-        if (flag(eventId , userId)){
-            throw new RuntimeException("User is already registered for the event.");
-        } else {
-            eventParticipationRepository.register(eventId, userId);
+        if (eventParticipationRepository.isRegistered(eventId, userId)) {
+            throw new DataValidationException("User is already registered for the event.");
+        }
+        if (eventParticipationRepository.reserveSeat(eventId) == 0) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new NotFoundException("Event " + eventId + " not found");
+            }
+            throw new DataValidationException("No seats left for the event.");
+        }
+        if (eventWaitlistRepository.hasWaitingAhead(eventId, userId)) {
+            throw new DataValidationException("Event has a waitlist, join it to get a seat.");
+        }
+        eventWaitlistRepository.remove(eventId, userId);
+        // Параллельный запрос того же пользователя мог успеть раньше - тогда место возвращается откатом
+        if (eventParticipationRepository.register(eventId, userId) == 0) {
+            throw new DataValidationException("User is already registered for the event.");
         }
     }
 
+    @Transactional
     public void unregisterParticipant(long eventId, long userId) {
-        if (flag(eventId , userId)){
-            eventParticipationRepository.unregister(eventId, userId);
-        } else {
-            throw new RuntimeException("User is not registered for the event.");
+        if (eventParticipationRepository.unregister(eventId, userId) == 0) {
+            throw new DataValidationException("User is not registered for the event.");
+        }
+        eventParticipationRepository.releaseSeat(eventId);
+        // Освободившееся место займет первый из очереди - асинхронно, после коммита
+        eventPublisher.publishEvent(new WaitlistPromotionRequest(eventId));
+    }
+
+    @Transactional
+    public WaitlistPositionDto joinWaitlist(long eventId, long userId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new NotFoundException("Event " + eventId + " not found");
+        }
+        if (eventParticipationRepository.isRegistered(eventId, userId)) {
+            throw new DataValidationException("User is already registered for the event.");
+        }
+        if (eventWaitlistRepository.enqueue(eventId, userId) == 0) {
+            throw new DataValidationException("User is already in the waitlist of the event.");
+        }
+        // Если места еще есть, пользователь будет сразу переведен в участники
+        eventPublisher.publishEvent(new WaitlistPromotionRequest(eventId));
+        return getWaitlistPosition(eventId, userId);
+    }
+
+    @Transactional
+    public void leaveWaitlist(long eventId, long userId) {
+        if (eventWaitlistRepository.remove(eventId, userId) == 0) {
+            throw new DataValidationException("User is not in the waitlist of the event.");
+        }
+    }
+
+    public WaitlistPositionDto getWaitlistPosition(long eventId, long userId) {
+        int position = eventWaitlistRepository.findPosition(eventId, userId)
+                .orElseThrow(() -> new NotFoundException("User is not in the waitlist of the event."));
+        return new WaitlistPositionDto(eventId, userId, position);
+    }
+
+    // Переводит первого из очереди в участники, если есть свободное место; возвращает его id.
+    // Строка события остается заблокированной до коммита, поэтому продвижения одного события не пересекаются
+    @Transactional
+    public Optional<Long> promoteNextFromWaitlist(long eventId) {
+        if (eventParticipationRepository.reserveSeat(eventId) == 0) {
+            return Optional.empty();
+        }
+        Optional<Long> next;
+        while ((next = eventWaitlistRepository.pollNext(eventId)).isPresent()) {
+            // Пропускаются те, кто успел зарегистрироваться сам, пока стоял в очереди
+            if (eventParticipationRepository.register(eventId, next.get()) == 1) {
+                return next;
+            }
         }
+        eventParticipationRepository.releaseSeat(eventId);
+        return Optional.empty();
     }
 
     public List<UserDto> getPaticipant(long eventId) {
@@ -44,6 +119,7 @@ public class EventParticipationService {
     }
 
     public int getParticipantCount(long eventId) {
-        return eventParticipationRepository.countParticipants(eventId);
+        return eventParticipationRepository.countParticipants(eventId)
+                .orElseThrow(() -> new NotFoundException("Event " + eventId + " not found"));
     }
 }
@@ -1,32 +1,52 @@
 package school.faang.user_service.service.event;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.UserProfileChangedEvent;
 import school.faang.user_service.dto.event.EventDto;
+import school.faang.user_service.dto.event.EventSearchResultDto;
 import school.faang.user_service.entity.Skill;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.filter.EventTimeRangeMode;
 import school.faang.user_service.mapper.EventMapper;
 import school.faang.user_service.repository.SkillRepository;
 import school.faang.user_service.repository.UserRepository;
 import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.event.EventSearchRepository;
+import school.faang.user_service.repository.specification.EventSpecifications;
 import school.faang.user_service.validator.event.EventValidator;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("startDate", "endDate", "title", "maxAttendees",
+            "createdAt");
     private final EventRepository eventRepository;
     private final SkillRepository skillRepository;
     private final UserRepository userRepository;
     private final EventMapper eventMapper;
     private final EventValidator eventValidator;
     private final List<EventFilter> eventFilters;
+    private final EventSearchRepository eventSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Создать событие
     public EventDto create(EventDto eventDto) {
@@ -43,7 +63,10 @@ public class EventService {
         eventEntity.setRelatedSkills(skills);
         eventEntity.setOwner(owner);
         eventEntity.setCreatedAt(LocalDateTime.now());
-        return eventMapper.toDto(eventRepository.save(eventEntity));
+        EventDto created = eventMapper.toDto(eventRepository.save(eventEntity));
+        // ownedEventsIds владельца лежит в кэше профиля
+        eventPublisher.publishEvent(new UserProfileChangedEvent(List.of(owner.getId())));
+        return created;
     }
 
     // Обновить событие
@@ -66,7 +89,9 @@ public class EventService {
         // Владельца сменить нельзя. Сообщений об этом не вывожу.
         eventEntity.setOwner(event.getOwner());
         eventEntity.setUpdatedAt(LocalDateTime.now());
-        return eventMapper.toDto(eventRepository.save(eventEntity));
+        EventDto updated = eventMapper.toDto(eventRepository.save(eventEntity));
+        eventPublisher.publishEvent(new UserProfileChangedEvent(List.of(event.getOwner().getId())));
+        return updated;
     }
 
     // Получить событие
@@ -76,25 +101,119 @@ public class EventService {
                 .orElseThrow(() -> new DataValidationException("События с таким id не существует."));
     }
 
-    // Фильтрация событий по шаблону
+    // Фильтрация событий по шаблону: все фильтры собираются в один запрос к БД со страницей и сортировкой.
+    // Страница читается без count-запроса; с afterId следующая страница ищется по ключу сортировки, а не OFFSET
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsByFilter(EventFilterDto filters) {
-        List<Event> events = eventRepository.findAll();
-
-        // Список подключенных фильтров
-        List<EventFilter> actualFilters = eventFilters.stream()
+        validateTimeRange(filters);
+        Specification<Event> specification = eventFilters.stream()
                 .filter(f -> f.isApplicable(filters))
-                .toList();
+                .map(f -> f.toSpecification(filters))
+                .reduce(Specification.where(null), Specification::and);
+        PageRequest pageRequest = toPageRequest(filters);
+        if (filters.getAfterId() != null) {
+            specification = specification.and(afterCursor(filters.getAfterId(), pageRequest.getSort()));
+        }
 
-        return events.stream()
-                .filter(e -> actualFilters.stream()
-                        .allMatch(f -> f.test(e, filters)))
+        return eventRepository.findAllWithoutCount(specification, pageRequest).stream()
                 .map(eventMapper::toDto)
                 .toList();
     }
 
+    // Полнотекстовый поиск: страница по релевантности с подсветкой совпадений
+    @Transactional(readOnly = true)
+    public List<EventSearchResultDto> searchEvents(EventFilterDto filters) {
+        if (filters.getSearchQuery() == null || filters.getSearchQuery().isBlank()) {
+            throw new DataValidationException("Search query must not be empty");
+        }
+        if (eventFilters.stream().anyMatch(f -> f.isApplicable(filters))) {
+            throw new DataValidationException("Full-text search cannot be combined with other event filters");
+        }
+        int pageSize = resolvePageSize(filters);
+        List<EventSearchRepository.Match> matches = eventSearchRepository.search(filters.getSearchQuery(),
+                pageSize, (long) filters.getPage() * pageSize);
+
+        Map<Long, Event> eventsById = eventRepository.findAllById(
+                        matches.stream().map(EventSearchRepository.Match::eventId).toList()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        // Событие могли удалить между двумя запросами - такие совпадения пропускаются
+        return matches.stream()
+                .filter(match -> eventsById.containsKey(match.eventId()))
+                .map(match -> new EventSearchResultDto(eventMapper.toDto(eventsById.get(match.eventId())),
+                        match.rank(), match.titleHighlight(), match.descriptionHighlight()))
+                .toList();
+    }
+
+    // Окно [rangeFrom, rangeTo] должно быть корректным интервалом и иметь границы, нужные режиму
+    private void validateTimeRange(EventFilterDto filters) {
+        EventTimeRangeMode mode = filters.getRangeMode();
+        if (mode == null) {
+            return;
+        }
+        LocalDateTime from = filters.getRangeFrom();
+        LocalDateTime to = filters.getRangeTo();
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DataValidationException("rangeFrom must not be after rangeTo");
+        }
+        boolean boundsPresent = switch (mode) {
+            case OVERLAPS -> from != null || to != null;
+            case CONTAINS -> from != null && to != null;
+            case BEFORE -> from != null;
+            case AFTER -> to != null;
+        };
+        if (!boundsPresent) {
+            throw new DataValidationException("Time range bounds are missing for mode " + mode);
+        }
+    }
+
+    // id в конце сортировки делает порядок однозначным между страницами
+    private PageRequest toPageRequest(EventFilterDto filters) {
+        int pageSize = resolvePageSize(filters);
+        String sortBy = filters.getSortBy() != null ? filters.getSortBy() : "startDate";
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new DataValidationException("Events can be sorted only by " + SORTABLE_FIELDS);
+        }
+        Sort.Direction direction = filters.getSortDirection() != null ? filters.getSortDirection() : Sort.Direction.ASC;
+        if (filters.getAfterId() != null && filters.getPage() > 0) {
+            throw new DataValidationException("page and afterId cannot be combined");
+        }
+        return PageRequest.of(filters.getPage(), pageSize, Sort.by(direction, sortBy, "id"));
+    }
+
+    // Ключ курсора берется из самого события afterId - клиенту достаточно передать id последнего события страницы
+    private Specification<Event> afterCursor(long afterId, Sort sort) {
+        Event cursor = eventRepository.findById(afterId)
+                .orElseThrow(() -> new DataValidationException("Event " + afterId + " to continue after does not exist"));
+        Sort.Order order = sort.iterator().next();
+        Sort.Direction direction = order.getDirection();
+        return switch (order.getProperty()) {
+            case "startDate" -> EventSpecifications.afterKey("startDate", direction, cursor.getStartDate(), afterId);
+            case "endDate" -> EventSpecifications.afterKey("endDate", direction, cursor.getEndDate(), afterId);
+            case "title" -> EventSpecifications.afterKey("title", direction, cursor.getTitle(), afterId);
+            case "maxAttendees" -> EventSpecifications.afterKey("maxAttendees", direction, cursor.getMaxAttendees(),
+                    afterId);
+            case "createdAt" -> EventSpecifications.afterKey("createdAt", direction, cursor.getCreatedAt(), afterId);
+            default -> throw new DataValidationException("Events can be sorted only by " + SORTABLE_FIELDS);
+        };
+    }
+
+    private int resolvePageSize(EventFilterDto filters) {
+        if (filters.getPage() < 0) {
+            throw new DataValidationException("Page must not be negative");
+        }
+        int pageSize = filters.getPageSize() > 0 ? filters.getPageSize() : DEFAULT_PAGE_SIZE;
+        if (pageSize > MAX_PAGE_SIZE) {
+            throw new DataValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
     // Удаление события
     public void deleteEvent(Long eventId) {
-        eventRepository.deleteById(eventId);
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new DataValidationException("События с таким id не существует."));
+        eventRepository.delete(event);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(List.of(event.getOwner().getId())));
     }
 
     // Получение событий, что создал пользователь.
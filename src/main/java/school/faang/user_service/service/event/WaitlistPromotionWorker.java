@@ -0,0 +1,122 @@
+package school.faang.user_service.service.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import school.faang.user_service.dto.WaitlistPromotionEvent;
+import school.faang.user_service.dto.event.WaitlistPromotionRequest;
+import school.faang.user_service.publisher.WaitlistPromotionEventPublisher;
+import school.faang.user_service.repository.event.EventWaitlistRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Продвигает очереди ожидания после коммита освобождения места. Событие всегда попадает в один и тот же
+ * однопоточный исполнитель, поэтому продвижения одного события идут строго по порядку, а разные события
+ * обрабатываются параллельно. Повторные запросы для события, которое еще ждет своей очереди,
+ * схлопываются: одна задача продвигает очередь, пока есть места. Сигналы, потерянные при рестарте,
+ * подбирает периодический обход.
+ */
+@Slf4j
+@Component
+public class WaitlistPromotionWorker {
+    static final String THREAD_NAME_PREFIX = "waitlist-promotion-";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
+    private final EventParticipationService eventParticipationService;
+    private final EventWaitlistRepository eventWaitlistRepository;
+    private final WaitlistPromotionEventPublisher waitlistPromotionEventPublisher;
+    private final ExecutorService[] stripes;
+    private final Set<Long> pendingEventIds = ConcurrentHashMap.newKeySet();
+
+    public WaitlistPromotionWorker(EventParticipationService eventParticipationService,
+                                   EventWaitlistRepository eventWaitlistRepository,
+                                   WaitlistPromotionEventPublisher waitlistPromotionEventPublisher,
+                                   @Value("${events.waitlist.workers}") int workers) {
+        this.eventParticipationService = eventParticipationService;
+        this.eventWaitlistRepository = eventWaitlistRepository;
+        this.waitlistPromotionEventPublisher = waitlistPromotionEventPublisher;
+        this.stripes = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            String threadName = THREAD_NAME_PREFIX + i;
+            stripes[i] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName));
+        }
+    }
+
+    // Начатые проходы успевают дописать продвижение; что не успело, подберет обход после рестарта
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        for (ExecutorService stripe : stripes) {
+            if (!stripe.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                log.warn("Waitlist promotion stopped with {} events pending", pendingEventIds.size());
+                for (ExecutorService running : stripes) {
+                    running.shutdownNow();
+                }
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromotionRequested(WaitlistPromotionRequest request) {
+        schedule(request.eventId());
+    }
+
+    @Scheduled(fixedDelayString = "${events.waitlist.sweep-interval-ms}")
+    public void sweep() {
+        try {
+            eventWaitlistRepository.findPromotableEventIds().forEach(this::schedule);
+        } catch (RuntimeException e) {
+            log.error("Failed to find events with promotable waitlists", e);
+        }
+    }
+
+    void schedule(long eventId) {
+        if (pendingEventIds.add(eventId)) {
+            stripes[Math.floorMod(Long.hashCode(eventId), stripes.length)].execute(() -> promote(eventId));
+        }
+    }
+
+    // Запрос снимается с ожидания до чтения очереди: пришедший позже запрос запустит еще один проход.
+    // Уведомления прохода уходят одной пачкой, в том числе если проход прервался ошибкой
+    void promote(long eventId) {
+        pendingEventIds.remove(eventId);
+        List<WaitlistPromotionEvent> promotions = new ArrayList<>();
+        try {
+            Optional<Long> promoted;
+            while ((promoted = eventParticipationService.promoteNextFromWaitlist(eventId)).isPresent()) {
+                promotions.add(WaitlistPromotionEvent.builder()
+                        .eventId(eventId)
+                        .userId(promoted.get())
+                        .promotedAt(LocalDateTime.now())
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to promote waitlist of event {}", eventId, e);
+        }
+        if (promotions.isEmpty()) {
+            return;
+        }
+        try {
+            waitlistPromotionEventPublisher.publishAll(promotions);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} waitlist promotion events of event {}", promotions.size(), eventId, e);
+        }
+    }
+}
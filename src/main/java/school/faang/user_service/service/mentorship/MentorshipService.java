@@ -1,8 +1,10 @@
 package school.faang.user_service.service.mentorship;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserProfileChangedEvent;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.mentorship.MentorshipRepository;
@@ -15,6 +17,7 @@ import java.util.List;
 public class MentorshipService {
     private final MentorshipRepository mentorshipRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<UserDto> getMentees(long mentorId) {
         User mentor = mentorshipRepository.findById(mentorId).orElse(null);
@@ -42,6 +45,7 @@ public class MentorshipService {
 
         mentor.getMentees().remove(mentee);
         mentorshipRepository.save(mentor);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(List.of(mentorId, menteeId)));
     }
 
     public void deleteMentor(long menteeId, long mentorId) {
@@ -55,6 +59,7 @@ public class MentorshipService {
 
         mentee.getMentors().remove(mentorFoDelete);
         mentorshipRepository.save(mentee);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(List.of(menteeId, mentorId)));
     }
 
     public User stopMentorship(User user) {
@@ -0,0 +1,70 @@
+package school.faang.user_service.service.subscription;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Фильтр Блума по парам (followerId, followeeId). Биты лежат в AtomicLongArray, поэтому добавление
+ * из разных потоков обходится без блокировок. Позиции бит - двойное хеширование двух 64-битных хешей пары.
+ */
+final class PairBloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private PairBloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    // Размер по формулам m = -n ln p / ln^2 2, k = m / n * ln 2
+    static PairBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * LN2));
+        return new PairBloomFilter(bits, hashes);
+    }
+
+    void add(long followerId, long followeeId) {
+        long hash1 = mix(followerId * 0x9E3779B97F4A7C15L + followeeId);
+        long hash2 = mix(hash1 ^ followeeId) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    // false - пары точно нет; true - пара, возможно, есть
+    boolean mightContain(long followerId, long followeeId) {
+        long hash1 = mix(followerId * 0x9E3779B97F4A7C15L + followeeId);
+        long hash2 = mix(hash1 ^ followeeId) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    // Финализатор MurmurHash3
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB93FE53A1A2BL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,140 @@
+package school.faang.user_service.service.subscription;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+import school.faang.user_service.repository.FollowGraphRepository;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Быстрый отрицательный ответ на "подписан ли A на B" без обращения к БД. Фильтр строится из subscription
+ * после старта и пополняется подписками после коммита (свои - через событие, с других узлов - через
+ * follower_channel). Отписки из фильтра Блума не удаляются, поэтому он периодически пересобирается.
+ * Пока фильтр не построен, любая пара считается возможной.
+ *
+ * Pub/sub не гарантирует доставку: если сообщение другого узла потеряно (пропуск в sequence или
+ * переподписка на канал), фильтр сбрасывается через {@link #resync} и до пересборки ответ берется из БД.
+ */
+@Slf4j
+@Component
+public class SubscriptionBloomFilter {
+    private final FollowGraphRepository followGraphRepository;
+    private final double falsePositiveRate;
+    private final ExecutorService buildExecutor = Executors.newSingleThreadExecutor();
+    // В очереди исполнителя не больше одной пересборки: серия resync подряд дает одно чтение subscription
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    // Под этим монитором добавление пишет в оба фильтра, а пересборка публикует новый
+    private final Object swapLock = new Object();
+    private volatile PairBloomFilter filter;
+    // Фильтр, который сейчас заполняется из БД; новые подписки пишутся и в него
+    private PairBloomFilter building;
+    // Растет при каждом resync: пересборка, начатая до него, свой результат не публикует
+    private long generation;
+
+    public SubscriptionBloomFilter(FollowGraphRepository followGraphRepository,
+                                   @Value("${subscriptions.bloom-filter.false-positive-rate}") double falsePositiveRate) {
+        this.followGraphRepository = followGraphRepository;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        requestRebuild();
+    }
+
+    @Scheduled(cron = "${subscriptions.bloom-filter.rebuild-cron}")
+    public void scheduleRebuild() {
+        requestRebuild();
+    }
+
+    // Фильтр мог пропустить подписку: до пересборки все пары считаются возможными
+    public void resync(String reason) {
+        synchronized (swapLock) {
+            generation++;
+            filter = null;
+        }
+        log.warn("Subscription bloom filter reset: {}", reason);
+        requestRebuild();
+    }
+
+    // Флаг снимается в начале пересборки: resync во время чтения поставит еще одну, более позднюю
+    private void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            buildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    // Запас в два раза на рост числа подписок до следующей пересборки
+    void rebuild() {
+        PairBloomFilter next;
+        long startedGeneration;
+        try {
+            next = PairBloomFilter.create(followGraphRepository.countEdges() * 2, falsePositiveRate);
+        } catch (RuntimeException e) {
+            log.error("Failed to build subscription bloom filter", e);
+            return;
+        }
+        synchronized (swapLock) {
+            building = next;
+            startedGeneration = generation;
+        }
+        try {
+            followGraphRepository.forEachEdge(next::add);
+            synchronized (swapLock) {
+                if (startedGeneration == generation) {
+                    filter = next;
+                    log.info("Subscription bloom filter built: {} bits", next.bitCount());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to build subscription bloom filter", e);
+        } finally {
+            synchronized (swapLock) {
+                if (building == next) {
+                    building = null;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(long followerId, long followeeId) {
+        PairBloomFilter current = filter;
+        return current == null || current.mightContain(followerId, followeeId);
+    }
+
+    public void add(long followerId, long followeeId) {
+        synchronized (swapLock) {
+            PairBloomFilter current = filter;
+            if (current != null) {
+                current.add(followerId, followeeId);
+            }
+            if (building != null) {
+                building.add(followerId, followeeId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        if (event.followed()) {
+            event.followeeIds().forEach(followeeId -> add(event.followerId(), followeeId));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package school.faang.user_service.service.subscription;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
+
+import java.util.Optional;
+
+/**
+ * Периодически сверяет user_follow_counts с subscription и исправляет расхождения.
+ * Пользователи обходятся диапазонами id, каждый диапазон - отдельный короткий запрос,
+ * поэтому строки счетчиков не блокируются на время всей сверки. Сверку выполняет один узел:
+ * остальные пропускают запуск, пока она идет.
+ */
+@Slf4j
+@Component
+public class SubscriptionCounterReconciler {
+    private final SubscriptionCounterRepository subscriptionCounterRepository;
+    private final int chunkSize;
+
+    public SubscriptionCounterReconciler(SubscriptionCounterRepository subscriptionCounterRepository,
+                                         @Value("${subscriptions.counters.reconcile-chunk-size}") int chunkSize) {
+        this.subscriptionCounterRepository = subscriptionCounterRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${subscriptions.counters.reconcile-cron}")
+    public int reconcile() {
+        Optional<Integer> repaired = subscriptionCounterRepository.withReconcileLock(this::reconcileAll);
+        if (repaired.isEmpty()) {
+            log.info("Follower counters are being reconciled by another node, skipping");
+        }
+        return repaired.orElse(0);
+    }
+
+    private int reconcileAll() {
+        Long maxUserId = subscriptionCounterRepository.findMaxUserId();
+        if (maxUserId == null) {
+            return 0;
+        }
+        int repaired = 0;
+        for (long fromId = 0; fromId <= maxUserId; fromId += chunkSize) {
+            repaired += subscriptionCounterRepository.reconcileRange(fromId, fromId + chunkSize - 1);
+        }
+        if (repaired > 0) {
+            log.warn("Follower counters drifted, repaired {} rows", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,79 @@
+package school.faang.user_service.service.subscription.graph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Изменения ребер поверх неизменяемого {@link FollowGraph}. Для каждого ребра хранится итоговое
+ * состояние (true - подписка есть, false - удалена), а не приращение, поэтому повторное применение
+ * того же события ничего не ломает. Не потокобезопасен, доступ синхронизирует {@link FollowGraphIndex}.
+ */
+final class EdgeDelta {
+    private final Map<Long, Map<Long, Boolean>> out = new HashMap<>();
+    private final Map<Long, Map<Long, Boolean>> in = new HashMap<>();
+    private int size;
+
+    void put(long followerId, long followeeId, boolean present) {
+        Boolean previous = out.computeIfAbsent(followerId, id -> new HashMap<>()).put(followeeId, present);
+        in.computeIfAbsent(followeeId, id -> new HashMap<>()).put(followerId, present);
+        if (previous == null) {
+            size++;
+        }
+    }
+
+    Boolean get(long followerId, long followeeId) {
+        Map<Long, Boolean> followees = out.get(followerId);
+        return followees == null ? null : followees.get(followeeId);
+    }
+
+    // Изменения подписок пользователя: followeeId -> состояние
+    Map<Long, Boolean> followeesOf(long userId) {
+        return out.getOrDefault(userId, Map.of());
+    }
+
+    // Изменения подписчиков пользователя: followerId -> состояние
+    Map<Long, Boolean> followersOf(long userId) {
+        return in.getOrDefault(userId, Map.of());
+    }
+
+    int size() {
+        return size;
+    }
+
+    EdgeDelta copy() {
+        EdgeDelta copy = new EdgeDelta();
+        forEach((followerId, followeeId, present) -> copy.put(followerId, followeeId, present));
+        return copy;
+    }
+
+    // Убирает изменения, уже вошедшие в новый граф; изменения, пришедшие после копирования, остаются
+    void removeApplied(EdgeDelta applied) {
+        applied.forEach((followerId, followeeId, present) -> {
+            Map<Long, Boolean> followees = out.get(followerId);
+            if (followees == null || !Boolean.valueOf(present).equals(followees.get(followeeId))) {
+                return;
+            }
+            remove(out, followerId, followeeId);
+            remove(in, followeeId, followerId);
+            size--;
+        });
+    }
+
+    void forEach(EdgeChange change) {
+        out.forEach((followerId, followees) -> followees.forEach(
+                (followeeId, present) -> change.accept(followerId, followeeId, present)));
+    }
+
+    private static void remove(Map<Long, Map<Long, Boolean>> edges, long from, long to) {
+        Map<Long, Boolean> row = edges.get(from);
+        row.remove(to);
+        if (row.isEmpty()) {
+            edges.remove(from);
+        }
+    }
+
+    @FunctionalInterface
+    interface EdgeChange {
+        void accept(long followerId, long followeeId, boolean present);
+    }
+}
@@ -0,0 +1,186 @@
+package school.faang.user_service.service.subscription.graph;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемый граф подписок в формате compressed sparse row. Вершины - отсортированный массив id
+ * пользователей, ребра хранятся индексами вершин: строка i массива targets - это диапазон
+ * [offsets[i], offsets[i + 1]), отсортированный по возрастанию. Граф хранится в двух направлениях
+ * (подписки и подписчики), поэтому на ребро приходится 8 байт.
+ */
+public final class FollowGraph {
+    static final long[] NO_USERS = new long[0];
+    private static final FollowGraph EMPTY = new Builder().build();
+
+    private final long[] userIds;
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inSources;
+
+    private FollowGraph(long[] userIds, int[] outOffsets, int[] outTargets, int[] inOffsets, int[] inSources) {
+        this.userIds = userIds;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.inOffsets = inOffsets;
+        this.inSources = inSources;
+    }
+
+    public static FollowGraph empty() {
+        return EMPTY;
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public int edgeCount() {
+        return outTargets.length;
+    }
+
+    public boolean follows(long followerId, long followeeId) {
+        int follower = indexOf(followerId);
+        int followee = indexOf(followeeId);
+        return follower >= 0 && followee >= 0 && hasEdge(follower, followee);
+    }
+
+    // id пользователей, на которых подписан userId, по возрастанию
+    public long[] followees(long userId) {
+        return row(userId, outOffsets, outTargets);
+    }
+
+    // id подписчиков userId по возрастанию
+    public long[] followers(long userId) {
+        return row(userId, inOffsets, inSources);
+    }
+
+    public int followeeCount(long userId) {
+        int index = indexOf(userId);
+        return index < 0 ? 0 : outOffsets[index + 1] - outOffsets[index];
+    }
+
+    public int followerCount(long userId) {
+        int index = indexOf(userId);
+        return index < 0 ? 0 : inOffsets[index + 1] - inOffsets[index];
+    }
+
+    long userIdAt(int index) {
+        return userIds[index];
+    }
+
+    int followeesStart(int index) {
+        return outOffsets[index];
+    }
+
+    int followeesEnd(int index) {
+        return outOffsets[index + 1];
+    }
+
+    int followeeAt(int edge) {
+        return outTargets[edge];
+    }
+
+    boolean hasEdge(int follower, int followee) {
+        return Arrays.binarySearch(outTargets, outOffsets[follower], outOffsets[follower + 1], followee) >= 0;
+    }
+
+    void forEachEdge(EdgeConsumer consumer) {
+        for (int follower = 0; follower < userIds.length; follower++) {
+            for (int edge = outOffsets[follower]; edge < outOffsets[follower + 1]; edge++) {
+                consumer.accept(userIds[follower], userIds[outTargets[edge]]);
+            }
+        }
+    }
+
+    private long[] row(long userId, int[] offsets, int[] targets) {
+        int index = indexOf(userId);
+        if (index < 0 || offsets[index] == offsets[index + 1]) {
+            return NO_USERS;
+        }
+        long[] ids = new long[offsets[index + 1] - offsets[index]];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = userIds[targets[offsets[index] + i]];
+        }
+        return ids;
+    }
+
+    // Индекс вершины пользователя или -1, если у него нет ни подписок, ни подписчиков
+    int indexOf(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index < 0 ? -1 : index;
+    }
+
+    @FunctionalInterface
+    public interface EdgeConsumer {
+        void accept(long followerId, long followeeId);
+    }
+
+    /**
+     * Собирает граф из потока ребер. Ребра копятся в двух растущих массивах long,
+     * на этапе build вершины сортируются, а ребра раскладываются подсчетом по строкам.
+     */
+    public static final class Builder implements EdgeConsumer {
+        private long[] followers = new long[1024];
+        private long[] followees = new long[1024];
+        private int size;
+
+        @Override
+        public void accept(long followerId, long followeeId) {
+            if (size == followers.length) {
+                followers = Arrays.copyOf(followers, size * 2);
+                followees = Arrays.copyOf(followees, size * 2);
+            }
+            followers[size] = followerId;
+            followees[size] = followeeId;
+            size++;
+        }
+
+        public FollowGraph build() {
+            long[] userIds = uniqueSorted();
+            int[] from = new int[size];
+            int[] to = new int[size];
+            for (int i = 0; i < size; i++) {
+                from[i] = Arrays.binarySearch(userIds, followers[i]);
+                to[i] = Arrays.binarySearch(userIds, followees[i]);
+            }
+            int[] outOffsets = new int[userIds.length + 1];
+            int[] outTargets = new int[size];
+            fill(from, to, outOffsets, outTargets);
+            int[] inOffsets = new int[userIds.length + 1];
+            int[] inSources = new int[size];
+            fill(to, from, inOffsets, inSources);
+            return new FollowGraph(userIds, outOffsets, outTargets, inOffsets, inSources);
+        }
+
+        private long[] uniqueSorted() {
+            long[] ids = new long[size * 2];
+            System.arraycopy(followers, 0, ids, 0, size);
+            System.arraycopy(followees, 0, ids, size, size);
+            Arrays.sort(ids);
+            int unique = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            return Arrays.copyOf(ids, unique);
+        }
+
+        // Сортировка подсчетом по вершине-источнику, затем сортировка каждой строки
+        private void fill(int[] sources, int[] targets, int[] offsets, int[] row) {
+            for (int source : sources) {
+                offsets[source + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+            for (int i = 0; i < sources.length; i++) {
+                row[next[sources[i]]++] = targets[i];
+            }
+            for (int i = 0; i + 1 < offsets.length; i++) {
+                Arrays.sort(row, offsets[i], offsets[i + 1]);
+            }
+        }
+    }
+}
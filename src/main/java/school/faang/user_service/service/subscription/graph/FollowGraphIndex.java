@@ -0,0 +1,287 @@
+package school.faang.user_service.service.subscription.graph;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import school.faang.user_service.dto.subscription.FollowDegreeDto;
+import school.faang.user_service.dto.subscription.FollowGraphLoadedEvent;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+import school.faang.user_service.exception.ServiceNotReadyException;
+import school.faang.user_service.repository.FollowGraphRepository;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+
+/**
+ * Граф подписок в памяти процесса для социальных запросов: взаимные подписчики, пересечения, степени.
+ * Основа - неизменяемый {@link FollowGraph} в формате CSR (несколько байт на ребро), поверх него -
+ * небольшой {@link EdgeDelta} с подписками, зафиксированными после построения. Когда дельта
+ * дорастает до {@code subscriptions.graph.compaction-threshold}, она в фоне вливается в новый граф.
+ * Граф строится из subscription после старта приложения и пересобирается по расписанию.
+ */
+@Slf4j
+@Component
+public class FollowGraphIndex {
+    private final FollowGraphRepository followGraphRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int compactionThreshold;
+    // Один поток: построение и слияние графа никогда не идут параллельно
+    private final ExecutorService graphExecutor = Executors.newSingleThreadExecutor();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FollowGraph graph = FollowGraph.empty();
+    private EdgeDelta delta = new EdgeDelta();
+    // Изменения, пришедшие после начала пересборки: только они остаются дельтой нового графа
+    private EdgeDelta changedDuringRebuild;
+    private boolean compactionScheduled;
+    private volatile boolean loaded;
+
+    public FollowGraphIndex(FollowGraphRepository followGraphRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${subscriptions.graph.compaction-threshold}") int compactionThreshold) {
+        this.followGraphRepository = followGraphRepository;
+        this.eventPublisher = eventPublisher;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        graphExecutor.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        graphExecutor.execute(this::rebuild);
+    }
+
+    @Scheduled(cron = "${subscriptions.graph.rebuild-cron}")
+    public void scheduleRebuild() {
+        graphExecutor.execute(this::rebuild);
+    }
+
+    // Полная пересборка из БД. Все, что было в дельте до начала чтения, уже есть в БД, поэтому новая дельта
+    // состоит только из изменений, зафиксированных после начала: ошибочная запись старой дельты не переживет пересборку
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new EdgeDelta();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            FollowGraph.Builder builder = new FollowGraph.Builder();
+            followGraphRepository.forEachEdge(builder::accept);
+            FollowGraph rebuilt = builder.build();
+            lock.writeLock().lock();
+            try {
+                graph = rebuilt;
+                delta = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            boolean firstLoad = !loaded;
+            loaded = true;
+            log.info("Follow graph loaded: {} users, {} edges", rebuilt.userCount(), rebuilt.edgeCount());
+            if (firstLoad) {
+                eventPublisher.publishEvent(new FollowGraphLoadedEvent(rebuilt.userCount(), rebuilt.edgeCount()));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Failed to load follow graph", e);
+        }
+    }
+
+    // Применяется только после коммита: откатившиеся подписки в граф не попадают
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (long followeeId : event.followeeIds()) {
+                delta.put(event.followerId(), followeeId, event.followed());
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(event.followerId(), followeeId, event.followed());
+                }
+            }
+            if (delta.size() >= compactionThreshold && !compactionScheduled) {
+                compactionScheduled = true;
+                graphExecutor.execute(this::compact);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Новый граф строится вне блокировки по копии дельты, читатели в это время работают со старым
+    void compact() {
+        FollowGraph base;
+        EdgeDelta applied;
+        lock.readLock().lock();
+        try {
+            base = graph;
+            applied = delta.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        base.forEachEdge((followerId, followeeId) -> {
+            if (!Boolean.FALSE.equals(applied.get(followerId, followeeId))) {
+                builder.accept(followerId, followeeId);
+            }
+        });
+        applied.forEach((followerId, followeeId, present) -> {
+            if (present && !base.follows(followerId, followeeId)) {
+                builder.accept(followerId, followeeId);
+            }
+        });
+        FollowGraph merged = builder.build();
+
+        lock.writeLock().lock();
+        try {
+            graph = merged;
+            delta.removeApplied(applied);
+            compactionScheduled = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Текущий граф без непримененной дельты: для пакетных расчетов, которым не нужна точность до секунды
+    public FollowGraph snapshot() {
+        lock.readLock().lock();
+        try {
+            return graph;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean follows(long followerId, long followeeId) {
+        checkLoaded();
+        lock.readLock().lock();
+        try {
+            Boolean changed = delta.get(followerId, followeeId);
+            return changed != null ? changed : graph.follows(followerId, followeeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] followers(long userId) {
+        checkLoaded();
+        lock.readLock().lock();
+        try {
+            return apply(graph.followers(userId), delta.followersOf(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] followees(long userId) {
+        checkLoaded();
+        lock.readLock().lock();
+        try {
+            return apply(graph.followees(userId), delta.followeesOf(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Пользователи, подписанные и на userId, и на otherUserId
+    public long[] commonFollowers(long userId, long otherUserId) {
+        return intersect(followers(userId), followers(otherUserId));
+    }
+
+    // Пользователи, на которых подписаны и userId, и otherUserId
+    public long[] commonFollowees(long userId, long otherUserId) {
+        return intersect(followees(userId), followees(otherUserId));
+    }
+
+    // Взаимные подписки: userId подписан на пользователя, и тот подписан на userId
+    public long[] mutuals(long userId) {
+        checkLoaded();
+        lock.readLock().lock();
+        try {
+            return intersect(apply(graph.followees(userId), delta.followeesOf(userId)),
+                    apply(graph.followers(userId), delta.followersOf(userId)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public FollowDegreeDto degree(long userId) {
+        checkLoaded();
+        lock.readLock().lock();
+        try {
+            Map<Long, Boolean> followers = delta.followersOf(userId);
+            Map<Long, Boolean> followees = delta.followeesOf(userId);
+            int followersCount = followers.isEmpty()
+                    ? graph.followerCount(userId) : apply(graph.followers(userId), followers).length;
+            int followeesCount = followees.isEmpty()
+                    ? graph.followeeCount(userId) : apply(graph.followees(userId), followees).length;
+            return new FollowDegreeDto(userId, followersCount, followeesCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // До первой загрузки граф пуст, и ответы по нему были бы неверными; клиент получает 503 и повторяет запрос
+    private void checkLoaded() {
+        if (!loaded) {
+            throw new ServiceNotReadyException("Follow graph is not loaded yet");
+        }
+    }
+
+    // Накладывает изменения на отсортированную строку графа, результат тоже отсортирован
+    private static long[] apply(long[] base, Map<Long, Boolean> changes) {
+        if (changes.isEmpty()) {
+            return base;
+        }
+        LongStream kept = Arrays.stream(base).filter(id -> !Boolean.FALSE.equals(changes.get(id)));
+        LongStream added = changes.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .mapToLong(Map.Entry::getKey);
+        return LongStream.concat(kept, added).sorted().distinct().toArray();
+    }
+
+    // Пересечение двух отсортированных массивов слиянием
+    static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+}
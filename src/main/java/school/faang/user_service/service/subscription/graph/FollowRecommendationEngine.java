@@ -0,0 +1,243 @@
+package school.faang.user_service.service.subscription.graph;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.subscription.FollowGraphLoadedEvent;
+import school.faang.user_service.dto.subscription.FollowRecommendationDto;
+import school.faang.user_service.repository.FollowGraphRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Рекомендации "на кого подписаться": кандидаты второго круга (подписки подписок), которых пользователь
+ * еще не читает. Вес кандидата - число подписок пользователя, читающих кандидата, плюс число общих навыков.
+ * Top-K для всех пользователей пересчитывается на fork-join пуле по расписанию и сразу после первой загрузки
+ * графа; пользователи делятся на диапазоны id. Запросы обслуживаются из последнего рассчитанного снимка,
+ * где кандидаты пользователя хранятся одним int[] по {@link #CANDIDATE_FIELDS} числа на кандидата.
+ */
+@Slf4j
+@Component
+public class FollowRecommendationEngine {
+    private static final int RANGE_SIZE = 256;
+    // Индекс вершины кандидата, число общих подписок, число общих навыков
+    static final int CANDIDATE_FIELDS = 3;
+    private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingInt(Candidate::score)
+            .thenComparingInt(Candidate::sharedFollowees)
+            .thenComparing(Comparator.comparingInt(Candidate::index).reversed());
+
+    private final FollowGraphIndex followGraphIndex;
+    private final FollowGraphRepository followGraphRepository;
+    private final int topK;
+    private final ForkJoinPool recommendationPool;
+    private final AtomicBoolean computing = new AtomicBoolean();
+    private volatile Snapshot snapshot = new Snapshot(FollowGraph.empty(), new int[0][]);
+
+    public FollowRecommendationEngine(FollowGraphIndex followGraphIndex,
+                                      FollowGraphRepository followGraphRepository,
+                                      @Value("${subscriptions.recommendations.top-k}") int topK,
+                                      @Value("${subscriptions.recommendations.parallelism}") int parallelism) {
+        this.followGraphIndex = followGraphIndex;
+        this.followGraphRepository = followGraphRepository;
+        this.topK = topK;
+        this.recommendationPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recommendationPool.shutdown();
+    }
+
+    @Scheduled(cron = "${subscriptions.recommendations.cron}")
+    public void scheduleRecompute() {
+        submitRecompute();
+    }
+
+    // До первой загрузки графа пересчет пропускается, поэтому первый расчет запускается по ее событию
+    @EventListener
+    public void onGraphLoaded(FollowGraphLoadedEvent event) {
+        submitRecompute();
+    }
+
+    // Расчет уходит в пул рекомендаций и не занимает поток планировщика; пока он идет, новые запуски пропускаются
+    void submitRecompute() {
+        if (!computing.compareAndSet(false, true)) {
+            log.info("Follow recommendations are still being recomputed, run skipped");
+            return;
+        }
+        try {
+            recommendationPool.execute(() -> {
+                try {
+                    recompute();
+                } catch (RuntimeException e) {
+                    log.error("Failed to recompute follow recommendations", e);
+                } finally {
+                    computing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            computing.set(false);
+            log.warn("Recommendation pool is shut down, recompute skipped");
+        }
+    }
+
+    public void recompute() {
+        if (!followGraphIndex.isLoaded()) {
+            log.info("Follow graph is not loaded yet, recommendations are not recomputed");
+            return;
+        }
+        long started = System.nanoTime();
+        FollowGraph graph = followGraphIndex.snapshot();
+        UserSkills.Builder skills = new UserSkills.Builder();
+        followGraphRepository.forEachUserSkill(skills::accept);
+
+        int[][] candidates = new int[graph.userCount()][];
+        // Счетчики размером с граф переиспользуются между диапазонами и освобождаются вместе с пулом после расчета;
+        // ThreadLocal оставил бы их висеть в потоках fork-join пула до следующего пересчета
+        Queue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+        recommendationPool.invoke(new RangeTask(graph, skills.build(), scratchPool, candidates, 0, graph.userCount()));
+        snapshot = new Snapshot(graph, candidates);
+        log.info("Follow recommendations recomputed for {} users in {} ms",
+                graph.userCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // Уже оформленные с момента расчета подписки отфильтровываются по актуальному графу
+    public List<FollowRecommendationDto> getRecommendations(long userId, int limit) {
+        Snapshot current = snapshot;
+        int index = current.graph().indexOf(userId);
+        if (index < 0 || current.candidates()[index] == null) {
+            return List.of();
+        }
+        int[] ranked = current.candidates()[index];
+        List<FollowRecommendationDto> recommendations = new ArrayList<>(Math.min(limit, topK));
+        for (int offset = 0; offset < ranked.length; offset += CANDIDATE_FIELDS) {
+            long candidateId = current.graph().userIdAt(ranked[offset]);
+            if (!followGraphIndex.follows(userId, candidateId)) {
+                recommendations.add(new FollowRecommendationDto(candidateId, ranked[offset + 1], ranked[offset + 2]));
+                if (recommendations.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return recommendations;
+    }
+
+    int[] rank(FollowGraph graph, UserSkills skills, Scratch scratch, int user) {
+        long userId = graph.userIdAt(user);
+        int[] counters = scratch.counters;
+        int[] touched = scratch.touched;
+        int touchedCount = 0;
+        for (int edge = graph.followeesStart(user); edge < graph.followeesEnd(user); edge++) {
+            int followee = graph.followeeAt(edge);
+            for (int next = graph.followeesStart(followee); next < graph.followeesEnd(followee); next++) {
+                int candidate = graph.followeeAt(next);
+                if (candidate != user && counters[candidate]++ == 0) {
+                    touched[touchedCount++] = candidate;
+                }
+            }
+        }
+
+        PriorityQueue<Candidate> top = new PriorityQueue<>(topK + 1, WORST_FIRST);
+        for (int i = 0; i < touchedCount; i++) {
+            int candidate = touched[i];
+            int sharedFollowees = counters[candidate];
+            counters[candidate] = 0;
+            if (graph.hasEdge(user, candidate)) {
+                continue;
+            }
+            int sharedSkills = skills.sharedCount(userId, graph.userIdAt(candidate));
+            top.add(new Candidate(candidate, sharedFollowees, sharedSkills));
+            if (top.size() > topK) {
+                top.poll();
+            }
+        }
+        if (top.isEmpty()) {
+            return null;
+        }
+        Candidate[] ranked = top.toArray(new Candidate[0]);
+        Arrays.sort(ranked, WORST_FIRST.reversed());
+        int[] packed = new int[ranked.length * CANDIDATE_FIELDS];
+        for (int i = 0; i < ranked.length; i++) {
+            packed[i * CANDIDATE_FIELDS] = ranked[i].index();
+            packed[i * CANDIDATE_FIELDS + 1] = ranked[i].sharedFollowees();
+            packed[i * CANDIDATE_FIELDS + 2] = ranked[i].sharedSkills();
+        }
+        return packed;
+    }
+
+    record Candidate(int index, int sharedFollowees, int sharedSkills) {
+        int score() {
+            return sharedFollowees + sharedSkills;
+        }
+    }
+
+    // Счетчики по вершинам и список затронутых вершин; после каждого пользователя счетчики снова нулевые
+    static final class Scratch {
+        private final int[] counters;
+        private final int[] touched;
+
+        Scratch(int userCount) {
+            this.counters = new int[userCount];
+            this.touched = new int[userCount];
+        }
+    }
+
+    private record Snapshot(FollowGraph graph, int[][] candidates) {
+    }
+
+    // Диапазон вершин [from, to) делится пополам, пока не станет не больше RANGE_SIZE пользователей
+    private class RangeTask extends RecursiveAction {
+        private final FollowGraph graph;
+        private final UserSkills skills;
+        private final Queue<Scratch> scratchPool;
+        private final int[][] candidates;
+        private final int from;
+        private final int to;
+
+        RangeTask(FollowGraph graph, UserSkills skills, Queue<Scratch> scratchPool, int[][] candidates,
+                  int from, int to) {
+            this.graph = graph;
+            this.skills = skills;
+            this.scratchPool = scratchPool;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= RANGE_SIZE) {
+                Scratch scratch = scratchPool.poll();
+                if (scratch == null) {
+                    scratch = new Scratch(graph.userCount());
+                }
+                try {
+                    for (int user = from; user < to; user++) {
+                        candidates[user] = rank(graph, skills, scratch, user);
+                    }
+                } finally {
+                    scratchPool.offer(scratch);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(graph, skills, scratchPool, candidates, from, middle),
+                    new RangeTask(graph, skills, scratchPool, candidates, middle, to));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package school.faang.user_service.service.subscription.graph;
+
+import java.util.Arrays;
+
+/**
+ * Навыки пользователей в том же формате CSR, что и {@link FollowGraph}: отсортированные id пользователей,
+ * смещения и отсортированные id навыков. Строится из пар, уже упорядоченных по (user_id, skill_id).
+ */
+final class UserSkills {
+    private final long[] userIds;
+    private final int[] offsets;
+    private final long[] skillIds;
+
+    private UserSkills(long[] userIds, int[] offsets, long[] skillIds) {
+        this.userIds = userIds;
+        this.offsets = offsets;
+        this.skillIds = skillIds;
+    }
+
+    // Число общих навыков двух пользователей, слиянием двух отсортированных строк
+    int sharedCount(long userId, long otherUserId) {
+        int left = Arrays.binarySearch(userIds, userId);
+        int right = Arrays.binarySearch(userIds, otherUserId);
+        if (left < 0 || right < 0) {
+            return 0;
+        }
+        int count = 0;
+        int i = offsets[left];
+        int j = offsets[right];
+        while (i < offsets[left + 1] && j < offsets[right + 1]) {
+            if (skillIds[i] < skillIds[j]) {
+                i++;
+            } else if (skillIds[i] > skillIds[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    static final class Builder implements FollowGraph.EdgeConsumer {
+        private long[] userIds = new long[256];
+        private int[] offsets = new int[257];
+        private long[] skillIds = new long[1024];
+        private int users;
+        private int size;
+
+        @Override
+        public void accept(long userId, long skillId) {
+            if (users == 0 || userIds[users - 1] != userId) {
+                if (users == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, users * 2);
+                    offsets = Arrays.copyOf(offsets, users * 2 + 1);
+                }
+                userIds[users] = userId;
+                offsets[users] = size;
+                users++;
+            }
+            if (size == skillIds.length) {
+                skillIds = Arrays.copyOf(skillIds, size * 2);
+            }
+            skillIds[size++] = skillId;
+            offsets[users] = size;
+        }
+
+        UserSkills build() {
+            return new UserSkills(Arrays.copyOf(userIds, users), Arrays.copyOf(offsets, users + 1),
+                    Arrays.copyOf(skillIds, size));
+        }
+    }
+}
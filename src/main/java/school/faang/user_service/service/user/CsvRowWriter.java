@@ -0,0 +1,47 @@
+package school.faang.user_service.service.user;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Пишет строки CSV через {@link SequenceWriter}; заголовок берется из схемы писателя.
+ * Поток сбрасывается клиенту каждые {@value #FLUSH_EVERY} строк, сам поток ответа не закрывается.
+ */
+public class CsvRowWriter implements RowWriter {
+    private static final int FLUSH_EVERY = 100;
+    private final SequenceWriter sequenceWriter;
+    private int written;
+
+    public CsvRowWriter(ObjectWriter csvWriter, OutputStream outputStream) {
+        try {
+            this.sequenceWriter = csvWriter.writeValues(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(Object row) {
+        try {
+            sequenceWriter.write(row);
+            if (++written % FLUSH_EVERY == 0) {
+                sequenceWriter.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            sequenceWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
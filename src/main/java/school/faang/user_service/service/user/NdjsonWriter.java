@@ -0,0 +1,46 @@
+package school.faang.user_service.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Пишет объекты в формате NDJSON: один JSON-документ на строку.
+ * Поток сбрасывается клиенту каждые {@value #FLUSH_EVERY} строк.
+ */
+public class NdjsonWriter implements RowWriter {
+    private static final int FLUSH_EVERY = 100;
+    private static final byte NEW_LINE = '\n';
+    private final ObjectMapper objectMapper;
+    private final OutputStream outputStream;
+    private int written;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void write(Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write(NEW_LINE);
+            if (++written % FLUSH_EVERY == 0) {
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package school.faang.user_service.service.user;
+
+/**
+ * Построчная запись выгрузки в поток ответа.
+ */
+public interface RowWriter {
+
+    void write(Object row);
+
+    void flush();
+}
@@ -0,0 +1,68 @@
+package school.faang.user_service.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.repository.UserReadRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Загружает пользователей пачками: список id режется на куски ограниченного размера,
+ * и каждый кусок уходит в базу одним запросом {@code WHERE id IN (...)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBatchLoader {
+    private final UserReadRepository userReadRepository;
+
+    @Value("${users.batch-lookup.chunk-size}")
+    private int chunkSize;
+
+    public Map<Long, UserDto> loadByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+
+        Map<Long, UserDto> usersById = new HashMap<>(uniqueIds.size());
+        for (List<Long> chunk : toChunks(uniqueIds)) {
+            userReadRepository.findAllByIds(chunk)
+                    .forEach(user -> usersById.put(user.getId(), user));
+        }
+        return usersById;
+    }
+
+    // Пользователи в порядке переданных id; отсутствующие в БД id пропускаются
+    public List<UserDto> loadInOrder(List<Long> ids) {
+        Map<Long, UserDto> usersById = loadByIds(ids);
+        List<UserDto> users = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            UserDto user = usersById.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    private List<List<Long>> toChunks(Set<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> current = new ArrayList<>(Math.min(chunkSize, ids.size()));
+        for (Long id : ids) {
+            current.add(id);
+            if (current.size() == chunkSize) {
+                chunks.add(current);
+                current = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
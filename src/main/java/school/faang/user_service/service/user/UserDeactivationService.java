@@ -0,0 +1,115 @@
+package school.faang.user_service.service.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import school.faang.user_service.dto.UserDeactivationReportDto;
+import school.faang.user_service.dto.UserProfileChangedEvent;
+import school.faang.user_service.repository.UserDeactivationRepository;
+import school.faang.user_service.service.user.cache.UserProfileCache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Деактивация пользователей фиксированным набором set-based запросов:
+ * удаление целей без других участников, удаление своих событий, выход из очередей ожидания,
+ * завершение менторства и снятие флага active. Для одной пачки все запросы выполняются в одной транзакции,
+ * кэш профилей сбрасывается после ее коммита - и деактивированных, и участников их событий, целей и менти.
+ */
+@Slf4j
+@Service
+public class UserDeactivationService {
+    private static final String MESSAGE_USER_NOT_EXIST = "User does not exist";
+    private static final String MESSAGE_USER_ALREADY_DEACTIVATED = "User is already deactivated";
+    private final UserDeactivationRepository deactivationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${users.deactivation.chunk-size}")
+    private int chunkSize;
+
+    public UserDeactivationService(UserDeactivationRepository deactivationRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   UserProfileCache userProfileCache,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.deactivationRepository = deactivationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userProfileCache = userProfileCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void deactivate(long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean active = deactivationRepository.findActiveFlags(List.of(userId)).get(userId);
+            if (active == null) {
+                throw new RuntimeException(MESSAGE_USER_NOT_EXIST);
+            }
+            if (!active) {
+                throw new RuntimeException(MESSAGE_USER_ALREADY_DEACTIVATED);
+            }
+            deactivateChunk(List.of(userId));
+        });
+        userProfileCache.evict(List.of(userId));
+    }
+
+    // Каждая пачка - отдельная транзакция, чтобы не держать блокировки на весь список
+    public UserDeactivationReportDto deactivateAll(List<Long> ids) {
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        uniqueIds.remove(null);
+        int chunks = (uniqueIds.size() + chunkSize - 1) / chunkSize;
+
+        UserDeactivationReportDto report = new UserDeactivationReportDto(
+                uniqueIds.size(), 0, new ArrayList<>(), new ArrayList<>());
+        for (int from = 0, chunk = 1; from < uniqueIds.size(); from += chunkSize, chunk++) {
+            List<Long> chunkIds = uniqueIds.subList(from, Math.min(from + chunkSize, uniqueIds.size()));
+            List<Long> deactivatedIds = transactionTemplate.execute(status -> deactivateExisting(chunkIds, report));
+            userProfileCache.evict(deactivatedIds);
+            report.setDeactivated(report.getDeactivated() + deactivatedIds.size());
+            log.info("Deactivation chunk {}/{} done: {} users deactivated, {} in total",
+                    chunk, chunks, deactivatedIds.size(), report.getDeactivated());
+        }
+        return report;
+    }
+
+    // Возвращает id, деактивированные в этой пачке; строки заблокированы, поэтому все они активны до коммита
+    private List<Long> deactivateExisting(List<Long> chunkIds, UserDeactivationReportDto report) {
+        Map<Long, Boolean> activeFlags = deactivationRepository.findActiveFlags(chunkIds);
+        List<Long> activeIds = new ArrayList<>(chunkIds.size());
+        for (Long id : chunkIds) {
+            Boolean active = activeFlags.get(id);
+            if (active == null) {
+                report.getNotFoundIds().add(id);
+            } else if (!active) {
+                report.getAlreadyDeactivatedIds().add(id);
+            } else {
+                activeIds.add(id);
+            }
+        }
+        if (!activeIds.isEmpty()) {
+            deactivateChunk(activeIds);
+        }
+        return activeIds;
+    }
+
+    // Профили остальных затронутых пользователей сбрасываются после коммита через событие
+    private void deactivateChunk(List<Long> ids) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        changedIds.addAll(deactivationRepository.deleteSoloGoals(ids));
+        changedIds.addAll(deactivationRepository.deleteOwnedEvents(ids));
+        deactivationRepository.deleteWaitlistEntries(ids);
+        changedIds.addAll(deactivationRepository.deleteMentorships(ids));
+        deactivationRepository.deactivateUsers(ids);
+        ids.forEach(changedIds::remove);
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(List.copyOf(changedIds)));
+        }
+    }
+}
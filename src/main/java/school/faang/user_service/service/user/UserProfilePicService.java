@@ -0,0 +1,135 @@
+package school.faang.user_service.service.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import school.faang.user_service.dto.ProfilePicDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.UserProfilePic;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.exception.NotFoundException;
+import school.faang.user_service.repository.UserRepository;
+import school.faang.user_service.service.user.content.ContentStore;
+import school.faang.user_service.service.user.content.StoredContent;
+import school.faang.user_service.service.user.thumbnail.ProfilePicThumbnailService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Аватары пользователей. Содержимое лежит в {@link ContentStore}, у пользователя хранится только fileId.
+ * Новый файл сохраняется до обновления пользователя, старый удаляется после; при ошибке
+ * обновления удаляется только что загруженный файл. Миниатюра строится асинхронно после загрузки.
+ */
+@Slf4j
+@Service
+public class UserProfilePicService {
+    private final UserRepository userRepository;
+    private final ContentStore contentStore;
+    private final ProfilePicThumbnailService thumbnailService;
+    private final long maxSize;
+
+    public UserProfilePicService(UserRepository userRepository, ContentStore contentStore,
+                                 ProfilePicThumbnailService thumbnailService,
+                                 @Value("${services.content.max-size}") DataSize maxSize) {
+        this.userRepository = userRepository;
+        this.contentStore = contentStore;
+        this.thumbnailService = thumbnailService;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    public ProfilePicDto upload(long userId, MultipartFile file) {
+        validate(file);
+        User user = userRepository.getById(userId);
+        StoredContent stored;
+        try (InputStream content = file.getInputStream()) {
+            stored = contentStore.save(content, file.getContentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        UserProfilePic previous = user.getUserProfilePic();
+        UserProfilePic profilePic = new UserProfilePic();
+        profilePic.setFileId(stored.fileId());
+        user.setUserProfilePic(profilePic);
+        try {
+            userRepository.save(user);
+        } catch (RuntimeException e) {
+            contentStore.delete(stored.fileId());
+            throw e;
+        }
+        deleteFiles(previous);
+        thumbnailService.generate(userId, stored);
+        return toDto(stored);
+    }
+
+    // Пока миниатюра не готова, вместо нее отдается исходный аватар
+    public ProfilePicDto getProfilePic(long userId, boolean small) {
+        return toDto(findContent(userId, small));
+    }
+
+    public void read(ProfilePicDto profilePic, long offset, long length, OutputStream out) {
+        contentStore.read(profilePic.fileId(), offset, length, out);
+    }
+
+    public void delete(long userId) {
+        User user = userRepository.getById(userId);
+        UserProfilePic previous = user.getUserProfilePic();
+        if (previous == null || previous.getFileId() == null) {
+            return;
+        }
+        user.setUserProfilePic(null);
+        userRepository.save(user);
+        deleteFiles(previous);
+    }
+
+    private StoredContent findContent(long userId, boolean small) {
+        UserProfilePic profilePic = userRepository.getById(userId).getUserProfilePic();
+        if (profilePic == null || profilePic.getFileId() == null) {
+            throw new NotFoundException("User " + userId + " has no profile picture");
+        }
+        String fileId = small && profilePic.getSmallFileId() != null
+                ? profilePic.getSmallFileId()
+                : profilePic.getFileId();
+        return contentStore.find(fileId)
+                .orElseThrow(() -> new NotFoundException("Profile picture of user " + userId + " not found"));
+    }
+
+    private void validate(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new DataValidationException("Profile picture must not be empty");
+        }
+        if (file.getSize() > maxSize) {
+            throw new DataValidationException("Profile picture must not be larger than " + maxSize + " bytes");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new DataValidationException("Profile picture must be an image");
+        }
+    }
+
+    // Старые файлы удаляются после смены ссылки; ошибка удаления оставляет лишь неиспользуемый файл
+    private void deleteFiles(UserProfilePic profilePic) {
+        if (profilePic == null) {
+            return;
+        }
+        try {
+            if (profilePic.getFileId() != null) {
+                contentStore.delete(profilePic.getFileId());
+            }
+            if (profilePic.getSmallFileId() != null) {
+                contentStore.delete(profilePic.getSmallFileId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete previous profile picture {}", profilePic, e);
+        }
+    }
+
+    private ProfilePicDto toDto(StoredContent content) {
+        return new ProfilePicDto(content.fileId(), content.size(), content.contentType(), content.hash());
+    }
+}
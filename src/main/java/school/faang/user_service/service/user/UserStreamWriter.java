@@ -0,0 +1,55 @@
+package school.faang.user_service.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Потоковая выгрузка пользователей: id читаются серверным курсором с ограниченным fetch size,
+ * DTO догружаются пачками того же размера через read-модель и сразу пишутся в ответ.
+ * Вызывать внутри транзакции, иначе драйвер не держит курсор и читает весь результат сразу.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStreamWriter {
+    private final UserRepository userRepository;
+    private final UserBatchLoader userBatchLoader;
+
+    @Value("${users.streaming.fetch-size}")
+    private int fetchSize;
+
+    public void writeAll(Specification<User> specification, RowWriter writer) {
+        writeIds(userRepository.streamIdsOrderById(specification, fetchSize), writer);
+    }
+
+    public void writeIds(Stream<Long> idStream, RowWriter writer) {
+        try (idStream) {
+            Iterator<Long> ids = idStream.iterator();
+            List<Long> chunk = new ArrayList<>(fetchSize);
+            while (ids.hasNext()) {
+                chunk.add(ids.next());
+                if (chunk.size() == fetchSize) {
+                    writeChunk(writer, chunk);
+                }
+            }
+            writeChunk(writer, chunk);
+            writer.flush();
+        }
+    }
+
+    // DTO пачки id читаются одним запросом read-модели, после записи пачка очищается
+    private void writeChunk(RowWriter writer, List<Long> chunk) {
+        if (!chunk.isEmpty()) {
+            userBatchLoader.loadInOrder(chunk).forEach(writer::write);
+            chunk.clear();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package school.faang.user_service.service.user.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import school.faang.user_service.dto.UserCacheInvalidationEvent;
+import school.faang.user_service.dto.UserCacheStatsDto;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserProfileChangedEvent;
+import school.faang.user_service.publisher.UserCacheInvalidationPublisher;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Двухуровневый кэш профилей: ограниченный по размеру и TTL локальный кэш узла,
+ * за ним общий Redis с JSON-представлением {@link UserDto}.
+ * Сбои Redis не ломают чтение - запрос просто уходит в загрузчик.
+ * Инвалидация удаляет ключи в Redis и рассылает id через pub/sub, чтобы все узлы сбросили локальные копии.
+ * Каждая инвалидация увеличивает поколение id: загрузка, которая началась до нее, не оставит
+ * в Redis прочитанное из БД старое значение.
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+    private static final String KEY_PREFIX = "user:profile:";
+    private static final int GENERATION_STRIPES = 1024;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserCacheInvalidationPublisher invalidationPublisher;
+    private final Duration redisTtl;
+    private final Cache<Long, UserDto> nearCache;
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+    private final LongAdder staleWritesDropped = new LongAdder();
+    // Поколения по полосам id: совпадение полосы дает лишний пропуск записи, но не устаревшее значение
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserProfileCache(RedisTemplate<String, Object> redisTemplate,
+                            ObjectMapper objectMapper,
+                            UserCacheInvalidationPublisher invalidationPublisher,
+                            @Value("${users.cache.near.maximum-size}") long nearMaximumSize,
+                            @Value("${users.cache.near.ttl}") Duration nearTtl,
+                            @Value("${users.cache.redis.ttl}") Duration redisTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationPublisher = invalidationPublisher;
+        this.redisTtl = redisTtl;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(nearTtl)
+                .recordStats()
+                .build();
+    }
+
+    // Загрузка по одному ключу выполняется один раз, параллельные запросы того же id ждут ее результата.
+    // Если загрузчик вернул null, ничего не кэшируется
+    public UserDto get(long userId, LongFunction<UserDto> loader) {
+        return nearCache.get(userId, id -> loadThroughRedis(id, loader));
+    }
+
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        bumpGenerations(userIds);
+        nearCache.invalidateAll(userIds);
+        try {
+            redisTemplate.delete(userIds.stream().map(UserProfileCache::key).toList());
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete cached profiles {}, entries expire in {}", userIds, redisTtl, e);
+        }
+        try {
+            invalidationPublisher.publish(new UserCacheInvalidationEvent(List.copyOf(userIds)));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to broadcast invalidation of profiles {}", userIds, e);
+        }
+    }
+
+    // Вызывается при получении инвалидации от любого узла, включая текущий
+    public void evictLocal(Collection<Long> userIds) {
+        bumpGenerations(userIds);
+        nearCache.invalidateAll(userIds);
+    }
+
+    // События, менторы и цели входят в кэшируемый UserDto, поэтому их изменение сбрасывает профиль
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        evict(event.userIds());
+    }
+
+    public UserCacheStatsDto getStats() {
+        CacheStats stats = nearCache.stats();
+        return new UserCacheStatsDto(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                nearCache.estimatedSize(), redisHits.sum(), redisMisses.sum(), redisErrors.sum(),
+                staleWritesDropped.sum());
+    }
+
+    private UserDto loadThroughRedis(long userId, LongFunction<UserDto> loader) {
+        String key = key(userId);
+        UserDto cached = readFromRedis(key);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+        redisMisses.increment();
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        UserDto loaded = loader.apply(userId);
+        if (loaded == null) {
+            return null;
+        }
+        if (generations.get(stripe) != generation) {
+            // Пока читали БД, профиль инвалидировали: прочитанное могло устареть
+            staleWritesDropped.increment();
+            return loaded;
+        }
+        writeToRedis(key, loaded);
+        if (generations.get(stripe) != generation) {
+            // Инвалидация прошла между проверкой и записью - ее delete мог выполниться раньше нашего set
+            staleWritesDropped.increment();
+            deleteFromRedis(key);
+        }
+        return loaded;
+    }
+
+    private void bumpGenerations(Collection<Long> userIds) {
+        userIds.forEach(userId -> generations.incrementAndGet(stripe(userId)));
+    }
+
+    private void deleteFromRedis(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Failed to delete stale cached profile {}, entry expires in {}", key, redisTtl, e);
+        }
+    }
+
+    private UserDto readFromRedis(String key) {
+        try {
+            Object json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json.toString(), UserDto.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            redisErrors.increment();
+            log.warn("Failed to read cached profile {}", key, e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(String key, UserDto user) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(user), redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            redisErrors.increment();
+            log.warn("Failed to cache profile {}", key, e);
+        }
+    }
+
+    private static int stripe(long userId) {
+        return Long.hashCode(userId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static String key(long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,20 @@
+package school.faang.user_service.service.user.content;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Хранилище бинарного содержимого (аватары пользователей). Реализации пишут и читают данные
+ * кусками фиксированного размера и умеют отдавать произвольный диапазон байт для Range-запросов.
+ */
+public interface ContentStore {
+    StoredContent save(InputStream content, String contentType);
+
+    Optional<StoredContent> find(String fileId);
+
+    // Пишет в out байты [offset, offset + length) без закрытия потока
+    void read(String fileId, long offset, long length, OutputStream out);
+
+    void delete(String fileId);
+}
@@ -0,0 +1,197 @@
+package school.faang.user_service.service.user.content;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.exception.NotFoundException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Локальное файловое хранилище вместо замоканного S3 ({@code services.s3.isMocked: true}).
+ * Каждый объект - отдельный файл с именем из sha-256 содержимого, тип восстанавливается по расширению.
+ * Запись идет во временный файл и атомарно переименовывается, чтение - через FileChannel с позиции.
+ * Число ссылок на файл хранится рядом в {@code <fileId>.refs}; хранилище рассчитано на один экземпляр
+ * приложения, поэтому счетчики защищены блокировкой внутри JVM.
+ */
+@Component
+@ConditionalOnProperty(name = "services.s3.isMocked", havingValue = "true")
+public class FileSystemContentStore implements ContentStore {
+    private static final Pattern FILE_ID = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]+)?");
+    private static final String REFS_SUFFIX = ".refs";
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            MediaType.IMAGE_JPEG_VALUE, ".jpg",
+            MediaType.IMAGE_PNG_VALUE, ".png",
+            MediaType.IMAGE_GIF_VALUE, ".gif",
+            "image/webp", ".webp");
+    private final Path root;
+    private final int chunkSize;
+    private final Object refsLock = new Object();
+
+    public FileSystemContentStore(@Value("${services.content.local-root}") Path root,
+                                  @Value("${services.content.chunk-size}") int chunkSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public StoredContent save(InputStream content, String contentType) {
+        Path temp = root.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = Sha256.newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+        long size = 0;
+        try (ReadableByteChannel in = Channels.newChannel(content);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    size += out.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            deleteIfExists(temp);
+            throw new UncheckedIOException(e);
+        }
+
+        String hash = Sha256.hex(digest);
+        String fileId = hash + EXTENSIONS.getOrDefault(contentType, "");
+        Path target = root.resolve(fileId);
+        try {
+            synchronized (refsLock) {
+                if (Files.exists(target)) {
+                    Files.delete(temp);
+                    writeRefs(fileId, readRefs(fileId) + 1);
+                } else {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    writeRefs(fileId, 1);
+                }
+            }
+        } catch (IOException e) {
+            deleteIfExists(temp);
+            throw new UncheckedIOException(e);
+        }
+        return new StoredContent(fileId, size, contentType, hash);
+    }
+
+    @Override
+    public Optional<StoredContent> find(String fileId) {
+        return resolve(fileId).flatMap(path -> {
+            try {
+                return Optional.of(new StoredContent(fileId, Files.size(path), contentTypeOf(fileId), hashOf(fileId)));
+            } catch (NoSuchFileException e) {
+                return Optional.empty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void read(String fileId, long offset, long length, OutputStream out) {
+        Path path = resolve(fileId).orElseThrow(() -> new NotFoundException("Content " + fileId + " not found"));
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long end = Math.min(offset + length, in.size());
+            while (position < end) {
+                long transferred = in.transferTo(position, Math.min(chunkSize, end - position), target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Content " + fileId + " not found");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String fileId) {
+        resolve(fileId).ifPresent(path -> {
+            try {
+                synchronized (refsLock) {
+                    int refs = readRefs(fileId);
+                    if (refs > 1) {
+                        writeRefs(fileId, refs - 1);
+                    } else {
+                        Files.deleteIfExists(path);
+                        Files.deleteIfExists(refsPath(fileId));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // fileId проверяется по шаблону, чтобы из него нельзя было выйти за пределы корня хранилища
+    private Optional<Path> resolve(String fileId) {
+        if (fileId == null || !FILE_ID.matcher(fileId).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(root.resolve(fileId));
+    }
+
+    // Файл без счетчика считается единственной ссылкой
+    private int readRefs(String fileId) throws IOException {
+        Path refs = refsPath(fileId);
+        return Files.exists(refs) ? Integer.parseInt(Files.readString(refs).trim()) : 1;
+    }
+
+    private void writeRefs(String fileId, int refs) throws IOException {
+        Files.writeString(refsPath(fileId), Integer.toString(refs));
+    }
+
+    private Path refsPath(String fileId) {
+        return root.resolve(fileId + REFS_SUFFIX);
+    }
+
+    private String hashOf(String fileId) {
+        Matcher matcher = FILE_ID.matcher(fileId);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private String contentTypeOf(String fileId) {
+        return MediaTypeFactory.getMediaType(fileId)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    private void deleteIfExists(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package school.faang.user_service.service.user.content;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.entity.ContentData;
+import school.faang.user_service.exception.NotFoundException;
+import school.faang.user_service.repository.ContentDataRepository;
+import school.faang.user_service.repository.LargeObjectRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+/**
+ * Содержимое хранится в large object PostgreSQL, метаданные - в строке content_data.
+ * Загрузка идет одной транзакцией, чтобы при ошибке не оставался недописанный объект;
+ * чтение выполняется отдельными запросами по куску и соединение между ними не удерживается.
+ * Строки адресуются sha-256 содержимого: повторная загрузка того же файла увеличивает ref_count
+ * существующей строки, а только что записанный дубликат удаляется в той же транзакции.
+ */
+@Component
+@ConditionalOnProperty(name = "services.s3.isMocked", havingValue = "false")
+public class LargeObjectContentStore implements ContentStore {
+    private final ContentDataRepository contentDataRepository;
+    private final LargeObjectRepository largeObjectRepository;
+    private final int chunkSize;
+
+    public LargeObjectContentStore(ContentDataRepository contentDataRepository,
+                                   LargeObjectRepository largeObjectRepository,
+                                   @Value("${services.content.chunk-size}") int chunkSize) {
+        this.contentDataRepository = contentDataRepository;
+        this.largeObjectRepository = largeObjectRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional
+    public StoredContent save(InputStream content, String contentType) {
+        long oid = largeObjectRepository.create();
+        MessageDigest digest = Sha256.newDigest();
+        long size = 0;
+        try {
+            byte[] chunk;
+            while ((chunk = content.readNBytes(chunkSize)).length > 0) {
+                digest.update(chunk);
+                largeObjectRepository.writeChunk(oid, size, chunk);
+                size += chunk.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String hash = Sha256.hex(digest);
+        contentDataRepository.upsertReference(oid, size, contentType, hash);
+        ContentData data = contentDataRepository.findByHash(hash)
+                .orElseThrow(() -> new IllegalStateException("Content " + hash + " was not stored"));
+        if (data.getContentOid() != oid) {
+            largeObjectRepository.unlink(oid);
+        }
+        return toStoredContent(data);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredContent> find(String fileId) {
+        return parseId(fileId)
+                .flatMap(contentDataRepository::findById)
+                .map(this::toStoredContent);
+    }
+
+    @Override
+    public void read(String fileId, long offset, long length, OutputStream out) {
+        ContentData data = parseId(fileId)
+                .flatMap(contentDataRepository::findById)
+                .orElseThrow(() -> new NotFoundException("Content " + fileId + " not found"));
+        long position = offset;
+        long end = offset + length;
+        try {
+            while (position < end) {
+                int toRead = (int) Math.min(chunkSize, end - position);
+                byte[] chunk = largeObjectRepository.readChunk(data.getContentOid(), position, toRead);
+                if (chunk == null || chunk.length == 0) {
+                    break;
+                }
+                out.write(chunk);
+                position += chunk.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void delete(String fileId) {
+        parseId(fileId)
+                .flatMap(contentDataRepository::findByIdForUpdate)
+                .ifPresent(data -> {
+                    if (data.getRefCount() > 1) {
+                        data.setRefCount(data.getRefCount() - 1);
+                        return;
+                    }
+                    if (data.getContentOid() != null) {
+                        largeObjectRepository.unlink(data.getContentOid());
+                    }
+                    contentDataRepository.delete(data);
+                });
+    }
+
+    private StoredContent toStoredContent(ContentData data) {
+        return new StoredContent(String.valueOf(data.getId()), data.getSize(), data.getContentType(), data.getHash());
+    }
+
+    private Optional<Long> parseId(String fileId) {
+        try {
+            return Optional.of(Long.parseLong(fileId));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
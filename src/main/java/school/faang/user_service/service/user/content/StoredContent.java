@@ -0,0 +1,4 @@
+package school.faang.user_service.service.user.content;
+
+public record StoredContent(String fileId, long size, String contentType, String hash) {
+}
@@ -0,0 +1,8 @@
+package school.faang.user_service.service.user.export;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Пароль не попадает в выгрузку ни в одном из форматов
+@JsonIgnoreProperties({"password"})
+abstract class UserExportMixin {
+}
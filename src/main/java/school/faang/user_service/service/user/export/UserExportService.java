@@ -0,0 +1,71 @@
+package school.faang.user_service.service.user.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserExportFormat;
+import school.faang.user_service.dto.filter.UserFilterDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.filter.user.UserFilter;
+import school.faang.user_service.service.user.CsvRowWriter;
+import school.faang.user_service.service.user.NdjsonWriter;
+import school.faang.user_service.service.user.RowWriter;
+import school.faang.user_service.service.user.UserStreamWriter;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Выгрузка пользователей в CSV или NDJSON. Фильтры {@link UserFilterDto} переводятся в условия запроса,
+ * чтение идет серверным курсором, поэтому расход памяти не зависит от размера таблицы.
+ */
+@Service
+public class UserExportService {
+    private final List<UserFilter> userFilters;
+    private final UserStreamWriter userStreamWriter;
+    private final ObjectMapper jsonMapper;
+    private final ObjectWriter csvWriter;
+
+    public UserExportService(List<UserFilter> userFilters, UserStreamWriter userStreamWriter,
+                             ObjectMapper objectMapper) {
+        this.userFilters = userFilters;
+        this.userStreamWriter = userStreamWriter;
+        this.jsonMapper = objectMapper.copy().addMixIn(UserDto.class, UserExportMixin.class);
+
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.registerModule(new JavaTimeModule());
+        csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        csvMapper.addMixIn(UserDto.class, UserExportMixin.class);
+        this.csvWriter = csvMapper.writer(csvMapper.schemaFor(UserDto.class).withHeader());
+    }
+
+    @Transactional(readOnly = true)
+    public void export(UserFilterDto userFilterDto, UserExportFormat format, OutputStream outputStream) {
+        Specification<User> specification = toSpecification(userFilterDto);
+        RowWriter writer = format == UserExportFormat.CSV
+                ? new CsvRowWriter(csvWriter, outputStream)
+                : new NdjsonWriter(jsonMapper, outputStream);
+        userStreamWriter.writeAll(specification, writer);
+    }
+
+    // Выгрузка не фильтрует в памяти: фильтр без условия запроса отклоняется
+    private Specification<User> toSpecification(UserFilterDto userFilterDto) {
+        Specification<User> specification = Specification.where(null);
+        for (UserFilter filter : userFilters) {
+            if (!filter.checkingForNull(userFilterDto)) {
+                continue;
+            }
+            specification = specification.and(filter.toSpecification(userFilterDto)
+                    .orElseThrow(() -> new DataValidationException(
+                            filter.getClass().getSimpleName() + " is not supported for export")));
+        }
+        return specification;
+    }
+}
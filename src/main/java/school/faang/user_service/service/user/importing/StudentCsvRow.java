@@ -0,0 +1,9 @@
+package school.faang.user_service.service.user.importing;
+
+import java.util.Map;
+
+public record StudentCsvRow(
+        long rowNumber,
+        Map<String, String> values
+) {
+}
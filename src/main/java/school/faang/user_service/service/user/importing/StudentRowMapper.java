@@ -0,0 +1,161 @@
+package school.faang.user_service.service.user.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.json.student.Person;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.entity.Country;
+import school.faang.user_service.entity.User;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Превращает плоскую строку students.csv в {@link Person} из person-schema.json,
+ * проверяет ее и строит пользователя для вставки.
+ * Метод не имеет состояния и вызывается параллельно из пула валидации.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentRowMapper {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_USERNAME_LENGTH = 64;
+    private static final int MAX_EMAIL_LENGTH = 64;
+    private static final int MAX_PHONE_LENGTH = 32;
+    private static final int MAX_CITY_LENGTH = 64;
+    private static final int MAX_COUNTRY_LENGTH = 64;
+    private static final int MAX_ABOUT_ME_LENGTH = 4096;
+    private final ObjectMapper objectMapper;
+
+    public StudentRowResult map(StudentCsvRow row) {
+        Map<String, String> values = row.values();
+        String studentId = values.get("studentID");
+        Person person;
+        try {
+            person = objectMapper.treeToValue(toPersonTree(values), Person.class);
+        } catch (InvalidFormatException e) {
+            return StudentRowResult.rejected(row.rowNumber(), studentId,
+                    "Invalid value '" + e.getValue() + "' for " + fieldPath(e));
+        } catch (JsonProcessingException e) {
+            return StudentRowResult.rejected(row.rowNumber(), studentId, "Malformed row: " + e.getOriginalMessage());
+        }
+
+        String reason = validate(person);
+        if (reason != null) {
+            return StudentRowResult.rejected(row.rowNumber(), studentId, reason);
+        }
+        return StudentRowResult.accepted(row.rowNumber(), studentId, toUser(person));
+    }
+
+    private ObjectNode toPersonTree(Map<String, String> values) {
+        ObjectNode person = objectMapper.createObjectNode();
+        copy(values, person, "firstName", "lastName", "yearOfBirth", "group", "studentID", "status",
+                "admissionDate", "graduationDate", "scholarship", "employer");
+
+        ObjectNode contactInfo = person.putObject("contactInfo");
+        copy(values, contactInfo, "email", "phone");
+        copy(values, contactInfo.putObject("address"), "street", "city", "state", "country", "postalCode");
+
+        copy(values, person.putObject("education"), "faculty", "yearOfStudy", "major", "GPA");
+
+        if (hasText(values.get("degree")) || hasText(values.get("institution"))) {
+            copy(values, person.putArray("previousEducation").addObject(), "degree", "institution", "completionYear");
+        }
+        return person;
+    }
+
+    private String validate(Person person) {
+        if (!hasText(person.getFirstName()) || !hasText(person.getLastName())) {
+            return "First and last name are required";
+        }
+        if (!hasText(person.getStudentID())) {
+            return "Student ID is required";
+        }
+        if (person.getContactInfo() == null || person.getContactInfo().getAddress() == null) {
+            return "Contact info is required";
+        }
+        String email = person.getContactInfo().getEmail();
+        if (!hasText(email) || email.length() > MAX_EMAIL_LENGTH || !EMAIL_PATTERN.matcher(email).matches()) {
+            return "Invalid email";
+        }
+        String phone = person.getContactInfo().getPhone();
+        if (!hasText(phone) || phone.length() > MAX_PHONE_LENGTH) {
+            return "Invalid phone";
+        }
+        String city = person.getContactInfo().getAddress().getCity();
+        if (city != null && city.length() > MAX_CITY_LENGTH) {
+            return "City is too long";
+        }
+        String country = person.getContactInfo().getAddress().getCountry();
+        if (!hasText(country) || country.length() > MAX_COUNTRY_LENGTH) {
+            return "Invalid country";
+        }
+        if (username(person).length() > MAX_USERNAME_LENGTH) {
+            return "Username is too long";
+        }
+        return null;
+    }
+
+    private User toUser(Person person) {
+        return User.builder()
+                .username(username(person))
+                .password(UUID.randomUUID().toString())
+                .email(person.getContactInfo().getEmail().trim())
+                .phone(person.getContactInfo().getPhone().trim())
+                .city(person.getContactInfo().getAddress().getCity())
+                .country(Country.builder()
+                        .title(person.getContactInfo().getAddress().getCountry().trim())
+                        .build())
+                .aboutMe(aboutMe(person))
+                .active(true)
+                .build();
+    }
+
+    private String username(Person person) {
+        return (person.getFirstName().trim() + "." + person.getLastName().trim() + "." + person.getStudentID().trim())
+                .toLowerCase()
+                .replaceAll("\\s+", "");
+    }
+
+    private String aboutMe(Person person) {
+        if (person.getEducation() == null) {
+            return null;
+        }
+        String aboutMe = Stream.of(person.getEducation().getFaculty(), person.getEducation().getMajor())
+                .filter(StudentRowMapper::hasText)
+                .map(String::trim)
+                .collect(Collectors.joining(", "));
+        if (aboutMe.isEmpty()) {
+            return null;
+        }
+        return aboutMe.length() > MAX_ABOUT_ME_LENGTH ? aboutMe.substring(0, MAX_ABOUT_ME_LENGTH) : aboutMe;
+    }
+
+    private static String fieldPath(InvalidFormatException e) {
+        return e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+    }
+
+    private static void copy(Map<String, String> values, ObjectNode target, String... fields) {
+        for (String field : fields) {
+            String value = values.get(field);
+            if (hasText(value)) {
+                target.put(field, value.trim());
+            }
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,22 @@
+package school.faang.user_service.service.user.importing;
+
+import school.faang.user_service.entity.User;
+
+public record StudentRowResult(
+        long rowNumber,
+        String studentId,
+        User user,
+        String rejectionReason
+) {
+    public static StudentRowResult accepted(long rowNumber, String studentId, User user) {
+        return new StudentRowResult(rowNumber, studentId, user, null);
+    }
+
+    public static StudentRowResult rejected(long rowNumber, String studentId, String reason) {
+        return new StudentRowResult(rowNumber, studentId, null, reason);
+    }
+
+    public boolean isAccepted() {
+        return user != null;
+    }
+}
@@ -0,0 +1,167 @@
+package school.faang.user_service.service.user.importing;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import school.faang.user_service.dto.userimport.RejectedRowDto;
+import school.faang.user_service.dto.userimport.UserImportReportDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.UserImportRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Потоковый импорт студентов из CSV: строки читаются по одной, собираются в пачки фиксированного размера,
+ * пачка валидируется параллельно и вставляется одним запросом. В памяти держится только текущая пачка
+ * и ограниченное число причин отказа для отчета.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+    private static final String BOM = "\uFEFF";
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final StudentRowMapper studentRowMapper;
+    private final UserImportRepository userImportRepository;
+    private final int chunkSize;
+    private final int maxReportedRejections;
+    private final ExecutorService validationExecutor;
+
+    public UserImportService(StudentRowMapper studentRowMapper,
+                             UserImportRepository userImportRepository,
+                             @Value("${users.import.chunk-size}") int chunkSize,
+                             @Value("${users.import.max-reported-rejections}") int maxReportedRejections,
+                             @Value("${users.import.validation-threads}") int validationThreads) {
+        this.studentRowMapper = studentRowMapper;
+        this.userImportRepository = userImportRepository;
+        this.chunkSize = chunkSize;
+        this.maxReportedRejections = maxReportedRejections;
+        // Ограниченный пул валидации; при заполненной очереди строку проверяет вызывающий поток
+        this.validationExecutor = new ThreadPoolExecutor(validationThreads, validationThreads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(chunkSize),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationExecutor.shutdown();
+    }
+
+    public UserImportReportDto importStudents(InputStream csv) {
+        UserImportReportDto report = new UserImportReportDto();
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<Map<String, String>> rows = csvMapper.readerForMapOf(String.class)
+                .with(schema)
+                .readValues(csv)) {
+            List<StudentCsvRow> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 0;
+            while (rows.hasNext()) {
+                rowNumber++;
+                try {
+                    chunk.add(new StudentCsvRow(rowNumber, normalizeHeaders(rows.next())));
+                } catch (RuntimeJsonMappingException e) {
+                    report.setTotalRows(report.getTotalRows() + 1);
+                    reject(report, new RejectedRowDto(rowNumber, null, "Malformed CSV row: " + e.getMessage()));
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV", e);
+        }
+        log.info("Student import finished: {} rows, {} imported, {} rejected",
+                report.getTotalRows(), report.getImportedRows(), report.getRejectedRows());
+        return report;
+    }
+
+    private void importChunk(List<StudentCsvRow> chunk, UserImportReportDto report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        report.setTotalRows(report.getTotalRows() + chunk.size());
+        List<StudentRowResult> results = validateInParallel(chunk);
+
+        Map<String, StudentRowResult> accepted = new LinkedHashMap<>(results.size());
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenPhones = new HashSet<>();
+        for (StudentRowResult result : results) {
+            if (!result.isAccepted()) {
+                reject(report, result, result.rejectionReason());
+                continue;
+            }
+            User user = result.user();
+            if (accepted.containsKey(user.getUsername())
+                    || !seenEmails.add(user.getEmail()) || !seenPhones.add(user.getPhone())) {
+                reject(report, result, "Duplicate username, email or phone in file");
+                continue;
+            }
+            accepted.put(user.getUsername(), result);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<User> users = accepted.values().stream().map(StudentRowResult::user).toList();
+        Map<String, Long> countryIds = userImportRepository.resolveCountryIds(
+                users.stream().map(user -> user.getCountry().getTitle()).distinct().toList());
+        users.forEach(user -> user.getCountry().setId(countryIds.get(user.getCountry().getTitle())));
+
+        Set<String> inserted = userImportRepository.insertIgnoringConflicts(users);
+        report.setImportedRows(report.getImportedRows() + inserted.size());
+        accepted.forEach((username, result) -> {
+            if (!inserted.contains(username)) {
+                reject(report, result, "User with the same username, email or phone already exists");
+            }
+        });
+    }
+
+    // Порядок результатов совпадает с порядком строк; размер пачки ограничивает число задач в полете
+    private List<StudentRowResult> validateInParallel(List<StudentCsvRow> chunk) {
+        List<CompletableFuture<StudentRowResult>> futures = chunk.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> studentRowMapper.map(row), validationExecutor))
+                .toList();
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private Map<String, String> normalizeHeaders(Map<String, String> row) {
+        Map<String, String> normalized = new HashMap<>(row.size());
+        row.forEach((header, value) -> normalized.put(header.replace(BOM, "").trim(), value));
+        return normalized;
+    }
+
+    private void reject(UserImportReportDto report, StudentRowResult result, String reason) {
+        reject(report, new RejectedRowDto(result.rowNumber(), result.studentId(), reason));
+    }
+
+    private void reject(UserImportReportDto report, RejectedRowDto rejection) {
+        report.setRejectedRows(report.getRejectedRows() + 1);
+        if (report.getRejections().size() < maxReportedRejections) {
+            report.getRejections().add(rejection);
+        } else {
+            report.setRejectionsTruncated(true);
+        }
+    }
+}
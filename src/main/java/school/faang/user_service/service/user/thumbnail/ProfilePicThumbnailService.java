@@ -0,0 +1,73 @@
+package school.faang.user_service.service.user.thumbnail;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import school.faang.user_service.repository.UserRepository;
+import school.faang.user_service.service.user.content.ContentStore;
+import school.faang.user_service.service.user.content.StoredContent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Асинхронно строит миниатюру загруженного аватара и записывает ее fileId в smallFileId пользователя.
+ * Пул и очередь ограничены: одновременно декодируется не больше {@code users.thumbnail.threads} изображений,
+ * при переполненной очереди задача отбрасывается и пользователю отдается исходный аватар.
+ */
+@Slf4j
+@Service
+public class ProfilePicThumbnailService {
+    private final ContentStore contentStore;
+    private final UserRepository userRepository;
+    private final ThumbnailRenderer thumbnailRenderer;
+    private final ExecutorService thumbnailExecutor;
+
+    public ProfilePicThumbnailService(ContentStore contentStore,
+                                      UserRepository userRepository,
+                                      ThumbnailRenderer thumbnailRenderer,
+                                      @Value("${users.thumbnail.threads}") int threads,
+                                      @Value("${users.thumbnail.queue-capacity}") int queueCapacity) {
+        this.contentStore = contentStore;
+        this.userRepository = userRepository;
+        this.thumbnailRenderer = thumbnailRenderer;
+        this.thumbnailExecutor = new ThreadPoolExecutor(threads, threads,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailExecutor.shutdown();
+    }
+
+    public void generate(long userId, StoredContent original) {
+        try {
+            thumbnailExecutor.execute(() -> createThumbnail(userId, original));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail queue is full, user {} keeps only the original picture {}", userId, original.fileId());
+        }
+    }
+
+    void createThumbnail(long userId, StoredContent original) {
+        try {
+            ByteArrayOutputStream source = new ByteArrayOutputStream((int) original.size());
+            contentStore.read(original.fileId(), 0, original.size(), source);
+            byte[] thumbnail = thumbnailRenderer.render(source.toByteArray());
+            StoredContent small = contentStore.save(new ByteArrayInputStream(thumbnail),
+                    thumbnailRenderer.contentType());
+            // Пока строилась миниатюра, аватар могли заменить или удалить - тогда она не нужна
+            if (userRepository.setProfilePicSmallFileId(userId, original.fileId(), small.fileId()) == 0) {
+                contentStore.delete(small.fileId());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to create thumbnail of picture {} for user {}", original.fileId(), userId, e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package school.faang.user_service.service.user.thumbnail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.exception.DataValidationException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Уменьшает изображение так, чтобы оно вписалось в квадрат {@code users.thumbnail.size}, и кодирует в JPEG.
+ * Большие исходники декодируются с прореживанием строк и столбцов, поэтому полноразмерный растр
+ * в памяти не создается; остаток масштаба добирается последовательными уменьшениями вдвое.
+ */
+@Component
+public class ThumbnailRenderer {
+    private static final String FORMAT = "jpg";
+    private final int size;
+
+    public ThumbnailRenderer(@Value("${users.thumbnail.size}") int size) {
+        this.size = size;
+    }
+
+    public String contentType() {
+        return MediaType.IMAGE_JPEG_VALUE;
+    }
+
+    public byte[] render(byte[] source) {
+        try {
+            BufferedImage image = decode(source);
+            int width = image.getWidth();
+            int height = image.getHeight();
+            double scale = Math.min(1.0, (double) size / Math.max(width, height));
+            int targetWidth = Math.max(1, (int) Math.round(width * scale));
+            int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+            // Уменьшение больше чем вдвое за один шаг билинейной интерполяции дает заметные артефакты
+            while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+                width /= 2;
+                height /= 2;
+                image = resize(image, width, height);
+            }
+            image = resize(image, targetWidth, targetHeight);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, FORMAT, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new DataValidationException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestSide / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Результат всегда RGB: у JPEG нет альфа-канала, прозрачные области заливаются белым
+    private BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+}
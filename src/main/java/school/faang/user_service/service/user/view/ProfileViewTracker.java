@@ -0,0 +1,173 @@
+package school.faang.user_service.service.user.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.config.context.UserContext;
+import school.faang.user_service.dto.ProfileViewEvent;
+import school.faang.user_service.publisher.ProfileViewEventPublisher;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Учет просмотров профилей вне пути запроса. Просмотр кладется в одну из lock-free очередей
+ * (полосу выбирает id потока, поэтому потоки почти не конкурируют), раз в flush-interval очереди
+ * вычитываются и просмотры суммируются по (зритель, профиль, интервал времени). Сумма интервала уходит
+ * в profile_view_channel одним событием, когда интервал закрылся; при остановке сервиса отправляются и
+ * незакрытые интервалы. Уникальные зрители профиля считаются HyperLogLog в Redis сразу при вычитывании.
+ */
+@Slf4j
+@Component
+public class ProfileViewTracker {
+    private static final String UNIQUE_VIEWERS_KEY = "profile:viewers:";
+
+    private final UserContext userContext;
+    private final ProfileViewEventPublisher profileViewEventPublisher;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long bucketMillis;
+    private final int stripeCapacity;
+    private final Stripe[] stripes;
+    private final LongAdder droppedViews = new LongAdder();
+    // Суммы еще не закрытых интервалов; меняются только под монитором flush
+    private final Map<ProfileView, Integer> openBuckets = new HashMap<>();
+
+    public ProfileViewTracker(UserContext userContext,
+                              ProfileViewEventPublisher profileViewEventPublisher,
+                              RedisTemplate<String, Object> redisTemplate,
+                              @Value("${users.profile-views.bucket}") Duration bucket,
+                              @Value("${users.profile-views.stripe-capacity}") int stripeCapacity) {
+        this.userContext = userContext;
+        this.profileViewEventPublisher = profileViewEventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.bucketMillis = bucket.toMillis();
+        this.stripeCapacity = stripeCapacity;
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.stripes = new Stripe[Integer.highestOneBit(processors * 4 - 1) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // Анонимные просмотры и просмотры своего профиля не учитываются
+    public void recordView(long vieweeId) {
+        Optional<Long> viewerId = userContext.findUserId();
+        if (viewerId.isEmpty() || viewerId.get() == vieweeId) {
+            return;
+        }
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        if (stripe.size.incrementAndGet() > stripeCapacity) {
+            stripe.size.decrementAndGet();
+            droppedViews.increment();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        stripe.views.offer(new ProfileView(viewerId.get(), vieweeId, now - now % bucketMillis));
+    }
+
+    public long countUniqueViewers(long userId) {
+        Long count = redisTemplate.opsForHyperLogLog().size(UNIQUE_VIEWERS_KEY + userId);
+        return count == null ? 0 : count;
+    }
+
+    public long getDroppedViews() {
+        return droppedViews.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${users.profile-views.flush-interval-ms}")
+    public int flush() {
+        return flush(System.currentTimeMillis());
+    }
+
+    // Недоотправленные интервалы при остановке уходят как есть, иначе их просмотры потерялись бы
+    @PreDestroy
+    public void shutdown() {
+        flush(Long.MAX_VALUE);
+    }
+
+    // Возвращает число событий по интервалам, закрытым к моменту now
+    synchronized int flush(long now) {
+        Set<ProfileView> drained = new HashSet<>();
+        for (Stripe stripe : stripes) {
+            ProfileView view;
+            while ((view = stripe.views.poll()) != null) {
+                stripe.size.decrementAndGet();
+                openBuckets.merge(view, 1, Integer::sum);
+                drained.add(view);
+            }
+        }
+        if (!drained.isEmpty()) {
+            addUniqueViewers(drained);
+        }
+
+        List<ProfileViewEvent> closed = new ArrayList<>();
+        Iterator<Map.Entry<ProfileView, Integer>> buckets = openBuckets.entrySet().iterator();
+        while (buckets.hasNext()) {
+            Map.Entry<ProfileView, Integer> bucket = buckets.next();
+            if (bucket.getKey().bucketStart() <= now - bucketMillis) {
+                closed.add(toEvent(bucket.getKey(), bucket.getValue()));
+                buckets.remove();
+            }
+        }
+        if (closed.isEmpty()) {
+            return 0;
+        }
+        try {
+            profileViewEventPublisher.publishAll(closed);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} profile view events", closed.size(), e);
+        }
+        return closed.size();
+    }
+
+    private ProfileViewEvent toEvent(ProfileView view, int views) {
+        LocalDateTime bucketStart = LocalDateTime.ofInstant(Instant.ofEpochMilli(view.bucketStart()), ZoneOffset.UTC);
+        return new ProfileViewEvent(view.viewerId(), view.vieweeId(), bucketStart, views);
+    }
+
+    // Все PFADD одной пачки уходят одним pipeline
+    private void addUniqueViewers(Iterable<ProfileView> views) {
+        Map<Long, List<byte[]>> viewersByViewee = new HashMap<>();
+        for (ProfileView view : views) {
+            viewersByViewee.computeIfAbsent(view.vieweeId(), id -> new ArrayList<>())
+                    .add(String.valueOf(view.viewerId()).getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                viewersByViewee.forEach((vieweeId, viewers) -> connection.pfAdd(
+                        (UNIQUE_VIEWERS_KEY + vieweeId).getBytes(StandardCharsets.UTF_8),
+                        viewers.toArray(new byte[0][])));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to update unique viewers of {} profiles", viewersByViewee.size(), e);
+        }
+    }
+
+    private record ProfileView(long viewerId, long vieweeId, long bucketStart) {
+    }
+
+    private static final class Stripe {
+        private final ConcurrentLinkedQueue<ProfileView> views = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
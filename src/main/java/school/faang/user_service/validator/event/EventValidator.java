@@ -14,12 +14,19 @@ public class EventValidator {
 
     public boolean validateEventDto(EventDto eventDto) {
         return validateTitle(eventDto.getTitle())
-                && validateDate(eventDto.getStartDate())
-                && validateUser(eventDto.getOwnerId());
+                && validateDates(eventDto.getStartDate(), eventDto.getEndDate())
+                && validateUser(eventDto.getOwnerId())
+                && validateMaxAttendees(eventDto.getMaxAttendees());
     }
 
-    private boolean validateDate(LocalDateTime startDate) {
-        return startDate != null;
+    // Лимит не задан или положителен: 0 мест означал бы событие, на которое нельзя записаться
+    private boolean validateMaxAttendees(Integer maxAttendees) {
+        return maxAttendees == null || maxAttendees > 0;
+    }
+
+    // Конец не раньше начала: в БД на это стоит CHECK, а поиск по интервалам строит tstzrange из этих дат
+    private boolean validateDates(LocalDateTime startDate, LocalDateTime endDate) {
+        return startDate != null && endDate != null && !endDate.isBefore(startDate);
     }
 
     private boolean validateTitle(String title) {
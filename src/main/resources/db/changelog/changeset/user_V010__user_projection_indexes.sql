@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_event_user_id ON event (user_id);
+CREATE INDEX IF NOT EXISTS idx_mentorship_mentor_id ON mentorship (mentor_id);
+CREATE INDEX IF NOT EXISTS idx_mentorship_mentee_id ON mentorship (mentee_id);
+CREATE INDEX IF NOT EXISTS idx_goal_mentor_id ON goal (mentor_id);
+CREATE INDEX IF NOT EXISTS idx_user_goal_user_id ON user_goal (user_id);
@@ -0,0 +1,3 @@
+ALTER TABLE content_data
+ADD COLUMN if not exists size bigint NOT NULL DEFAULT 0,
+ADD COLUMN if not exists content_type varchar(128);
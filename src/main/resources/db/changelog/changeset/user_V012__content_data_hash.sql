@@ -0,0 +1,32 @@
+ALTER TABLE content_data
+ADD COLUMN if not exists hash varchar(64),
+ADD COLUMN if not exists ref_count int NOT NULL DEFAULT 1;
+
+UPDATE content_data SET hash = encode(sha256(lo_get(content)), 'hex')
+WHERE hash IS NULL AND content IS NOT NULL;
+
+-- Дубликаты сводятся к строке с минимальным id, ссылки пользователей переносятся на нее
+CREATE TEMP TABLE content_data_duplicate ON COMMIT DROP AS
+SELECT id, content, min(id) OVER (PARTITION BY hash) AS keep_id
+FROM content_data
+WHERE hash IS NOT NULL;
+
+UPDATE users u SET profile_pic_file_id = CAST(d.keep_id AS text)
+FROM content_data_duplicate d
+WHERE u.profile_pic_file_id = CAST(d.id AS text) AND d.id <> d.keep_id;
+
+UPDATE users u SET profile_pic_small_file_id = CAST(d.keep_id AS text)
+FROM content_data_duplicate d
+WHERE u.profile_pic_small_file_id = CAST(d.id AS text) AND d.id <> d.keep_id;
+
+SELECT lo_unlink(content) FROM content_data_duplicate WHERE id <> keep_id AND content IS NOT NULL;
+
+DELETE FROM content_data c
+USING content_data_duplicate d
+WHERE c.id = d.id AND d.id <> d.keep_id;
+
+UPDATE content_data c SET ref_count = GREATEST(1,
+    (SELECT count(*) FROM users u WHERE u.profile_pic_file_id = CAST(c.id AS text))
+    + (SELECT count(*) FROM users u WHERE u.profile_pic_small_file_id = CAST(c.id AS text)));
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_content_data_hash ON content_data (hash);
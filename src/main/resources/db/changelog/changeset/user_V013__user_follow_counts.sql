@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS user_follow_counts (
+    user_id bigint PRIMARY KEY,
+    followers_count int NOT NULL DEFAULT 0,
+    followees_count int NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_follow_counts_user_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_subscription_followee_id ON subscription (followee_id);
+CREATE INDEX IF NOT EXISTS idx_subscription_follower_id ON subscription (follower_id);
+
+INSERT INTO user_follow_counts (user_id, followers_count, followees_count)
+SELECT user_id, sum(followers_count), sum(followees_count)
+FROM (
+    SELECT followee_id AS user_id, count(*) AS followers_count, 0 AS followees_count
+    FROM subscription GROUP BY followee_id
+    UNION ALL
+    SELECT follower_id, 0, count(*)
+    FROM subscription GROUP BY follower_id
+) AS counts
+GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE
+SET followers_count = EXCLUDED.followers_count, followees_count = EXCLUDED.followees_count;
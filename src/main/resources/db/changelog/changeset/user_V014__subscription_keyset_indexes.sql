@@ -0,0 +1,9 @@
+UPDATE subscription SET created_at = coalesce(updated_at, current_timestamp) WHERE created_at IS NULL;
+ALTER TABLE subscription ALTER COLUMN created_at SET NOT NULL;
+
+-- Ключ пагинации (created_at, id) внутри подписчиков и подписок пользователя;
+-- индексы по одному столбцу из V013 покрываются составными
+CREATE INDEX IF NOT EXISTS idx_subscription_followee_created ON subscription (followee_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_subscription_follower_created ON subscription (follower_id, created_at, id);
+DROP INDEX IF EXISTS idx_subscription_followee_id;
+DROP INDEX IF EXISTS idx_subscription_follower_id;
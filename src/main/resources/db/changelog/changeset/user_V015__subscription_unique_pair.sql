@@ -0,0 +1,18 @@
+DELETE FROM subscription s
+USING subscription d
+WHERE s.follower_id = d.follower_id AND s.followee_id = d.followee_id AND s.id > d.id;
+
+-- Счетчики пересчитываются после удаления дубликатов
+DELETE FROM user_follow_counts;
+INSERT INTO user_follow_counts (user_id, followers_count, followees_count)
+SELECT user_id, sum(followers_count), sum(followees_count)
+FROM (
+    SELECT followee_id AS user_id, count(*) AS followers_count, 0 AS followees_count
+    FROM subscription GROUP BY followee_id
+    UNION ALL
+    SELECT follower_id, 0, count(*)
+    FROM subscription GROUP BY follower_id
+) AS counts
+GROUP BY user_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_subscription_follower_followee ON subscription (follower_id, followee_id);
@@ -0,0 +1,13 @@
+-- Индексы под фильтры POST /api/events/filter: подстроки - триграммы (pg_trgm включен в V009),
+-- даты и число мест - btree вместе с id для сортировки страницы
+CREATE INDEX IF NOT EXISTS idx_event_title_trgm ON event USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_event_description_trgm ON event USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_event_location_trgm ON event USING gin (lower(location) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_event_start_date ON event (start_date, id);
+CREATE INDEX IF NOT EXISTS idx_event_end_date ON event (end_date, id);
+CREATE INDEX IF NOT EXISTS idx_event_max_attendees ON event (max_attendees, id);
+CREATE INDEX IF NOT EXISTS idx_event_owner ON event (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_event_skill_event ON event_skill (event_id, skill_id);
+CREATE INDEX IF NOT EXISTS idx_skill_title_trgm ON skill USING gin (lower(title) gin_trgm_ops);
@@ -0,0 +1,27 @@
+-- tstzrange падает на событии, которое кончается раньше начала: такие записи сводятся к моменту начала,
+-- а CHECK не дает появиться новым
+UPDATE event SET end_date = start_date WHERE end_date < start_date;
+ALTER TABLE event ADD CONSTRAINT chk_event_date_range CHECK (end_date >= start_date);
+
+-- Интервал события [start_date, end_date] как выражение: индекс сам остается в синхронизации с датами
+CREATE INDEX IF NOT EXISTS idx_event_time_range ON event USING gist (tstzrange(start_date, end_date, '[]'));
+
+-- Однострочные SQL-функции встраиваются планировщиком, поэтому запросы через них используют GiST-индекс.
+-- NULL в границе окна означает бесконечность
+CREATE OR REPLACE FUNCTION event_range_overlaps(start_date timestamptz, end_date timestamptz,
+                                                window_start timestamptz, window_end timestamptz)
+    RETURNS boolean LANGUAGE sql IMMUTABLE AS
+$$ SELECT tstzrange(start_date, end_date, '[]') && tstzrange(window_start, window_end, '[]') $$;
+
+CREATE OR REPLACE FUNCTION event_range_contains(start_date timestamptz, end_date timestamptz,
+                                                window_start timestamptz, window_end timestamptz)
+    RETURNS boolean LANGUAGE sql IMMUTABLE AS
+$$ SELECT tstzrange(start_date, end_date, '[]') @> tstzrange(window_start, window_end, '[]') $$;
+
+CREATE OR REPLACE FUNCTION event_range_before(start_date timestamptz, end_date timestamptz, point timestamptz)
+    RETURNS boolean LANGUAGE sql IMMUTABLE AS
+$$ SELECT tstzrange(start_date, end_date, '[]') << tstzrange(point, NULL, '[]') $$;
+
+CREATE OR REPLACE FUNCTION event_range_after(start_date timestamptz, end_date timestamptz, point timestamptz)
+    RETURNS boolean LANGUAGE sql IMMUTABLE AS
+$$ SELECT tstzrange(start_date, end_date, '[]') >> tstzrange(NULL, point, '[]') $$;
@@ -0,0 +1,7 @@
+-- Поисковый вектор события: заголовок весит больше описания. Конфигурация simple - без стемминга,
+-- так как события пишутся и на русском, и на английском
+ALTER TABLE event ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_event_search_vector ON event USING gin (search_vector);
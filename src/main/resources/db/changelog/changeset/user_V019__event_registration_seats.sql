@@ -0,0 +1,20 @@
+-- Повторные регистрации, попавшие в таблицу до уникального индекса, схлопываются в одну
+DELETE FROM user_event r
+USING user_event d
+WHERE r.event_id = d.event_id AND r.user_id = d.user_id AND r.id > d.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_user_event_event_user ON user_event (event_id, user_id);
+
+-- Событие без лимита раньше сохранялось с max_attendees = 0 (примитив int в сущности); лимит 0 теперь запрещен,
+-- а NULL означает неограниченное число участников
+UPDATE event SET max_attendees = NULL WHERE max_attendees <= 0;
+ALTER TABLE event ADD CONSTRAINT chk_event_max_attendees CHECK (max_attendees IS NULL OR max_attendees > 0);
+
+-- Счетчик занятых мест: регистрация занимает место условным UPDATE по строке события
+ALTER TABLE event ADD COLUMN IF NOT EXISTS attendees_count int NOT NULL DEFAULT 0;
+
+UPDATE event e SET attendees_count = counts.attendees
+FROM (SELECT event_id, count(*) AS attendees FROM user_event GROUP BY event_id) AS counts
+WHERE counts.event_id = e.id;
+
+ALTER TABLE event ADD CONSTRAINT chk_event_attendees_count CHECK (attendees_count >= 0);
@@ -0,0 +1,14 @@
+-- Очередь ожидания на заполненные события: порядок FIFO задает id
+CREATE TABLE IF NOT EXISTS event_waitlist (
+    id bigint PRIMARY KEY GENERATED ALWAYS AS IDENTITY UNIQUE,
+    event_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    created_at timestamptz DEFAULT current_timestamp,
+
+    CONSTRAINT fk_event_waitlist_event_id FOREIGN KEY (event_id) REFERENCES event (id),
+    CONSTRAINT fk_event_waitlist_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_event_waitlist_event_user ON event_waitlist (event_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_event_waitlist_event_order ON event_waitlist (event_id, id);
+CREATE INDEX IF NOT EXISTS idx_event_waitlist_user ON event_waitlist (user_id);
@@ -9,11 +9,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import school.faang.user_service.dto.UserDeactivationReportDto;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UsersBatchDto;
 import school.faang.user_service.dto.filter.UserFilterDto;
+import school.faang.user_service.dto.userimport.RejectedRowDto;
+import school.faang.user_service.dto.userimport.UserImportReportDto;
 import school.faang.user_service.service.UserService;
+import school.faang.user_service.service.user.importing.UserImportService;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +44,8 @@ class UserControllerTest {
     private MockMvc mockMvc;
     @Mock
     private UserService service;
+    @Mock
+    private UserImportService userImportService;
     @InjectMocks
     private UserController controller;
     private ObjectMapper objectMapper = new ObjectMapper();
@@ -99,16 +108,59 @@ class UserControllerTest {
     @Test
     public void testGetUsersByIds() throws Exception {
         List<UserDto> dtoList = Arrays.asList(firstUser, secondUser);
-        Mockito.when(service.getUsersByIds(ids)).thenReturn(dtoList);
+        Mockito.when(service.getUsersByIds(ids)).thenReturn(new UsersBatchDto(dtoList, List.of()));
         mockMvc.perform(get("/api/users/list")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(ids)))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Missing-User-Ids"))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
                 .andExpect(jsonPath("$[1].id", is(2)));
     }
 
+    @Test
+    public void testGetUsersByIdsReportsMissingIds() throws Exception {
+        List<Long> requested = List.of(1L, 5L, 7L);
+        Mockito.when(service.getUsersByIds(requested))
+                .thenReturn(new UsersBatchDto(List.of(firstUser), List.of(5L, 7L)));
+        mockMvc.perform(get("/api/users/list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requested)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Missing-User-Ids", "5,7"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(1)));
+    }
+
+    @Test
+    public void testDeactivateUsersReturnsReport() throws Exception {
+        List<Long> requested = List.of(1L, 2L, 3L);
+        Mockito.when(service.deactivateUsers(requested))
+                .thenReturn(new UserDeactivationReportDto(3, 1, List.of(3L), List.of(2L)));
+        mockMvc.perform(post("/api/users/deactivate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requested)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deactivated", is(1)))
+                .andExpect(jsonPath("$.notFoundIds[0]", is(3)))
+                .andExpect(jsonPath("$.alreadyDeactivatedIds[0]", is(2)));
+    }
+
+    @Test
+    public void testImportStudentsReturnsReport() throws Exception {
+        UserImportReportDto report = new UserImportReportDto(2, 1, 1,
+                List.of(new RejectedRowDto(2, "42", "Invalid email")), false);
+        Mockito.when(userImportService.importStudents(Mockito.any())).thenReturn(report);
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv",
+                "firstName\nJohn\n".getBytes());
+
+        mockMvc.perform(multipart("/api/users/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows", is(1)))
+                .andExpect(jsonPath("$.rejections[0].reason", is("Invalid email")));
+    }
+
     @Test
     public void testGetPremiumUsersWhenUserFilterDtoIsNotNull() {
         UserFilterDto userFilterDto = new UserFilterDto();
@@ -0,0 +1,161 @@
+package school.faang.user_service.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import school.faang.user_service.dto.ProfilePicDto;
+import school.faang.user_service.service.user.UserProfilePicService;
+
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfilePicControllerTest {
+    private static final String URL = "/api/users/1/profile-pic";
+    private static final byte[] CONTENT = "0123456789".getBytes();
+    private static final String ETAG = "\"file-hash\"";
+    private static final ProfilePicDto PROFILE_PIC = new ProfilePicDto("file", CONTENT.length, "image/png", "file-hash");
+    private MockMvc mockMvc;
+    @Mock
+    private UserProfilePicService profilePicService;
+    @InjectMocks
+    private UserProfilePicController controller;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void testDownloadWholePicture() throws Exception {
+        stubRead();
+
+        MvcResult result = mockMvc.perform(get(URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void testDownloadNotModified() throws Exception {
+        when(profilePicService.getProfilePic(1L, false)).thenReturn(PROFILE_PIC);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(profilePicService, never()).read(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void testDownloadWithStaleEtag() throws Exception {
+        stubRead();
+
+        MvcResult result = mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void testDownloadRange() throws Exception {
+        stubRead();
+
+        MvcResult result = mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void testDownloadSuffixRange() throws Exception {
+        stubRead();
+
+        MvcResult result = mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(content().string("789"));
+    }
+
+    @Test
+    void testDownloadSmallPicture() throws Exception {
+        ProfilePicDto small = new ProfilePicDto("small", 3, "image/jpeg", "small-hash");
+        when(profilePicService.getProfilePic(1L, true)).thenReturn(small);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write(CONTENT, 0, 3);
+            return null;
+        }).when(profilePicService).read(eq(small), eq(0L), eq(3L), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get(URL + "/small"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(content().string("012"));
+    }
+
+    @Test
+    void testDownloadUnsatisfiableRange() throws Exception {
+        when(profilePicService.getProfilePic(1L, false)).thenReturn(PROFILE_PIC);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=10-20"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        verify(profilePicService, never()).read(any(), anyLong(), anyLong(), any());
+    }
+
+    private void stubRead() {
+        when(profilePicService.getProfilePic(1L, false)).thenReturn(PROFILE_PIC);
+        doAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            long length = invocation.getArgument(2);
+            OutputStream out = invocation.getArgument(3);
+            out.write(CONTENT, (int) offset, (int) length);
+            return null;
+        }).when(profilePicService).read(eq(PROFILE_PIC), anyLong(), anyLong(), any(OutputStream.class));
+    }
+}
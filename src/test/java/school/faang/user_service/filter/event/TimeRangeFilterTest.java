@@ -0,0 +1,93 @@
+package school.faang.user_service.filter.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import school.faang.user_service.entity.event.Event;
+import school.faang.user_service.filter.EventFilter;
+import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.filter.EventTimeRangeMode;
+import school.faang.user_service.filter.impl.TimeRangePatternFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeRangeFilterTest {
+    private EventFilterDto eventFilterDto;
+    private List<Event> events;
+    private EventFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // окно: неделя с 8 по 14 июля
+        eventFilterDto = new EventFilterDto();
+        eventFilterDto.setRangeFrom(LocalDateTime.of(2024, 7, 8, 0, 0));
+        eventFilterDto.setRangeTo(LocalDateTime.of(2024, 7, 14, 23, 59));
+        filter = new TimeRangePatternFilter();
+
+        events = List.of(
+                createEvent(LocalDateTime.of(2024, 7, 1, 10, 0), LocalDateTime.of(2024, 7, 5, 18, 0)),
+                createEvent(LocalDateTime.of(2024, 7, 7, 10, 0), LocalDateTime.of(2024, 7, 8, 0, 0)),
+                createEvent(LocalDateTime.of(2024, 7, 10, 10, 0), LocalDateTime.of(2024, 7, 10, 18, 0)),
+                createEvent(LocalDateTime.of(2024, 7, 1, 10, 0), LocalDateTime.of(2024, 7, 31, 18, 0)),
+                createEvent(LocalDateTime.of(2024, 7, 20, 10, 0), LocalDateTime.of(2024, 7, 21, 18, 0)));
+    }
+
+    @Test
+    public void testIsApplicable() {
+        assertFalse(filter.isApplicable(eventFilterDto));
+
+        eventFilterDto.setRangeMode(EventTimeRangeMode.OVERLAPS);
+        assertTrue(filter.isApplicable(eventFilterDto));
+    }
+
+    @Test
+    public void testOverlaps() {
+        eventFilterDto.setRangeMode(EventTimeRangeMode.OVERLAPS);
+
+        List<Event> filteredList = filter.apply(events.stream(), eventFilterDto).toList();
+
+        // второе событие касается окна своим концом: границы включительные
+        assertEquals(List.of(events.get(1), events.get(2), events.get(3)), filteredList);
+    }
+
+    @Test
+    public void testOverlapsWithOpenBound() {
+        eventFilterDto.setRangeMode(EventTimeRangeMode.OVERLAPS);
+        eventFilterDto.setRangeTo(null);
+
+        List<Event> filteredList = filter.apply(events.stream(), eventFilterDto).toList();
+
+        assertEquals(List.of(events.get(1), events.get(2), events.get(3), events.get(4)), filteredList);
+    }
+
+    @Test
+    public void testContains() {
+        eventFilterDto.setRangeMode(EventTimeRangeMode.CONTAINS);
+
+        List<Event> filteredList = filter.apply(events.stream(), eventFilterDto).toList();
+
+        assertEquals(List.of(events.get(3)), filteredList);
+    }
+
+    @Test
+    public void testBeforeAndAfter() {
+        eventFilterDto.setRangeMode(EventTimeRangeMode.BEFORE);
+        assertTrue(filter.test(events.get(0), eventFilterDto));
+        assertFalse(filter.test(events.get(1), eventFilterDto));
+
+        eventFilterDto.setRangeMode(EventTimeRangeMode.AFTER);
+        assertTrue(filter.test(events.get(4), eventFilterDto));
+        assertFalse(filter.test(events.get(3), eventFilterDto));
+    }
+
+    private Event createEvent(LocalDateTime startDate, LocalDateTime endDate) {
+        Event event = new Event();
+        event.setStartDate(startDate);
+        event.setEndDate(endDate);
+        return event;
+    }
+}
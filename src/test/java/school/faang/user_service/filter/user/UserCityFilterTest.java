@@ -46,4 +46,9 @@ class UserCityFilterTest {
         boolean result = userCityFilter.filterUsers(user, userFilterDto);
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testToSpecificationIsPushedDown() {
+        assertTrue(userCityFilter.toSpecification(userFilterDto).isPresent());
+    }
+}
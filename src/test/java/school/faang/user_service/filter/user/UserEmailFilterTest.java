@@ -46,4 +46,9 @@ class UserEmailFilterTest {
         boolean result = userEmailFilter.filterUsers(user, userFilterDto);
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testToSpecificationIsPushedDown() {
+        assertTrue(userEmailFilter.toSpecification(userFilterDto).isPresent());
+    }
+}
@@ -46,4 +46,9 @@ class UserNameFilterTest {
         boolean result = userNameFilter.filterUsers(user, userFilterDto);
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testToSpecificationIsPushedDown() {
+        assertTrue(userNameFilter.toSpecification(userFilterDto).isPresent());
+    }
+}
@@ -46,4 +46,9 @@ class UserPhoneFilterTest {
         boolean result = userPhoneFilter.filterUsers(user, userFilterDto);
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testToSpecificationIsPushedDown() {
+        assertTrue(userPhoneFilter.toSpecification(userFilterDto).isPresent());
+    }
+}
@@ -0,0 +1,83 @@
+package school.faang.user_service.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import school.faang.user_service.service.subscription.SubscriptionBloomFilter;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FollowerEventListenerTest {
+    @Mock
+    private SubscriptionBloomFilter subscriptionBloomFilter;
+
+    @Test
+    void testFollowEventIsAddedToBloomFilter() {
+        FollowerEventListener listener = new FollowerEventListener(subscriptionBloomFilter, new ObjectMapper());
+
+        listener.onMessage(message("{\"followerId\":1,\"followeeId\":2,\"type\":\"FOLLOW\"}"), null);
+
+        verify(subscriptionBloomFilter).add(1L, 2L);
+    }
+
+    @Test
+    void testUnfollowEventIsIgnored() {
+        FollowerEventListener listener = new FollowerEventListener(subscriptionBloomFilter, new ObjectMapper());
+
+        listener.onMessage(message("{\"followerId\":1,\"followeeId\":2,\"type\":\"UNFOLLOW\"}"), null);
+
+        verify(subscriptionBloomFilter, never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    void testConsecutiveSequencesKeepFilter() {
+        FollowerEventListener listener = new FollowerEventListener(subscriptionBloomFilter, new ObjectMapper());
+
+        listener.onMessage(message(follow(1, "node-a")), null);
+        listener.onMessage(message(follow(2, "node-a")), null);
+        listener.onMessage(message(follow(7, "node-b")), null);
+
+        verify(subscriptionBloomFilter, never()).resync(anyString());
+    }
+
+    @Test
+    void testLostEventResyncsFilter() {
+        FollowerEventListener listener = new FollowerEventListener(subscriptionBloomFilter, new ObjectMapper());
+
+        listener.onMessage(message(follow(1, "node-a")), null);
+        listener.onMessage(message(follow(3, "node-a")), null);
+
+        verify(subscriptionBloomFilter).resync(anyString());
+    }
+
+    @Test
+    void testResubscriptionResyncsFilter() {
+        FollowerEventListener listener = new FollowerEventListener(subscriptionBloomFilter, new ObjectMapper());
+        byte[] channel = "follower_channel".getBytes(StandardCharsets.UTF_8);
+
+        listener.onChannelSubscribed(channel, 1);
+        verify(subscriptionBloomFilter, never()).resync(anyString());
+
+        listener.onChannelSubscribed(channel, 1);
+        verify(subscriptionBloomFilter).resync(anyString());
+    }
+
+    private String follow(long sequence, String sourceId) {
+        return "{\"followerId\":1,\"followeeId\":2,\"type\":\"FOLLOW\",\"sourceId\":\"" + sourceId
+                + "\",\"sequence\":" + sequence + "}";
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("follower_channel".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+package school.faang.user_service.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import school.faang.user_service.service.user.cache.UserProfileCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheInvalidationListenerTest {
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Test
+    void testOnMessageEvictsLocalCopies() {
+        UserCacheInvalidationListener listener = new UserCacheInvalidationListener(userProfileCache, new ObjectMapper());
+
+        listener.onMessage(message("{\"userIds\":[1,2]}"), null);
+
+        verify(userProfileCache).evictLocal(List.of(1L, 2L));
+    }
+
+    @Test
+    void testOnMessageIgnoresMalformedPayload() {
+        UserCacheInvalidationListener listener = new UserCacheInvalidationListener(userProfileCache, new ObjectMapper());
+
+        listener.onMessage(message("not json"), null);
+
+        verify(userProfileCache, never()).evictLocal(anyCollection());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("user_cache_invalidation_channel".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,199 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import school.faang.user_service.dto.FollowerEvent;
+import school.faang.user_service.dto.PublisherStatsDto;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowerEventPublisherTest {
+    private static final byte[] CHANNEL = "follower_channel".getBytes(StandardCharsets.UTF_8);
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private RedisConnection connection;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private FollowerEventPublisher publisher(int queueCapacity, int batchSize) {
+        return publisher(queueCapacity, batchSize, Duration.ofMillis(1));
+    }
+
+    private FollowerEventPublisher publisher(int queueCapacity, int batchSize, Duration offerTimeout) {
+        return new FollowerEventPublisher(redisTemplate, objectMapper, new ChannelTopic("follower_channel"),
+                queueCapacity, batchSize, Duration.ofMillis(10), offerTimeout);
+    }
+
+    private FollowerEvent event(long followeeId) {
+        return FollowerEvent.builder()
+                .followerId(1L)
+                .followeeId(followeeId)
+                .type(FollowerEvent.Type.FOLLOW)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private void pipelineToConnection() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    @Test
+    void testFlushSendsAtMostBatchSizeMessagesInOnePipeline() throws Exception {
+        pipelineToConnection();
+        FollowerEventPublisher publisher = publisher(10, 2);
+        publisher.publish(event(2));
+        publisher.publish(event(3));
+        publisher.publish(event(4));
+
+        assertEquals(2, publisher.flush());
+        assertEquals(1, publisher.flush());
+
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(connection, times(3)).publish(aryEq(CHANNEL), any(byte[].class));
+        PublisherStatsDto stats = publisher.getStats();
+        assertEquals(3, stats.getPublished());
+        assertEquals(2, stats.getBatches());
+        assertEquals(0, stats.getQueueSize());
+    }
+
+    @Test
+    void testFullQueueDropsEvents() throws Exception {
+        FollowerEventPublisher publisher = publisher(1, 10);
+        publisher.publish(event(2));
+        publisher.publish(event(3));
+
+        PublisherStatsDto stats = publisher.getStats();
+        assertEquals(1, stats.getDropped());
+        assertEquals(1, stats.getQueueSize());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void testRedisFailureIsCounted() throws Exception {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        FollowerEventPublisher publisher = publisher(10, 10);
+        publisher.publish(event(2));
+
+        publisher.flush();
+
+        assertEquals(1, publisher.getStats().getFailed());
+        assertEquals(0, publisher.getStats().getPublished());
+    }
+
+    @Test
+    void testSubscriptionChangeIsPublishedPerFollowee() throws Exception {
+        FollowerEventPublisher publisher = publisher(10, 10);
+
+        publisher.onSubscriptionChanged(new SubscriptionChangedEvent(1L, List.of(2L, 3L), false));
+
+        assertEquals(2, publisher.getStats().getQueueSize());
+    }
+
+    @Test
+    void testFullQueueBlocksSubscriptionChangeForOneOfferTimeoutAtMost() throws Exception {
+        FollowerEventPublisher publisher = publisher(1, 10, Duration.ofMillis(200));
+        List<Long> followeeIds = LongStream.rangeClosed(2, 21).boxed().toList();
+
+        long startedAt = System.nanoTime();
+        publisher.onSubscriptionChanged(new SubscriptionChangedEvent(1L, followeeIds, true));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // По таймауту на событие вызов занял бы 19 * 200 мс
+        assertTrue(elapsedMillis < 1000, "waited " + elapsedMillis + " ms");
+        PublisherStatsDto stats = publisher.getStats();
+        assertEquals(19, stats.getDropped());
+        assertEquals(1, stats.getQueueSize());
+    }
+
+    @Test
+    void testConcurrentChangesAreQueuedInSequenceOrder() throws Exception {
+        pipelineToConnection();
+        FollowerEventPublisher publisher = publisher(1000, 1000);
+        int threads = 8;
+        int changesPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long followerId = i + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < changesPerThread; j++) {
+                        publisher.onSubscriptionChanged(new SubscriptionChangedEvent(followerId, List.of(100L, 101L),
+                                true));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        publisher.flush();
+
+        ArgumentCaptor<byte[]> payloads = ArgumentCaptor.forClass(byte[].class);
+        verify(connection, times(threads * changesPerThread * 2)).publish(aryEq(CHANNEL), payloads.capture());
+        List<Long> sequences = new ArrayList<>();
+        for (byte[] payload : payloads.getAllValues()) {
+            sequences.add(objectMapper.readValue(payload, FollowerEvent.class).getSequence());
+        }
+        // Получатель видит номера подряд, без перестановок
+        assertEquals(LongStream.rangeClosed(1, sequences.size()).boxed().toList(), sequences);
+    }
+
+    @Test
+    void testBackgroundFlushPublishesQueuedEvents() throws Exception {
+        pipelineToConnection();
+        FollowerEventPublisher publisher = publisher(10, 10);
+        publisher.start();
+        try {
+            publisher.publish(event(2));
+
+            verify(connection, timeout(1000)).publish(any(byte[].class), any(byte[].class));
+        } finally {
+            publisher.shutdown();
+        }
+        assertEquals(1, publisher.getStats().getPublished());
+    }
+}
@@ -0,0 +1,127 @@
+package school.faang.user_service.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Сверка счетчиков в настоящем PostgreSQL: подписка, закоммиченная во время сверки, не теряется,
+ * а вторая сверка не запускается, пока идет первая. Без Docker тест пропускается.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SubscriptionCounterRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SubscriptionCounterRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private SubscriptionCounterRepository subscriptionCounterRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private long followerId;
+    private long followeeId;
+    private long lateFollowerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        followerId = insertUser();
+        followeeId = insertUser();
+        lateFollowerId = insertUser();
+        jdbcTemplate.update("INSERT INTO subscription (follower_id, followee_id) VALUES (?, ?)", followerId, followeeId);
+        subscriptionCounterRepository.applyDelta(followerId, List.of(followeeId), 1);
+        // расхождение, которое должна исправить сверка
+        jdbcTemplate.update("UPDATE user_follow_counts SET followers_count = 5 WHERE user_id = ?", followeeId);
+    }
+
+    @Test
+    void reconcileKeepsDeltaCommittedWhileItRuns() throws Exception {
+        try (Connection follow = dataSource.getConnection()) {
+            follow.setAutoCommit(false);
+            try (Statement statement = follow.createStatement()) {
+                statement.executeUpdate("INSERT INTO subscription (follower_id, followee_id) VALUES ("
+                        + lateFollowerId + ", " + followeeId + ")");
+                statement.executeUpdate("UPDATE user_follow_counts SET followers_count = followers_count + 1 "
+                        + "WHERE user_id = " + followeeId);
+            }
+
+            CompletableFuture<Integer> reconcile = CompletableFuture.supplyAsync(() ->
+                    subscriptionCounterRepository.reconcileRange(followerId, lateFollowerId));
+            awaitLockWait();
+            follow.commit();
+
+            reconcile.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, subscriptionCounterRepository.getFollowersCount(followeeId));
+        assertEquals(1, subscriptionCounterRepository.getFolloweesCount(followerId));
+    }
+
+    @Test
+    void secondReconcileIsSkippedWhileFirstRuns() {
+        Optional<Optional<Integer>> nested = subscriptionCounterRepository.withReconcileLock(() ->
+                subscriptionCounterRepository.withReconcileLock(() -> 1));
+
+        assertEquals(Optional.of(Optional.empty()), nested);
+        assertEquals(Optional.of(1), subscriptionCounterRepository.withReconcileLock(() -> 1));
+    }
+
+    private long insertUser() {
+        String username = "counter_" + System.nanoTime();
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, active, country_id)
+                VALUES (?, ? || '@test.com', 'password', true, 1)
+                RETURNING id
+                """, Long.class, username, username);
+    }
+
+    // Сверка должна встать на блокировке строки счетчика, которую держит незакоммиченная подписка
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_locks WHERE NOT granted",
+                    Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Reconcile did not wait for the follow transaction");
+    }
+}
@@ -0,0 +1,88 @@
+package school.faang.user_service.repository.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static school.faang.user_service.dto.event.EventSearchResultDto.HIGHLIGHT_END;
+import static school.faang.user_service.dto.event.EventSearchResultDto.HIGHLIGHT_START;
+
+/**
+ * Поиск выполняется в настоящем PostgreSQL: проверяется формат подсветки ts_headline.
+ * Без Docker тест пропускается.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventSearchRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private EventSearchRepository eventSearchRepository;
+    private String keyword;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        eventSearchRepository = new EventSearchRepository(new NamedParameterJdbcTemplate(dataSource));
+        // Слово уникально для теста, чтобы поиск не находил события из других тестов
+        keyword = "kw" + System.nanoTime();
+        String username = "search_" + System.nanoTime();
+        long ownerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, active, country_id)
+                VALUES (?, ? || '@test.com', 'password', true, 1)
+                RETURNING id
+                """, Long.class, username, username);
+        jdbcTemplate.update("""
+                INSERT INTO event (title, description, start_date, end_date, location, user_id, type)
+                VALUES (?, ?, now(), now() + interval '1 hour', 'Online', ?, 0)
+                """, "<b>" + keyword + "</b> night", "Talk about " + keyword + " \u0002tricks\u0003", ownerId);
+    }
+
+    @Test
+    void matchesAreMarkedWithControlCharactersNotHtml() {
+        List<EventSearchRepository.Match> matches = eventSearchRepository.search(keyword, 10, 0);
+
+        assertEquals(1, matches.size());
+        EventSearchRepository.Match match = matches.get(0);
+        // HTML из текста события остается текстом, подсветка от него отличима
+        assertEquals("<b>" + HIGHLIGHT_START + keyword + HIGHLIGHT_END + "</b> night", match.titleHighlight());
+        assertTrue(match.descriptionHighlight().contains(HIGHLIGHT_START + keyword + HIGHLIGHT_END));
+    }
+
+    @Test
+    void markersStoredInEventTextAreRemoved() {
+        EventSearchRepository.Match match = eventSearchRepository.search(keyword, 10, 0).get(0);
+
+        String withoutMatch = match.descriptionHighlight().replace(HIGHLIGHT_START + keyword + HIGHLIGHT_END, "");
+        assertFalse(withoutMatch.contains(HIGHLIGHT_START));
+        assertFalse(withoutMatch.contains(HIGHLIGHT_END));
+    }
+}
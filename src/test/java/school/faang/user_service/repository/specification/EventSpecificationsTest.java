@@ -0,0 +1,243 @@
+package school.faang.user_service.repository.specification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.entity.Skill;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.event.Event;
+import school.faang.user_service.filter.EventFilter;
+import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.filter.impl.MaxAttendeesFromPatternFilter;
+import school.faang.user_service.filter.impl.MaxAttendeesToPatternFilter;
+import school.faang.user_service.filter.impl.OwnerPatternFilter;
+import school.faang.user_service.filter.impl.RelatedSkillsPatternFilter;
+import school.faang.user_service.filter.impl.StartDateAfterPatternFilter;
+import school.faang.user_service.filter.impl.TitlePatternFilter;
+import school.faang.user_service.repository.event.EventRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Спецификации событий выполняются в настоящем PostgreSQL: проверяется SQL, который строит Hibernate,
+ * и функции из changeset-ов, а не только фильтры в памяти. Без Docker тест пропускается.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventSpecificationsTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private String username;
+    private long ownerId;
+    // [10:00, 12:00], [14:00, 16:00], [11:00, 15:00]
+    private long morning;
+    private long afternoon;
+    private long allDay;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        username = "spec_" + System.nanoTime();
+        ownerId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password, active, country_id)
+                VALUES (?, ? || '@test.com', 'password', true, 1)
+                RETURNING id
+                """, Long.class, username, username);
+        morning = insertEvent(DAY.withHour(10), DAY.withHour(12));
+        afternoon = insertEvent(DAY.withHour(14), DAY.withHour(16));
+        allDay = insertEvent(DAY.withHour(11), DAY.withHour(15));
+    }
+
+    @Test
+    void overlapsFindsEventsIntersectingWindow() {
+        assertEquals(List.of(morning, allDay),
+                find(EventSpecifications.overlaps(DAY.withHour(11).withMinute(30), DAY.withHour(12).withMinute(30))));
+    }
+
+    @Test
+    void overlapsIncludesTouchingBounds() {
+        assertEquals(List.of(afternoon), find(EventSpecifications.overlaps(DAY.withHour(16), DAY.withHour(17))));
+    }
+
+    @Test
+    void overlapsWithOpenStartIsUnbounded() {
+        assertEquals(List.of(morning), find(EventSpecifications.overlaps(null, DAY.withHour(10).withMinute(30))));
+    }
+
+    @Test
+    void containsFindsEventsCoveringWholeWindow() {
+        assertEquals(List.of(afternoon, allDay),
+                find(EventSpecifications.contains(DAY.withHour(14).withMinute(30), DAY.withHour(15))));
+    }
+
+    @Test
+    void endsBeforeAndStartsAfterCompareWholeInterval() {
+        assertEquals(List.of(morning), find(EventSpecifications.endsBefore(DAY.withHour(13))));
+        assertEquals(List.of(afternoon), find(EventSpecifications.startsAfter(DAY.withHour(13))));
+    }
+
+    @Test
+    void filterSpecificationsMatchInMemoryFilters() {
+        long percent = insertEvent("Sale 50% off", DAY.withHour(9), DAY.withHour(10), 5);
+        long digits = insertEvent("Sale 500 off", DAY.withHour(9), DAY.withHour(10), null);
+        long java = insertEvent("Java meetup", DAY.withHour(18), DAY.withHour(20), 50);
+        addSkill(java, "Java");
+        addSkill(java, "Spring");
+        addSkill(afternoon, "Java");
+        addSkill(afternoon, "Cooking");
+
+        EventFilterDto title = new EventFilterDto();
+        title.setTitlePattern("50%");
+        assertEquals(List.of(percent), assertMatchesInMemory(new TitlePatternFilter(), title));
+
+        EventFilterDto from = new EventFilterDto();
+        from.setMaxAttendeesFromPattern(20);
+        assertEquals(List.of(digits, java), assertMatchesInMemory(new MaxAttendeesFromPatternFilter(), from));
+
+        EventFilterDto to = new EventFilterDto();
+        to.setMaxAttendeesToPattern(20);
+        assertEquals(List.of(morning, afternoon, allDay, percent),
+                assertMatchesInMemory(new MaxAttendeesToPatternFilter(), to));
+
+        EventFilterDto startAfter = new EventFilterDto();
+        startAfter.setStartDateAfterPattern(DAY.withHour(13));
+        assertEquals(List.of(afternoon, java), assertMatchesInMemory(new StartDateAfterPatternFilter(), startAfter));
+
+        EventFilterDto owner = new EventFilterDto();
+        User ownerPattern = new User();
+        ownerPattern.setUsername(username.substring(2));
+        owner.setOwnerPattern(ownerPattern);
+        assertEquals(6, assertMatchesInMemory(new OwnerPatternFilter(), owner).size());
+
+        EventFilterDto anySkill = new EventFilterDto();
+        anySkill.setRelatedSkillIsPattern(List.of(skill("java")));
+        assertEquals(List.of(afternoon, java), assertMatchesInMemory(new RelatedSkillsPatternFilter(), anySkill));
+
+        // События без навыков подходят под "только эти навыки", как и allMatch в памяти
+        EventFilterDto onlySkills = new EventFilterDto();
+        onlySkills.setRelatedSkillIsPattern(List.of(skill("java"), skill("spring")));
+        onlySkills.setOptionFilterSkills(true);
+        assertEquals(List.of(morning, allDay, percent, digits, java),
+                assertMatchesInMemory(new RelatedSkillsPatternFilter(), onlySkills));
+    }
+
+    @Test
+    void keysetPagesFollowSortOrderIncludingNulls() {
+        insertEvent("No limit", DAY.withHour(9), DAY.withHour(10), null);
+        insertEvent("Same limit", DAY.withHour(9), DAY.withHour(10), 10);
+        insertEvent("Large", DAY.withHour(9), DAY.withHour(10), 100);
+        insertEvent("No limit either", DAY.withHour(9), DAY.withHour(10), null);
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            Sort sort = Sort.by(direction, "maxAttendees", "id");
+            List<Long> expected = eventRepository.findAllWithoutCount(ownEvents(), PageRequest.of(0, 100, sort))
+                    .stream().map(Event::getId).toList();
+
+            List<Long> walked = new ArrayList<>();
+            List<Event> page = eventRepository.findAllWithoutCount(ownEvents(), PageRequest.of(0, 2, sort));
+            while (!page.isEmpty()) {
+                page.forEach(event -> walked.add(event.getId()));
+                Event last = page.get(page.size() - 1);
+                page = eventRepository.findAllWithoutCount(ownEvents().and(EventSpecifications.afterKey(
+                        "maxAttendees", direction, last.getMaxAttendees(), last.getId())), PageRequest.of(0, 2, sort));
+            }
+
+            assertEquals(7, expected.size());
+            assertEquals(expected, walked, "direction " + direction);
+        }
+    }
+
+    @Test
+    void eventEndingBeforeStartIsRejected() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> insertEvent(DAY.withHour(12), DAY.withHour(10)));
+    }
+
+    private long insertEvent(LocalDateTime startDate, LocalDateTime endDate) {
+        return insertEvent("Spec event", startDate, endDate, 10);
+    }
+
+    private long insertEvent(String title, LocalDateTime startDate, LocalDateTime endDate, Integer maxAttendees) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO event (title, description, start_date, end_date, location, max_attendees, user_id, type)
+                VALUES (?, 'Specification test', ?, ?, 'Online', ?, ?, 0)
+                RETURNING id
+                """, Long.class, title, startDate, endDate, maxAttendees, ownerId);
+    }
+
+    // Названия навыков уникальны в БД, поэтому к ним добавляется суффикс теста
+    private void addSkill(long eventId, String title) {
+        String uniqueTitle = title + " " + username;
+        jdbcTemplate.update("INSERT INTO skill (title) VALUES (?) ON CONFLICT (title) DO NOTHING", uniqueTitle);
+        jdbcTemplate.update("""
+                INSERT INTO event_skill (event_id, skill_id)
+                SELECT ?, id FROM skill WHERE title = ?
+                """, eventId, uniqueTitle);
+    }
+
+    private static Skill skill(String title) {
+        Skill skill = new Skill();
+        skill.setTitle(title);
+        return skill;
+    }
+
+    // Результат спецификации в БД совпадает с test() того же фильтра над теми же событиями
+    private List<Long> assertMatchesInMemory(EventFilter filter, EventFilterDto filters) {
+        List<Long> expected = eventRepository.findAll(ownEvents()).stream()
+                .filter(event -> filter.test(event, filters))
+                .map(Event::getId)
+                .sorted()
+                .toList();
+        List<Long> actual = find(filter.toSpecification(filters));
+        assertEquals(expected, actual, filter.getClass().getSimpleName());
+        return actual;
+    }
+
+    // Выборка ограничена событиями текущего теста
+    private Specification<Event> ownEvents() {
+        return (root, query, cb) -> cb.equal(root.get("owner").get("id"), ownerId);
+    }
+
+    private List<Long> find(Specification<Event> spec) {
+        return eventRepository.findAll(ownEvents().and(spec)).stream()
+                .map(Event::getId)
+                .sorted()
+                .toList();
+    }
+}
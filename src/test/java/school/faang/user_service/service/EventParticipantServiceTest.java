@@ -7,16 +7,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import school.faang.user_service.service.event.EventParticipationService;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.event.WaitlistPositionDto;
+import school.faang.user_service.dto.event.WaitlistPromotionRequest;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.mapper.UserMapper;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.exception.NotFoundException;
 import school.faang.user_service.repository.event.EventParticipationRepository;
+import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.event.EventWaitlistRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,9 +37,18 @@ public class EventParticipantServiceTest {
     @Mock
     private EventParticipationRepository eventParticipationRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventWaitlistRepository eventWaitlistRepository;
+
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EventParticipationService eventParticipationService;
 
@@ -38,11 +56,9 @@ public class EventParticipantServiceTest {
     @DisplayName("Тестирование RunTimeException при зарегестрированном пользователе")
     void registerPatricipant_whenThrowException() {
         long eventId = 1L;
-        User firstUser = new User();
-        firstUser.setId(1L);
-        List<User> userList = List.of(firstUser);
-        when(eventParticipationRepository.findAllParticipantsByEventId(eventId)).thenReturn(userList);
-        assertThrows(RuntimeException.class , () -> eventParticipationService.registrParticipant(1L,1L));
+        when(eventParticipationRepository.isRegistered(eventId, 1L)).thenReturn(true);
+        assertThrows(DataValidationException.class , () -> eventParticipationService.registrParticipant(1L,1L));
+        verify(eventParticipationRepository, never()).reserveSeat(eventId);
     }
 
     @Test
@@ -51,15 +67,58 @@ public class EventParticipantServiceTest {
         long eventId = 1L;
         User firstUser = new User();
         firstUser.setId(1L);
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(1);
+        when(eventParticipationRepository.register(eventId, firstUser.getId())).thenReturn(1);
         eventParticipationService.registrParticipant(eventId , firstUser.getId());
         verify(eventParticipationRepository,times(1))
                 .register(eventId, firstUser.getId());
+        verify(eventWaitlistRepository).remove(eventId, firstUser.getId());
+    }
+
+    @Test
+    @DisplayName("Тест регистрации в обход очереди ожидания")
+    void registerParticipant_whenOthersAreWaiting() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(1);
+        when(eventWaitlistRepository.hasWaitingAhead(eventId, 2L)).thenReturn(true);
+        assertThrows(DataValidationException.class, () -> eventParticipationService.registrParticipant(eventId, 2L));
+        verify(eventParticipationRepository, never()).register(eventId, 2L);
+        verify(eventWaitlistRepository, never()).remove(eventId, 2L);
+    }
+
+    @Test
+    @DisplayName("Тест регистрации на событие без свободных мест")
+    void registerParticipant_whenEventIsFull() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(0);
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        assertThrows(DataValidationException.class, () -> eventParticipationService.registrParticipant(eventId, 2L));
+        verify(eventParticipationRepository, never()).register(eventId, 2L);
+    }
+
+    @Test
+    @DisplayName("Тест регистрации на несуществующее событие")
+    void registerParticipant_whenEventNotFound() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(0);
+        when(eventRepository.existsById(eventId)).thenReturn(false);
+        assertThrows(NotFoundException.class, () -> eventParticipationService.registrParticipant(eventId, 2L));
+    }
+
+    @Test
+    @DisplayName("Тест одновременной повторной регистрации: вставку отсекает уникальный индекс")
+    void registerParticipant_whenConcurrentDuplicate() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(1);
+        when(eventParticipationRepository.register(eventId, 2L)).thenReturn(0);
+        assertThrows(DataValidationException.class, () -> eventParticipationService.registrParticipant(eventId, 2L));
     }
 
     @Test
     @DisplayName("Тестирование RunTimeException если пользователь не зарегестрирован")
     void unregisterParticipant_whenThrowException(){
-        assertThrows(RuntimeException.class , () -> eventParticipationService.unregisterParticipant(1L,1L));
+        assertThrows(DataValidationException.class , () -> eventParticipationService.unregisterParticipant(1L,1L));
+        verify(eventParticipationRepository, never()).releaseSeat(1L);
     }
 
     @Test
@@ -68,11 +127,70 @@ public class EventParticipantServiceTest {
         long eventId = 1L;
         User firstUser = new User();
         firstUser.setId(1L);
-        List<User> userList = List.of(firstUser);
-        when(eventParticipationRepository.findAllParticipantsByEventId(eventId)).thenReturn(userList);
+        when(eventParticipationRepository.unregister(eventId, firstUser.getId())).thenReturn(1);
         eventParticipationService.unregisterParticipant(eventId, firstUser.getId());
         verify(eventParticipationRepository,Mockito.times(1))
                 .unregister(eventId , firstUser.getId());
+        verify(eventParticipationRepository).releaseSeat(eventId);
+        verify(eventPublisher).publishEvent(new WaitlistPromotionRequest(eventId));
+    }
+
+    @Test
+    @DisplayName("Тест постановки в очередь ожидания")
+    void joinWaitlist_ReturnsPosition() {
+        long eventId = 1L;
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(eventWaitlistRepository.enqueue(eventId, 2L)).thenReturn(1);
+        when(eventWaitlistRepository.findPosition(eventId, 2L)).thenReturn(Optional.of(3));
+
+        assertEquals(new WaitlistPositionDto(eventId, 2L, 3), eventParticipationService.joinWaitlist(eventId, 2L));
+        verify(eventPublisher).publishEvent(new WaitlistPromotionRequest(eventId));
+    }
+
+    @Test
+    @DisplayName("Тест постановки в очередь уже зарегистрированного пользователя")
+    void joinWaitlist_whenAlreadyRegistered() {
+        long eventId = 1L;
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(eventParticipationRepository.isRegistered(eventId, 2L)).thenReturn(true);
+
+        assertThrows(DataValidationException.class, () -> eventParticipationService.joinWaitlist(eventId, 2L));
+        verify(eventWaitlistRepository, never()).enqueue(eventId, 2L);
+    }
+
+    @Test
+    @DisplayName("Тест перевода первого из очереди в участники")
+    void promoteNextFromWaitlist_PromotesHeadOfQueue() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(1);
+        // первый в очереди уже зарегистрировался сам и пропускается
+        when(eventWaitlistRepository.pollNext(eventId)).thenReturn(Optional.of(2L), Optional.of(3L));
+        when(eventParticipationRepository.register(eventId, 2L)).thenReturn(0);
+        when(eventParticipationRepository.register(eventId, 3L)).thenReturn(1);
+
+        assertEquals(Optional.of(3L), eventParticipationService.promoteNextFromWaitlist(eventId));
+        verify(eventParticipationRepository, never()).releaseSeat(eventId);
+    }
+
+    @Test
+    @DisplayName("Тест продвижения пустой очереди: место возвращается")
+    void promoteNextFromWaitlist_whenQueueIsEmpty() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(1);
+        when(eventWaitlistRepository.pollNext(eventId)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), eventParticipationService.promoteNextFromWaitlist(eventId));
+        verify(eventParticipationRepository).releaseSeat(eventId);
+    }
+
+    @Test
+    @DisplayName("Тест продвижения очереди без свободных мест")
+    void promoteNextFromWaitlist_whenNoSeats() {
+        long eventId = 1L;
+        when(eventParticipationRepository.reserveSeat(eventId)).thenReturn(0);
+
+        assertEquals(Optional.empty(), eventParticipationService.promoteNextFromWaitlist(eventId));
+        verify(eventWaitlistRepository, never()).pollNext(eventId);
     }
 
     @Test
@@ -103,7 +221,7 @@ public class EventParticipantServiceTest {
         List<UserDto> dtoList = userList.stream()
                 .map(user -> userMapper.toDto(user))
                 .toList();
-        when(eventParticipationRepository.countParticipants(eventId)).thenReturn(dtoList.size());
+        when(eventParticipationRepository.countParticipants(eventId)).thenReturn(Optional.of(dtoList.size()));
         assertEquals(2,eventParticipationService.getParticipantCount(eventId));
     }
 }
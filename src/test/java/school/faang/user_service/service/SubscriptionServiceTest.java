@@ -5,14 +5,32 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import school.faang.user_service.dto.filter.SubscriptionFilterDto;
+import school.faang.user_service.dto.subscription.FollowStatusDto;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+import school.faang.user_service.dto.subscription.SubscriptionCursor;
 import school.faang.user_service.dto.subscription.SubscriptionDto;
+import school.faang.user_service.dto.subscription.SubscriptionOutcome;
+import school.faang.user_service.dto.subscription.SubscriptionOutcomeDto;
+import school.faang.user_service.dto.subscription.SubscriptionPageDto;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.exception.NotFoundException;
 import school.faang.user_service.mapper.SubscriptionMapper;
+import school.faang.user_service.repository.SubscriptionBulkRepository;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
+import school.faang.user_service.repository.SubscriptionPageRepository;
+import school.faang.user_service.repository.SubscriptionPageRepository.Direction;
 import school.faang.user_service.repository.SubscriptionRepository;
+import school.faang.user_service.service.subscription.SubscriptionBloomFilter;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +44,21 @@ class SubscriptionServiceTest {
     @Mock
     private SubscriptionMapper subscriptionMapper;
 
+    @Mock
+    private SubscriptionCounterRepository subscriptionCounterRepository;
+
+    @Mock
+    private SubscriptionPageRepository subscriptionPageRepository;
+
+    @Mock
+    private SubscriptionBulkRepository subscriptionBulkRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SubscriptionBloomFilter subscriptionBloomFilter;
+
     @InjectMocks
     private SubscriptionService subscriptionService;
 
@@ -60,16 +93,20 @@ class SubscriptionServiceTest {
 
     @Test
     void testFollowUserWhenSubscriptionDoesNotExistShouldCallRepository() {
-        when(subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)).thenReturn(false);
+        when(subscriptionBulkRepository.followAll(followerId, List.of(followeeId)))
+                .thenReturn(Map.of(followeeId, SubscriptionOutcome.FOLLOWED));
 
         subscriptionService.followUser(followerId, followeeId);
 
-        verify(subscriptionRepository, times(1)).followUser(followerId, followeeId);
+        verify(subscriptionBulkRepository, times(1)).followAll(followerId, List.of(followeeId));
+        verify(subscriptionCounterRepository, times(1)).applyDelta(followerId, List.of(followeeId), 1);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(followerId, List.of(followeeId), true));
     }
 
     @Test
     void testFollowUserWhenSubscriptionExistsShouldThrowException() {
-        when(subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)).thenReturn(true);
+        when(subscriptionBulkRepository.followAll(followerId, List.of(followeeId)))
+                .thenReturn(Map.of(followeeId, SubscriptionOutcome.ALREADY_FOLLOWING));
 
         DataValidationException exception = assertThrows(DataValidationException.class,
                 () -> subscriptionService.followUser(followerId, followeeId)
@@ -80,21 +117,33 @@ class SubscriptionServiceTest {
                 exception.getMessage()
         );
 
-        verify(subscriptionRepository, never()).followUser(anyLong(), anyLong());
+        verify(subscriptionCounterRepository, times(1)).applyDelta(followerId, List.of(), 1);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    void testUnfollowUserWhenSubscriptionExistsShouldCallRepository() {
-        when(subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)).thenReturn(true);
+    void testFollowUserWhenFolloweeDoesNotExistShouldThrowException() {
+        when(subscriptionBulkRepository.followAll(followerId, List.of(followeeId)))
+                .thenReturn(Map.of(followeeId, SubscriptionOutcome.USER_NOT_FOUND));
+
+        assertThrows(NotFoundException.class, () -> subscriptionService.followUser(followerId, followeeId));
+    }
+
+    @Test
+    void testUnfollowUserShouldDecrementCountersByDeletedRows() {
+        when(subscriptionBulkRepository.unfollowAll(followerId, List.of(followeeId)))
+                .thenReturn(Map.of(followeeId, SubscriptionOutcome.UNFOLLOWED));
 
-        subscriptionRepository.unfollowUser(followerId, followeeId);
+        subscriptionService.unfollowUser(followerId, followeeId);
 
-        verify(subscriptionRepository, times(1)).unfollowUser(followerId, followeeId);
+        verify(subscriptionCounterRepository, times(1)).applyDelta(followerId, List.of(followeeId), -1);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(followerId, List.of(followeeId), false));
     }
 
     @Test
     void testUnfollowUserWhenSubscriptionDoesNotExistShouldThrowException() {
-        when(subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)).thenReturn(false);
+        when(subscriptionBulkRepository.unfollowAll(followerId, List.of(followeeId)))
+                .thenReturn(Map.of(followeeId, SubscriptionOutcome.NOT_FOLLOWING));
 
         DataValidationException exception = assertThrows(DataValidationException.class,
                 () -> subscriptionService.unfollowUser(followerId, followeeId)
@@ -105,8 +154,68 @@ class SubscriptionServiceTest {
                         ", на которого вы не подписаны.",
                 exception.getMessage()
         );
+    }
 
-        verify(subscriptionRepository, never()).unfollowUser(anyLong(), anyLong());
+    @Test
+    void testFollowUsersShouldReturnOutcomesInRequestOrder() {
+        when(subscriptionBulkRepository.followAll(followerId, List.of(5L, 3L, 4L))).thenReturn(Map.of(
+                5L, SubscriptionOutcome.FOLLOWED,
+                3L, SubscriptionOutcome.ALREADY_FOLLOWING,
+                4L, SubscriptionOutcome.USER_NOT_FOUND));
+
+        List<SubscriptionOutcomeDto> outcomes =
+                subscriptionService.followUsers(followerId, Arrays.asList(5L, 3L, 5L, null, 4L));
+
+        assertEquals(List.of(
+                new SubscriptionOutcomeDto(5L, SubscriptionOutcome.FOLLOWED),
+                new SubscriptionOutcomeDto(3L, SubscriptionOutcome.ALREADY_FOLLOWING),
+                new SubscriptionOutcomeDto(4L, SubscriptionOutcome.USER_NOT_FOUND)), outcomes);
+        verify(subscriptionCounterRepository, times(1)).applyDelta(followerId, List.of(5L), 1);
+    }
+
+    @Test
+    void testFollowUsersWithEmptyListShouldThrowException() {
+        assertThrows(DataValidationException.class, () -> subscriptionService.followUsers(followerId, List.of()));
+        verifyNoInteractions(subscriptionBulkRepository, subscriptionCounterRepository);
+    }
+
+    @Test
+    void testIsFollowingWhenBloomFilterSaysNoShouldSkipDatabase() {
+        when(subscriptionBloomFilter.mightContain(followerId, followeeId)).thenReturn(false);
+
+        assertFalse(subscriptionService.isFollowing(followerId, followeeId));
+        verifyNoInteractions(subscriptionRepository);
+    }
+
+    @Test
+    void testIsFollowingWhenBloomFilterSaysMaybeShouldCheckDatabase() {
+        when(subscriptionBloomFilter.mightContain(followerId, followeeId)).thenReturn(true);
+        when(subscriptionRepository.existsByFollowerIdAndFolloweeId(followerId, followeeId)).thenReturn(true);
+
+        assertTrue(subscriptionService.isFollowing(followerId, followeeId));
+    }
+
+    @Test
+    void testGetFollowStatusesShouldQueryOnlyPossibleSubscriptionsOnce() {
+        when(subscriptionBloomFilter.mightContain(followerId, 3L)).thenReturn(true);
+        when(subscriptionBloomFilter.mightContain(followerId, 4L)).thenReturn(true);
+        when(subscriptionBulkRepository.findFollowedAmong(followerId, List.of(3L, 4L))).thenReturn(Set.of(4L));
+
+        List<FollowStatusDto> statuses = subscriptionService.getFollowStatuses(followerId, List.of(3L, 4L, 5L));
+
+        assertEquals(List.of(
+                new FollowStatusDto(3L, false),
+                new FollowStatusDto(4L, true),
+                new FollowStatusDto(5L, false)), statuses);
+        verify(subscriptionBulkRepository, times(1)).findFollowedAmong(followerId, List.of(3L, 4L));
+    }
+
+    @Test
+    void testGetFollowStatusesWhenBloomFilterRulesOutAllShouldNotQuery() {
+        List<FollowStatusDto> statuses = subscriptionService.getFollowStatuses(followerId, List.of(3L, 4L));
+
+        assertEquals(List.of(new FollowStatusDto(3L, false), new FollowStatusDto(4L, false)), statuses);
+        verifyNoInteractions(subscriptionBulkRepository);
     }
 
     @Test
@@ -140,24 +249,24 @@ class SubscriptionServiceTest {
 
     @Test
     void testGetFollowersCountShouldReturnCount() {
-        when(subscriptionRepository.findFollowersAmountByFolloweeId(followeeId)).thenReturn(expectedCount);
+        when(subscriptionCounterRepository.getFollowersCount(followeeId)).thenReturn(expectedCount);
 
         int actualCount = subscriptionService.getFollowersCount(followeeId);
 
         assertEquals(expectedCount, actualCount);
-        verify(subscriptionRepository, times(1)).findFollowersAmountByFolloweeId(followeeId);
+        verify(subscriptionCounterRepository, times(1)).getFollowersCount(followeeId);
     }
 
     @Test
     void testGetFollowersCountWhenNoFollowersShouldThrowException() {
-        when(subscriptionRepository.findFollowersAmountByFolloweeId(followeeId)).thenReturn(0);
+        when(subscriptionCounterRepository.getFollowersCount(followeeId)).thenReturn(0);
 
         DataValidationException exception = assertThrows(DataValidationException.class, () -> {
             subscriptionService.getFollowersCount(followeeId);
         });
 
         assertEquals("Подписчики не найдены", exception.getMessage());
-        verify(subscriptionRepository, times(1)).findFollowersAmountByFolloweeId(followeeId);
+        verify(subscriptionCounterRepository, times(1)).getFollowersCount(followeeId);
     }
 
     @Test
@@ -209,23 +318,66 @@ class SubscriptionServiceTest {
 
     @Test
     void testGetFollowingCountShouldReturnCount() {
-        when(subscriptionRepository.findFolloweesAmountByFollowerId(followerId)).thenReturn(expectedCount);
+        when(subscriptionCounterRepository.getFolloweesCount(followerId)).thenReturn(expectedCount);
 
         int actualCount = subscriptionService.getFollowingCount(followerId);
 
         assertEquals(expectedCount, actualCount);
-        verify(subscriptionRepository, times(1)).findFolloweesAmountByFollowerId(followerId);
+        verify(subscriptionCounterRepository, times(1)).getFolloweesCount(followerId);
     }
 
     @Test
     void testGetFollowingCountWhenNoSubscriptionsShouldThrowException() {
-        when(subscriptionRepository.findFolloweesAmountByFollowerId(followerId)).thenReturn(0);
+        when(subscriptionCounterRepository.getFolloweesCount(followerId)).thenReturn(0);
 
         DataValidationException exception = assertThrows(DataValidationException.class, () -> {
             subscriptionService.getFollowingCount(followerId);
         });
 
         assertEquals("Подписки не найдены", exception.getMessage()); // Сообщение обновлено
-        verify(subscriptionRepository, times(1)).findFolloweesAmountByFollowerId(followerId);
+        verify(subscriptionCounterRepository, times(1)).getFolloweesCount(followerId);
+    }
+
+    @Test
+    void testGetFollowersPageShouldReturnCursorWhenMoreRowsExist() {
+        SubscriptionCursor first = new SubscriptionCursor(
+                OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), 10L);
+        SubscriptionCursor second = new SubscriptionCursor(
+                OffsetDateTime.of(2024, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC), 11L);
+        when(subscriptionPageRepository.findPage(Direction.FOLLOWERS, followeeId, filter, null, 2)).thenReturn(List.of(
+                new SubscriptionPageRepository.Row(subscriptionDto, first),
+                new SubscriptionPageRepository.Row(new SubscriptionDto(), second)));
+
+        SubscriptionPageDto page = subscriptionService.getFollowersPage(followeeId, filter, null, 1);
+
+        assertEquals(List.of(subscriptionDto), page.getSubscriptions());
+        assertEquals(first, SubscriptionCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetFollowingPageShouldPassDecodedCursor() {
+        SubscriptionCursor after = new SubscriptionCursor(
+                OffsetDateTime.of(2024, 1, 1, 12, 30, 0, 123_456_000, ZoneOffset.UTC), 7L);
+        when(subscriptionPageRepository.findPage(Direction.FOLLOWING, followerId, filter, after, 11)).thenReturn(List.of(
+                new SubscriptionPageRepository.Row(subscriptionDto, after)));
+
+        SubscriptionPageDto page = subscriptionService.getFollowingPage(followerId, filter, after.encode(), 10);
+
+        assertEquals(List.of(subscriptionDto), page.getSubscriptions());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetFollowersPageWithInvalidCursorShouldThrowException() {
+        assertThrows(DataValidationException.class,
+                () -> subscriptionService.getFollowersPage(followeeId, filter, "not-a-cursor", 10));
+        verifyNoInteractions(subscriptionPageRepository);
+    }
+
+    @Test
+    void testGetFollowersPageWithInvalidLimitShouldThrowException() {
+        assertThrows(DataValidationException.class,
+                () -> subscriptionService.getFollowersPage(followeeId, filter, null, 0));
+        verifyNoInteractions(subscriptionPageRepository);
     }
-}
\ No newline at end of file
+}
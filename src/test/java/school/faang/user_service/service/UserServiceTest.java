@@ -1,5 +1,7 @@
 package school.faang.user_service.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,45 +11,66 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.UserDeactivationReportDto;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserPageDto;
+import school.faang.user_service.dto.UsersBatchDto;
 import school.faang.user_service.dto.filter.UserFilterDto;
 import school.faang.user_service.entity.User;
-import school.faang.user_service.entity.event.Event;
-import school.faang.user_service.entity.goal.Goal;
+import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.filter.user.*;
-import school.faang.user_service.mapper.UserMapper;
+import school.faang.user_service.repository.UserReadRepository;
 import school.faang.user_service.repository.UserRepository;
-import school.faang.user_service.repository.event.EventRepository;
-import school.faang.user_service.repository.goal.GoalRepository;
-import school.faang.user_service.service.mentorship.MentorshipService;
+import school.faang.user_service.service.user.UserBatchLoader;
+import school.faang.user_service.service.user.NdjsonWriter;
+import school.faang.user_service.service.user.RowWriter;
+import school.faang.user_service.service.user.UserDeactivationService;
+import school.faang.user_service.service.user.UserStreamWriter;
+import school.faang.user_service.service.user.cache.UserProfileCache;
+import school.faang.user_service.service.user.view.ProfileViewTracker;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongFunction;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
     private static final String MESSAGE_USER_NOT_EXIST = "User does not exist";
-    private static final String MESSAGE_USER_ALREADY_DEACTIVATED = "User is already deactivated";
     private static final int VALID_ID = 1;
     @Mock
-    private MentorshipService mentorshipService;
-    @Mock
     private UserRepository userRepository;
     @Mock
-    private GoalRepository goalRepository;
+    private UserReadRepository userReadRepository;
+    @Mock
+    private UserBatchLoader userBatchLoader;
+    @Mock
+    private UserDeactivationService userDeactivationService;
+    @Mock
+    private UserProfileCache userProfileCache;
     @Mock
-    private EventRepository eventRepository;
+    private UserStreamWriter userStreamWriter;
     @Mock
-    private UserMapper mapper;
+    private ProfileViewTracker profileViewTracker;
     @Spy
     private UserCityFilter userCityFilter;
     @Spy
@@ -56,6 +79,7 @@ class UserServiceTest {
     private UserNameFilter userNameFilter;
     @Spy
     private UserPhoneFilter userPhoneFilter;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
     @InjectMocks
     private UserService userService;
     private User user;
@@ -71,13 +95,8 @@ class UserServiceTest {
         user = new User();
         user.setId(VALID_ID);
         user.setActive(true);
-        Goal goal = new Goal();
-        goal.setId((long) VALID_ID);
-        goal.setUsers(List.of(new User()));
-        user.setGoals(List.of(goal));
-        user.setOwnedEvents(List.of(new Event(), new Event()));
         List<UserFilter> userFilters = List.of(userCityFilter, userEmailFilter, userNameFilter, userPhoneFilter);
-        userService = new UserService(userRepository, goalRepository, eventRepository, mentorshipService, mapper, userFilters);
+        userService = createService(userFilters);
 
         dtoUser = new UserDto();
         ids = List.of(1L);
@@ -85,130 +104,171 @@ class UserServiceTest {
     }
 
     @Test
-    public void testUserIsNotInDb() {
-        //Act
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
-        //Assert
-        assertEquals(
-                MESSAGE_USER_NOT_EXIST,
-                assertThrows(
-                        RuntimeException.class,
-                        () -> userService.deactivatesUserProfile(user.getId())).getMessage());
-    }
+    public void testDeactivatesUserProfileReturnsDeactivatedUser() {
+        dtoUser.setActive(false);
+        loadThroughCache();
+        Mockito.when(userReadRepository.findById(VALID_ID)).thenReturn(Optional.of(dtoUser));
 
-    @Test
-    public void testUserAlreadyDeactivated() {
-        //Arrange
-        user.setActive(false);
-        //Act
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        //Assert
-        assertEquals(
-                MESSAGE_USER_ALREADY_DEACTIVATED,
-                assertThrows(
-                        RuntimeException.class,
-                        () -> userService.deactivatesUserProfile(user.getId())).getMessage());
+        assertEquals(dtoUser, userService.deactivatesUserProfile(VALID_ID));
+        Mockito.verify(userDeactivationService).deactivate(VALID_ID);
+        Mockito.verifyNoInteractions(profileViewTracker);
     }
 
     @Test
-    public void testGoalDeletedById() {
-        //Act
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        //Assert
-        userService.deactivatesUserProfile(user.getId());
-        Mockito.verify(goalRepository).deleteById(anyLong());
-    }
+    public void testDeactivatesUserProfileFailsBeforeLoading() {
+        Mockito.doThrow(new RuntimeException(MESSAGE_USER_NOT_EXIST))
+                .when(userDeactivationService).deactivate(VALID_ID);
 
-    @Test
-    public void testEventDeletedById() {
-        //Act
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        //Assert
-        userService.deactivatesUserProfile(user.getId());
-        Mockito.verify(eventRepository, Mockito.times(user.getOwnedEvents().size())).deleteById(anyLong());
+        assertEquals(MESSAGE_USER_NOT_EXIST, assertThrows(RuntimeException.class,
+                () -> userService.deactivatesUserProfile(VALID_ID)).getMessage());
+        Mockito.verify(userReadRepository, Mockito.never()).findById(anyLong());
     }
 
     @Test
-    public void testUserSave() {
-        //Act
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(mentorshipService.stopMentorship(any())).thenReturn(user);
-        //Assert
-        userService.deactivatesUserProfile(user.getId());
-        Mockito.verify(userRepository).save(user);
-    }
+    public void testDeactivateUsersDelegatesToBulkDeactivation() {
+        UserDeactivationReportDto report = new UserDeactivationReportDto(1, 1, List.of(), List.of());
+        Mockito.when(userDeactivationService.deactivateAll(ids)).thenReturn(report);
 
-    @Test
-    public void testUserToUserDto() {
-        //Act
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(mentorshipService.stopMentorship(any())).thenReturn(user);
-        Mockito.when(userRepository.save(user)).thenReturn(user);
-        //Assert
-        userService.deactivatesUserProfile(user.getId());
-        Mockito.verify(mapper).toDto(user);
+        assertEquals(report, userService.deactivateUsers(ids));
     }
 
     @Test
     @DisplayName("Тест получаем пользователя")
     public void testGetUser() {
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(mapper.toDto(any())).thenReturn(dtoUser);
+        loadThroughCache();
+        Mockito.when(userReadRepository.findById(anyLong())).thenReturn(Optional.of(dtoUser));
 
         assertEquals(dtoUser, userService.getUser(1L));
+        Mockito.verify(userRepository, Mockito.never()).findById(anyLong());
+        Mockito.verify(profileViewTracker).recordView(1L);
     }
 
     @Test
     @DisplayName("Тест получение пользователя на исключение")
     public void testGetUser_whenException() {
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        loadThroughCache();
+        Mockito.when(userReadRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () ->
                 userService.getUser(1L));
+        Mockito.verifyNoInteractions(profileViewTracker);
+    }
+
+    @Test
+    @DisplayName("Тест пользователь из кэша не читается из БД")
+    public void testGetUserFromCache() {
+        Mockito.when(userProfileCache.get(eq(1L), any())).thenReturn(dtoUser);
+
+        assertEquals(dtoUser, userService.getUser(1L));
+        Mockito.verify(userReadRepository, Mockito.never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Тест получаем список всех пользователей")
     public void testGetUsersByIds() {
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        Mockito.when(mapper.toDto(any())).thenReturn(dtoUser);
-        dtoUser = mapper.toDto(user);
+        Mockito.when(userBatchLoader.loadByIds(ids)).thenReturn(Map.of(user.getId(), dtoUser));
         dtoList = List.of(dtoUser);
-      
-        assertEquals(dtoList, userService.getUsersByIds(ids));
+
+        UsersBatchDto result = userService.getUsersByIds(ids);
+
+        assertEquals(dtoList, result.getUsers());
+        assertTrue(result.getMissingIds().isEmpty());
     }
 
     @Test
-    @DisplayName("Тест исключение при получении списка пользователей")
-    public void testGetUsersByIds_whenException() {
-        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+    @DisplayName("Тест порядок пользователей и отсутствующие id")
+    public void testGetUsersByIds_keepsOrderAndReportsMissing() {
+        UserDto secondDto = new UserDto();
+        secondDto.setId(2L);
+        List<Long> requested = List.of(2L, 3L, 1L);
+        Mockito.when(userBatchLoader.loadByIds(requested)).thenReturn(Map.of(1L, dtoUser, 2L, secondDto));
 
-        assertThrows(RuntimeException.class, () ->
-                userService.getUsersByIds(ids));
+        UsersBatchDto result = userService.getUsersByIds(requested);
+
+        assertEquals(List.of(secondDto, dtoUser), result.getUsers());
+        assertEquals(List.of(3L), result.getMissingIds());
     }
 
     @Test
     public void testGetPremiumUsersMultipleUsers() {
+        UserFilterDto dto = UserFilterDto.builder().name("Alex").build();
+        when(userRepository.findIdsOrderById(any(Specification.class), eq(Pageable.unpaged())))
+                .thenReturn(List.of(1L));
+        when(userBatchLoader.loadInOrder(List.of(1L))).thenReturn(List.of(dtoUser));
+
+        List<UserDto> premiumUsers = userService.getPremiumUsers(dto);
+        assertEquals(List.of(dtoUser), premiumUsers);
+        Mockito.verify(userRepository, Mockito.never()).findPremiumUsers();
+    }
+
+    @Test
+    public void testGetPremiumUsersWithPageSize() {
+        UserFilterDto dto = UserFilterDto.builder().city("London").page(1).pageSize(10).build();
+        when(userRepository.findIdsOrderById(any(Specification.class), eq(PageRequest.of(1, 10))))
+                .thenReturn(List.of(11L));
+        when(userBatchLoader.loadInOrder(List.of(11L))).thenReturn(List.of(dtoUser));
+
+        List<UserDto> premiumUsers = userService.getPremiumUsers(dto);
+        assertEquals(1, premiumUsers.size());
+    }
+
+    @Test
+    public void testGetPremiumUsersNegativePage() {
+        UserFilterDto dto = UserFilterDto.builder().city("London").page(-1).pageSize(10).build();
+
+        assertThrows(DataValidationException.class, () -> userService.getPremiumUsers(dto));
+        Mockito.verify(userRepository, Mockito.never()).findIdsOrderById(any(), any());
+    }
+
+    @Test
+    public void testGetPremiumUsersInMemoryFallback() {
         User alex = User.builder()
+                .id(1L)
                 .username("Alex")
                 .city("London")
                 .build();
         User misha = User.builder()
+                .id(2L)
                 .username("Misha")
-                .city("London")
+                .city("Paris")
                 .build();
-        UserFilterDto dto = UserFilterDto.builder().name("Alex").build();
+        userService = createService(List.of(inMemoryCityFilter()));
+        UserFilterDto dto = UserFilterDto.builder().city("London").build();
         users = List.of(alex, misha);
         when(userRepository.findPremiumUsers()).thenReturn(users.stream());
+        when(userBatchLoader.loadInOrder(List.of(1L))).thenReturn(List.of(dtoUser));
 
         List<UserDto> premiumUsers = userService.getPremiumUsers(dto);
         assertEquals(1, premiumUsers.size());
-        assertEquals(mapper.toDto(alex), premiumUsers.get(0));
+        Mockito.verify(userRepository, Mockito.never()).findIdsOrderById(any(), any());
+    }
+
+    @Test
+    public void testGetPremiumUsersInMemoryFallbackWithPage() {
+        User alex = User.builder()
+                .id(1L)
+                .username("Alex")
+                .city("London")
+                .build();
+        User misha = User.builder()
+                .id(2L)
+                .username("Misha")
+                .city("London")
+                .build();
+        userService = createService(List.of(inMemoryCityFilter()));
+        UserFilterDto dto = UserFilterDto.builder().city("London").page(1).pageSize(1).build();
+        users = List.of(alex, misha);
+        when(userRepository.findPremiumUsers()).thenReturn(users.stream());
+        when(userBatchLoader.loadInOrder(List.of(2L))).thenReturn(List.of(dtoUser));
+
+        List<UserDto> premiumUsers = userService.getPremiumUsers(dto);
+        assertEquals(List.of(dtoUser), premiumUsers);
     }
 
     @Test
     public void testGetPremiumUsersNoMatch() {
-        UserFilterDto dto = UserFilterDto.builder().name("Misha").build();
+        userService = createService(List.of(inMemoryCityFilter()));
+        UserFilterDto dto = UserFilterDto.builder().city("Moscow").build();
         when(userRepository.findPremiumUsers()).thenReturn(Stream.empty());
 
         List<UserDto> premiumUsers = userService.getPremiumUsers(dto);
@@ -216,21 +276,128 @@ class UserServiceTest {
     }
 
     @Test
-    public void testGetPremiumUsersEmptyList() {
-        User alex = User.builder()
-                .username("Alex")
-                .city("London")
-                .build();
-        UserFilterDto dto = UserFilterDto.builder().name("Misha").build();
-        users = List.of(alex);
-        when(userRepository.findPremiumUsers()).thenReturn(users.stream());
+    public void testGetPremiumUsersPageReturnsNextCursor() {
+        UserDto firstDto = new UserDto();
+        firstDto.setId(5L);
+        UserFilterDto dto = UserFilterDto.builder().name("Alex").build();
+        when(userRepository.findIdsOrderById(any(Specification.class), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(5L, 7L));
+        when(userBatchLoader.loadInOrder(List.of(5L))).thenReturn(List.of(firstDto));
 
-        List<UserDto> premiumUsers = userService.getPremiumUsers(dto);
-        assertEquals(0, premiumUsers.size());
+        UserPageDto page = userService.getPremiumUsersPage(dto, 3L, 1);
+
+        assertEquals(List.of(firstDto), page.getUsers());
+        assertEquals(5L, page.getNextCursor());
+    }
+
+    @Test
+    public void testGetPremiumUsersPageLastPage() {
+        UserFilterDto dto = UserFilterDto.builder().name("Alex").build();
+        when(userRepository.findIdsOrderById(any(Specification.class), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(5L));
+        when(userBatchLoader.loadInOrder(List.of(5L))).thenReturn(List.of(dtoUser));
+
+        UserPageDto page = userService.getPremiumUsersPage(dto, null, 2);
+
+        assertEquals(1, page.getUsers().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testGetPremiumUsersPageInvalidLimit() {
+        assertThrows(DataValidationException.class,
+                () -> userService.getPremiumUsersPage(new UserFilterDto(), null, 0));
+    }
+
+    @Test
+    public void testStreamPremiumUsersWritesNdjson() {
+        UserDto first = new UserDto();
+        first.setId(1L);
+        UserFilterDto dto = UserFilterDto.builder().name("a").build();
+        Mockito.doAnswer(invocation -> {
+            invocation.<RowWriter>getArgument(1).write(first);
+            return null;
+        }).when(userStreamWriter).writeAll(any(Specification.class), any(NdjsonWriter.class));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userService.streamPremiumUsers(dto, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("{\"id\":1,"));
+        Mockito.verify(userStreamWriter, Mockito.never()).writeIds(any(), any());
+    }
+
+    @Test
+    public void testStreamPremiumUsersInMemoryFallback() {
+        User alex = User.builder().id(1L).city("London").build();
+        User misha = User.builder().id(2L).city("Paris").build();
+        userService = createService(List.of(inMemoryCityFilter()));
+        when(userRepository.findPremiumUsers()).thenReturn(Stream.of(alex, misha));
+        Mockito.doAnswer(invocation -> {
+            assertEquals(List.of(1L), invocation.<Stream<Long>>getArgument(0).toList());
+            return null;
+        }).when(userStreamWriter).writeIds(any(), any(NdjsonWriter.class));
+
+        userService.streamPremiumUsers(UserFilterDto.builder().city("London").build(), new ByteArrayOutputStream());
+
+        Mockito.verify(userStreamWriter).writeIds(any(), any(NdjsonWriter.class));
+    }
+
+    @Test
+    public void testSearchUsersEscapesPattern() {
+        when(userRepository.searchIdsBySubstring("50%_off", "%50\\%\\_off%", PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of(user.getId()), PageRequest.of(0, 20), 1));
+        when(userBatchLoader.loadInOrder(List.of(user.getId()))).thenReturn(List.of(dtoUser));
+
+        Page<UserDto> result = userService.searchUsers(" 50%_OFF ", 0, 20);
+
+        assertEquals(List.of(dtoUser), result.getContent());
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    public void testSearchUsersBlankQuery() {
+        assertThrows(DataValidationException.class, () -> userService.searchUsers("  ", 0, 20));
+    }
+
+    @Test
+    public void testSearchUsersNegativePage() {
+        assertEquals("Page must not be negative",
+                assertThrows(DataValidationException.class, () -> userService.searchUsers("alex", -1, 20)).getMessage());
+    }
+
+    @Test
+    public void testSearchUsersTooLargePage() {
+        assertThrows(DataValidationException.class, () -> userService.searchUsers("alex", 0, 1000));
     }
 
     @Test
     public void testGetPremiumUsersEmptyFilterDto() {
         assertThrows(RuntimeException.class, () -> userService.getPremiumUsers(new UserFilterDto()));
     }
-}
\ No newline at end of file
+
+    private UserService createService(List<UserFilter> filters) {
+        return new UserService(userRepository, userReadRepository, filters,
+                userBatchLoader, userDeactivationService, userProfileCache, userStreamWriter, objectMapper,
+                profileViewTracker);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadThroughCache() {
+        Mockito.when(userProfileCache.get(anyLong(), any())).thenAnswer(invocation ->
+                ((LongFunction<UserDto>) invocation.getArgument(1)).apply(invocation.<Long>getArgument(0)));
+    }
+
+    private UserFilter inMemoryCityFilter() {
+        return new UserFilter() {
+            @Override
+            public boolean checkingForNull(UserFilterDto userFilterDto) {
+                return userFilterDto.getCity() != null;
+            }
+
+            @Override
+            public boolean filterUsers(User user, UserFilterDto userFilterDto) {
+                return user.getCity().equals(userFilterDto.getCity());
+            }
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package school.faang.user_service.service.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.entity.event.Event;
+import school.faang.user_service.entity.event.EventStatus;
+import school.faang.user_service.entity.event.EventType;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.mapper.UserMapper;
+import school.faang.user_service.repository.UserRepository;
+import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.event.EventWaitlistRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Регистрации идут параллельно из многих потоков в настоящий PostgreSQL: проверяется,
+ * что мест никогда не занимается больше max_attendees и что пользователь не регистрируется дважды.
+ * Без Docker тест пропускается.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EventParticipationService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventRegistrationConcurrencyTest {
+    private static final int SEATS = 50;
+    private static final int CONTENDERS = 500;
+    private static final int THREADS = 32;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+    }
+
+    @MockBean
+    private UserMapper userMapper;
+
+    @MockBean
+    private EventWaitlistRepository eventWaitlistRepository;
+
+    @Autowired
+    private EventParticipationService eventParticipationService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private long eventId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        String prefix = "stress_" + System.nanoTime() + "_";
+        userIds = jdbcTemplate.queryForList("""
+                INSERT INTO users (username, email, password, active, country_id)
+                SELECT ? || g, ? || g || '@test.com', 'password', true, 1
+                FROM generate_series(1, ?) g
+                RETURNING id
+                """, Long.class, prefix, prefix, CONTENDERS);
+        eventId = jdbcTemplate.queryForObject("""
+                INSERT INTO event (title, description, start_date, end_date, location, max_attendees, user_id, type)
+                VALUES ('Popular event', 'Stress test', now(), now() + interval '1 day', 'Online', ?, ?, 0)
+                RETURNING id
+                """, Long.class, SEATS, userIds.get(0));
+    }
+
+    @Test
+    void registrationsNeverOverbook() throws Exception {
+        AtomicInteger registered = runConcurrently(userIds.stream()
+                .map(userId -> (Runnable) () -> eventParticipationService.registrParticipant(eventId, userId))
+                .toList());
+
+        assertEquals(SEATS, registered.get());
+        assertEquals(SEATS, eventParticipationService.getParticipantCount(eventId));
+        assertEquals(SEATS, countRows());
+    }
+
+    @Test
+    void sameUserRegistersOnce() throws Exception {
+        long userId = userIds.get(1);
+        List<Runnable> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            attempts.add(() -> eventParticipationService.registrParticipant(eventId, userId));
+        }
+
+        AtomicInteger registered = runConcurrently(attempts);
+
+        assertEquals(1, registered.get());
+        assertEquals(1, eventParticipationService.getParticipantCount(eventId));
+        assertEquals(1, countRows());
+    }
+
+    @Test
+    void freedSeatsAreReusedWithoutDrift() throws Exception {
+        List<Long> firstWave = userIds.subList(0, SEATS);
+        runConcurrently(firstWave.stream()
+                .map(userId -> (Runnable) () -> eventParticipationService.registrParticipant(eventId, userId))
+                .toList());
+
+        // половина участников уходит, пока остальные претенденты пытаются занять места
+        List<Runnable> churn = new ArrayList<>();
+        firstWave.subList(0, SEATS / 2).forEach(userId ->
+                churn.add(() -> eventParticipationService.unregisterParticipant(eventId, userId)));
+        userIds.subList(SEATS, CONTENDERS).forEach(userId ->
+                churn.add(() -> eventParticipationService.registrParticipant(eventId, userId)));
+        runConcurrently(churn);
+
+        assertEquals(countRows(), eventParticipationService.getParticipantCount(eventId));
+        assertTrue(countRows() <= SEATS);
+    }
+
+    @Test
+    void eventCreatedWithoutLimitAcceptsEveryone() throws Exception {
+        Event event = new Event();
+        event.setTitle("Open event");
+        event.setDescription("No limit");
+        event.setStartDate(LocalDateTime.now());
+        event.setEndDate(LocalDateTime.now().plusDays(1));
+        event.setLocation("Online");
+        event.setOwner(userRepository.getReferenceById(userIds.get(0)));
+        event.setType(EventType.WEBINAR);
+        event.setStatus(EventStatus.PLANNED);
+        long openEventId = eventRepository.save(event).getId();
+
+        // лимит не задан - в БД NULL, а не 0
+        assertNull(jdbcTemplate.queryForObject("SELECT max_attendees FROM event WHERE id = ?", Integer.class,
+                openEventId));
+
+        AtomicInteger registered = runConcurrently(userIds.stream()
+                .map(userId -> (Runnable) () -> eventParticipationService.registrParticipant(openEventId, userId))
+                .toList());
+
+        assertEquals(CONTENDERS, registered.get());
+        assertEquals(CONTENDERS, eventParticipationService.getParticipantCount(openEventId));
+    }
+
+    // Все задачи стартуют одновременно; отказы из-за занятых мест и повторов ожидаемы и не считаются
+    private AtomicInteger runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        task.run();
+                        succeeded.incrementAndGet();
+                    } catch (DataValidationException rejected) {
+                        // место уже занято или пользователь уже зарегистрирован
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return succeeded;
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM user_event WHERE event_id = ?", Integer.class, eventId);
+    }
+}
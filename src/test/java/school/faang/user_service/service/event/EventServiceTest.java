@@ -7,41 +7,58 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.UserProfileChangedEvent;
 import school.faang.user_service.dto.event.EventDto;
+import school.faang.user_service.dto.event.EventSearchResultDto;
 import school.faang.user_service.entity.Skill;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.event.Event;
 import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.filter.EventFilter;
 import school.faang.user_service.filter.EventFilterDto;
+import school.faang.user_service.filter.EventTimeRangeMode;
 import school.faang.user_service.filter.impl.DescriptionPatternFilter;
 import school.faang.user_service.filter.impl.TitlePatternFilter;
 import school.faang.user_service.mapper.EventMapperImpl;
 import school.faang.user_service.repository.SkillRepository;
 import school.faang.user_service.repository.UserRepository;
 import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.event.EventSearchRepository;
 import school.faang.user_service.validator.event.EventValidator;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class EventServiceTest {
+    private static final String MARKED_FILTER = EventSearchResultDto.HIGHLIGHT_START + "filter"
+            + EventSearchResultDto.HIGHLIGHT_END;
     private EventService eventService;
     private EventRepository eventRepository;
     private SkillRepository skillRepository;
     private UserRepository userRepository;
     private EventMapperImpl eventMapper;
     private EventValidator eventValidator;
+    private EventSearchRepository eventSearchRepository;
+    private ApplicationEventPublisher eventPublisher;
     @Captor
     private ArgumentCaptor<Event> captorEvent;
+    @Captor
+    private ArgumentCaptor<Pageable> captorPageable;
 
     // Пришлось использовать такой способ из-за фильтров
     @BeforeEach
@@ -51,11 +68,13 @@ public class EventServiceTest {
         userRepository = Mockito.mock(UserRepository.class);
         eventMapper = Mockito.spy(EventMapperImpl.class);
         eventValidator = Mockito.mock(EventValidator.class);
+        eventSearchRepository = Mockito.mock(EventSearchRepository.class);
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
         EventFilter titleFilters = Mockito.spy(TitlePatternFilter.class);
         EventFilter descriptionFilters = Mockito.spy(DescriptionPatternFilter.class);
         List<EventFilter> eventFilters = List.of(titleFilters, descriptionFilters);
         eventService = new EventService(eventRepository, skillRepository, userRepository, eventMapper, eventValidator,
-                eventFilters);
+                eventFilters, eventSearchRepository, eventPublisher);
 
     }
 
@@ -108,6 +127,7 @@ public class EventServiceTest {
         Event eventActual = captorEvent.getValue();
         eventExp.setCreatedAt(eventActual.getCreatedAt());
         assertEquals(eventExp, eventActual);
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(List.of(owner.getId())));
     }
 
     @Test
@@ -142,28 +162,191 @@ public class EventServiceTest {
         eventFilterDto.setTitlePattern("filter");
         eventFilterDto.setDescriptionPattern("filter");
 
-        // ожидаем третье событие
+        // фильтрует база, сервис получает уже готовую страницу с третьим событием
         EventDto eventDtoExp = eventMapper.toDto(events.get(2));
         List<EventDto> eventsDtoExp = List.of(eventDtoExp);
-        int sizeFilteredEventsExp = eventsDtoExp.size();
-        when(eventRepository.findAll()).thenReturn(events);
+        when(eventRepository.findAllWithoutCount(any(Specification.class), any(Pageable.class)))
+                .thenReturn(List.of(events.get(2)));
 
         // Action
         List<EventDto> filteredEventsDto = eventService.getEventsByFilter(eventFilterDto);
-        int sizeFilteredEventsActual = filteredEventsDto.size();
 
         // Assert
-        assertEquals(sizeFilteredEventsExp, sizeFilteredEventsActual);
         assertEquals(eventsDtoExp, filteredEventsDto);
+        verify(eventRepository).findAllWithoutCount(any(Specification.class), captorPageable.capture());
+        Pageable pageable = captorPageable.getValue();
+        assertEquals(0, pageable.getPageNumber());
+        assertEquals(100, pageable.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.ASC, "startDate", "id"), pageable.getSort());
+        verify(eventRepository, never()).findAll();
+        verify(eventRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testGetEventsByFilterAfterCursor() {
+        Event cursor = prepareEventsForFiltering().get(1);
+        cursor.setId(7L);
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setPageSize(20);
+        eventFilterDto.setAfterId(cursor.getId());
+        when(eventRepository.findById(cursor.getId())).thenReturn(Optional.of(cursor));
+        when(eventRepository.findAllWithoutCount(any(Specification.class), any(Pageable.class))).thenReturn(List.of());
+
+        eventService.getEventsByFilter(eventFilterDto);
+
+        // курсор заменяет OFFSET: всегда первая страница после ключа курсора
+        verify(eventRepository).findAllWithoutCount(any(Specification.class), captorPageable.capture());
+        assertEquals(0, captorPageable.getValue().getPageNumber());
+        assertEquals(20, captorPageable.getValue().getPageSize());
+    }
+
+    @Test
+    public void testGetEventsByFilterAfterMissingCursor() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setAfterId(42L);
+        when(eventRepository.findById(42L)).thenReturn(Optional.empty());
+
+        assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto));
+        verify(eventRepository, never()).findAllWithoutCount(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testGetEventsByFilterWithPageAndCursor() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setPage(1);
+        eventFilterDto.setAfterId(42L);
+
+        assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto));
+    }
+
+    @Test
+    public void testGetEventsByFilterWithCustomSort() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setPage(2);
+        eventFilterDto.setPageSize(20);
+        eventFilterDto.setSortBy("title");
+        eventFilterDto.setSortDirection(Sort.Direction.DESC);
+        when(eventRepository.findAllWithoutCount(any(Specification.class), any(Pageable.class))).thenReturn(List.of());
+
+        eventService.getEventsByFilter(eventFilterDto);
+
+        verify(eventRepository).findAllWithoutCount(any(Specification.class), captorPageable.capture());
+        Pageable pageable = captorPageable.getValue();
+        assertEquals(2, pageable.getPageNumber());
+        assertEquals(20, pageable.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "title", "id"), pageable.getSort());
+    }
+
+    @Test
+    public void testGetEventsByFilterWithUnknownSortField() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setSortBy("owner.password");
+
+        assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto));
+        verify(eventRepository, never()).findAllWithoutCount(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testGetEventsByFilterWithTooLargePage() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setPageSize(1001);
+
+        assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto));
+    }
+
+    @Test
+    public void testGetEventsByFilterWithNegativePage() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setPage(-1);
+
+        assertEquals("Page must not be negative",
+                assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto))
+                        .getMessage());
+    }
+
+    @Test
+    public void testGetEventsByFilterWithInvertedTimeRange() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setRangeMode(EventTimeRangeMode.OVERLAPS);
+        eventFilterDto.setRangeFrom(LocalDateTime.of(2024, 7, 14, 0, 0));
+        eventFilterDto.setRangeTo(LocalDateTime.of(2024, 7, 8, 0, 0));
+
+        assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto));
+    }
+
+    @Test
+    public void testGetEventsByFilterWithoutContainsBound() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setRangeMode(EventTimeRangeMode.CONTAINS);
+        eventFilterDto.setRangeFrom(LocalDateTime.of(2024, 7, 8, 0, 0));
+
+        assertThrows(DataValidationException.class, () -> eventService.getEventsByFilter(eventFilterDto));
+        verify(eventRepository, never()).findAllWithoutCount(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testSearchEvents() {
+        List<Event> events = prepareEventsForFiltering();
+        events.get(0).setId(1L);
+        events.get(2).setId(3L);
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setSearchQuery("filter");
+        eventFilterDto.setPage(1);
+        eventFilterDto.setPageSize(2);
+        // событие 5 удалили между поиском и загрузкой
+        when(eventSearchRepository.search("filter", 2, 2L)).thenReturn(List.of(
+                new EventSearchRepository.Match(3L, 0.9, "title " + MARKED_FILTER, "description " + MARKED_FILTER),
+                new EventSearchRepository.Match(5L, 0.5, "title", "description"),
+                new EventSearchRepository.Match(1L, 0.1, "title first", "description first " + MARKED_FILTER)));
+        when(eventRepository.findAllById(List.of(3L, 5L, 1L))).thenReturn(List.of(events.get(0), events.get(2)));
+
+        List<EventSearchResultDto> results = eventService.searchEvents(eventFilterDto);
+
+        assertEquals(List.of(
+                new EventSearchResultDto(eventMapper.toDto(events.get(2)), 0.9,
+                        "title " + MARKED_FILTER, "description " + MARKED_FILTER),
+                new EventSearchResultDto(eventMapper.toDto(events.get(0)), 0.1,
+                        "title first", "description first " + MARKED_FILTER)), results);
+    }
+
+    @Test
+    public void testSearchEventsWithBlankQuery() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setSearchQuery("  ");
+
+        assertThrows(DataValidationException.class, () -> eventService.searchEvents(eventFilterDto));
+    }
+
+    @Test
+    public void testSearchEventsWithOtherFilters() {
+        EventFilterDto eventFilterDto = new EventFilterDto();
+        eventFilterDto.setSearchQuery("filter");
+        eventFilterDto.setTitlePattern("title");
+
+        assertThrows(DataValidationException.class, () -> eventService.searchEvents(eventFilterDto));
+        verify(eventSearchRepository, never()).search(any(), Mockito.anyInt(), Mockito.anyLong());
     }
 
     @Test
     public void testDeleteEvent() {
         Long id = 1L;
+        Event event = eventMapper.toEntity(createEventDto());
+        User owner = createUser(createEventDto());
+        event.setOwner(owner);
+        when(eventRepository.findById(id)).thenReturn(Optional.of(event));
 
         eventService.deleteEvent(id);
 
-        verify(eventRepository, times(1)).deleteById(id);
+        verify(eventRepository, times(1)).delete(event);
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(List.of(owner.getId())));
+    }
+
+    @Test
+    public void testDeleteNotExistingEvent() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(DataValidationException.class, () -> eventService.deleteEvent(1L));
+        verify(eventPublisher, never()).publishEvent(any(UserProfileChangedEvent.class));
     }
 
     @Test
@@ -223,6 +406,7 @@ public class EventServiceTest {
         Event eventActual = captorEvent.getValue();
         eventExp.setUpdatedAt(eventActual.getUpdatedAt());
         assertEquals(eventExp, eventActual);
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(List.of(owner.getId())));
     }
 
     @Test
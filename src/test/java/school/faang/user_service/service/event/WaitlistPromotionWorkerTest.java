@@ -0,0 +1,182 @@
+package school.faang.user_service.service.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.dto.WaitlistPromotionEvent;
+import school.faang.user_service.dto.event.WaitlistPromotionRequest;
+import school.faang.user_service.publisher.WaitlistPromotionEventPublisher;
+import school.faang.user_service.repository.event.EventWaitlistRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistPromotionWorkerTest {
+    private static final long EVENT_ID = 7L;
+    // При двух полосах нечетные id попадают в одну полосу, четные - в другую
+    private static final long BLOCKING_EVENT_ID = 1L;
+    private static final long SAME_STRIPE_EVENT_ID = 3L;
+    private static final long OTHER_STRIPE_EVENT_ID = 2L;
+
+    @Mock
+    private EventParticipationService eventParticipationService;
+    @Mock
+    private EventWaitlistRepository eventWaitlistRepository;
+    @Mock
+    private WaitlistPromotionEventPublisher waitlistPromotionEventPublisher;
+    @Captor
+    private ArgumentCaptor<Collection<WaitlistPromotionEvent>> promotionsCaptor;
+
+    private WaitlistPromotionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new WaitlistPromotionWorker(eventParticipationService, eventWaitlistRepository,
+                waitlistPromotionEventPublisher, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    // Проход по BLOCKING_EVENT_ID занимает свою полосу, пока не открыт release
+    private CountDownLatch blockStripe(CountDownLatch started) {
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventParticipationService.promoteNextFromWaitlist(BLOCKING_EVENT_ID)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        return release;
+    }
+
+    @Test
+    @DisplayName("Продвижения прохода публикуются одной пачкой в порядке очереди ожидания")
+    void promotePublishesPromotionsInQueueOrder() throws Exception {
+        when(eventParticipationService.promoteNextFromWaitlist(EVENT_ID))
+                .thenReturn(Optional.of(10L), Optional.of(11L), Optional.empty());
+
+        worker.promote(EVENT_ID);
+
+        verify(waitlistPromotionEventPublisher).publishAll(promotionsCaptor.capture());
+        List<WaitlistPromotionEvent> promotions = List.copyOf(promotionsCaptor.getValue());
+        assertEquals(List.of(10L, 11L), promotions.stream().map(WaitlistPromotionEvent::getUserId).toList());
+        assertEquals(EVENT_ID, promotions.get(0).getEventId());
+    }
+
+    @Test
+    @DisplayName("Ошибка продвижения не роняет обработчик и ничего не публикует")
+    void promoteSurvivesFailures() throws Exception {
+        when(eventParticipationService.promoteNextFromWaitlist(EVENT_ID)).thenThrow(new IllegalStateException("db"));
+
+        worker.promote(EVENT_ID);
+
+        verify(waitlistPromotionEventPublisher, never()).publishAll(any());
+    }
+
+    @Test
+    @DisplayName("Продвижения до ошибки все равно публикуются")
+    void promotePublishesPromotionsMadeBeforeFailure() throws Exception {
+        when(eventParticipationService.promoteNextFromWaitlist(EVENT_ID))
+                .thenReturn(Optional.of(10L))
+                .thenThrow(new IllegalStateException("db"));
+
+        worker.promote(EVENT_ID);
+
+        verify(waitlistPromotionEventPublisher).publishAll(promotionsCaptor.capture());
+        assertEquals(List.of(10L), promotionsCaptor.getValue().stream().map(WaitlistPromotionEvent::getUserId).toList());
+    }
+
+    @Test
+    @DisplayName("Запрос на продвижение обрабатывается в именованном потоке полосы")
+    void promotionRequestIsProcessedAsynchronously() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        when(eventParticipationService.promoteNextFromWaitlist(EVENT_ID)).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return Optional.empty();
+        });
+
+        worker.onPromotionRequested(new WaitlistPromotionRequest(EVENT_ID));
+
+        verify(eventParticipationService, timeout(1000)).promoteNextFromWaitlist(EVENT_ID);
+        assertTrue(threadName.get().startsWith(WaitlistPromotionWorker.THREAD_NAME_PREFIX));
+    }
+
+    @Test
+    @DisplayName("Повторные запросы для ожидающего события схлопываются в один проход")
+    void repeatedRequestsForPendingEventAreCoalesced() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = blockStripe(started);
+        when(eventParticipationService.promoteNextFromWaitlist(SAME_STRIPE_EVENT_ID)).thenReturn(Optional.empty());
+
+        worker.schedule(BLOCKING_EVENT_ID);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        worker.schedule(SAME_STRIPE_EVENT_ID);
+        worker.schedule(SAME_STRIPE_EVENT_ID);
+        release.countDown();
+        worker.shutdown();
+
+        verify(eventParticipationService, times(1)).promoteNextFromWaitlist(SAME_STRIPE_EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("События одной полосы обрабатываются по очереди, другие полосы не ждут")
+    void eventsOnSameStripeRunSequentially() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = blockStripe(started);
+        when(eventParticipationService.promoteNextFromWaitlist(SAME_STRIPE_EVENT_ID)).thenReturn(Optional.empty());
+        when(eventParticipationService.promoteNextFromWaitlist(OTHER_STRIPE_EVENT_ID)).thenReturn(Optional.empty());
+
+        worker.schedule(BLOCKING_EVENT_ID);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        worker.schedule(SAME_STRIPE_EVENT_ID);
+        worker.schedule(OTHER_STRIPE_EVENT_ID);
+
+        verify(eventParticipationService, timeout(1000)).promoteNextFromWaitlist(OTHER_STRIPE_EVENT_ID);
+        verify(eventParticipationService, after(200).never()).promoteNextFromWaitlist(SAME_STRIPE_EVENT_ID);
+
+        release.countDown();
+
+        verify(eventParticipationService, timeout(1000)).promoteNextFromWaitlist(SAME_STRIPE_EVENT_ID);
+        InOrder inOrder = inOrder(eventParticipationService);
+        inOrder.verify(eventParticipationService).promoteNextFromWaitlist(BLOCKING_EVENT_ID);
+        inOrder.verify(eventParticipationService).promoteNextFromWaitlist(SAME_STRIPE_EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("Периодический обход ставит в очередь события со свободными местами")
+    void sweepSchedulesEventsWithFreeSeats() {
+        when(eventWaitlistRepository.findPromotableEventIds()).thenReturn(List.of(1L, 2L));
+        when(eventParticipationService.promoteNextFromWaitlist(1L)).thenReturn(Optional.empty());
+        when(eventParticipationService.promoteNextFromWaitlist(2L)).thenReturn(Optional.empty());
+
+        worker.sweep();
+
+        verify(eventParticipationService, timeout(1000)).promoteNextFromWaitlist(1L);
+        verify(eventParticipationService, timeout(1000)).promoteNextFromWaitlist(2L);
+    }
+}
@@ -7,7 +7,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserProfileChangedEvent;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.mentorship.MentorshipRepository;
@@ -29,6 +31,9 @@ public class MentorshipServiceTest {
     @Spy
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MentorshipService mentorshipService;
     private User mentorMax;
@@ -107,6 +112,7 @@ public class MentorshipServiceTest {
         mentorshipService.deleteMentee(menteeAlex.getId(), mentorMax.getId());
 
         verify(mentorshipRepository, times(1)).save(mentorMax);
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(List.of(mentorMax.getId(), menteeAlex.getId())));
     }
 
     @Test
@@ -121,5 +127,6 @@ public class MentorshipServiceTest {
         mentorshipService.deleteMentor(menteeAlex.getId(), mentorMax.getId());
 
         verify(mentorshipRepository, times(1)).save(menteeAlex);
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(List.of(menteeAlex.getId(), mentorMax.getId())));
     }
 }
\ No newline at end of file
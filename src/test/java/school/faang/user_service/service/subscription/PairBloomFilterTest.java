@@ -0,0 +1,45 @@
+package school.faang.user_service.service.subscription;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PairBloomFilterTest {
+
+    @Test
+    void testAddedPairsAreAlwaysFound() {
+        PairBloomFilter filter = PairBloomFilter.create(10_000, 0.01);
+        for (long follower = 0; follower < 10_000; follower++) {
+            filter.add(follower, follower + 1);
+        }
+
+        for (long follower = 0; follower < 10_000; follower++) {
+            assertTrue(filter.mightContain(follower, follower + 1));
+        }
+    }
+
+    @Test
+    void testPairIsDirected() {
+        PairBloomFilter filter = PairBloomFilter.create(100, 0.001);
+        filter.add(1, 2);
+
+        assertFalse(filter.mightContain(2, 1));
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearConfigured() {
+        PairBloomFilter filter = PairBloomFilter.create(10_000, 0.01);
+        for (long follower = 0; follower < 10_000; follower++) {
+            filter.add(follower, follower + 1);
+        }
+
+        int falsePositives = 0;
+        for (long follower = 0; follower < 10_000; follower++) {
+            if (filter.mightContain(follower + 1_000_000, follower)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,130 @@
+package school.faang.user_service.service.subscription;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+import school.faang.user_service.repository.FollowGraphRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionBloomFilterTest {
+    @Mock
+    private FollowGraphRepository followGraphRepository;
+    private SubscriptionBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = new SubscriptionBloomFilter(followGraphRepository, 0.001);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bloomFilter.shutdown();
+    }
+
+    @Test
+    void testEveryPairIsPossibleUntilBuilt() {
+        assertTrue(bloomFilter.mightContain(1, 2));
+    }
+
+    @Test
+    void testRebuildLoadsSubscriptions() {
+        when(followGraphRepository.countEdges()).thenReturn(1L);
+        doAnswer(invocation -> {
+            FollowGraphRepository.EdgeConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1, 2);
+            return null;
+        }).when(followGraphRepository).forEachEdge(any());
+
+        bloomFilter.rebuild();
+
+        assertTrue(bloomFilter.mightContain(1, 2));
+        assertFalse(bloomFilter.mightContain(2, 1));
+    }
+
+    @Test
+    void testFollowDuringRebuildIsNotLost() {
+        when(followGraphRepository.countEdges()).thenReturn(1L);
+        doAnswer(invocation -> {
+            bloomFilter.onSubscriptionChanged(new SubscriptionChangedEvent(3, List.of(4L), true));
+            return null;
+        }).when(followGraphRepository).forEachEdge(any());
+
+        bloomFilter.rebuild();
+
+        assertTrue(bloomFilter.mightContain(3, 4));
+    }
+
+    @Test
+    void testFollowAfterBuildIsAdded() {
+        when(followGraphRepository.countEdges()).thenReturn(0L);
+        bloomFilter.rebuild();
+
+        bloomFilter.onSubscriptionChanged(new SubscriptionChangedEvent(5, List.of(6L), true));
+
+        assertTrue(bloomFilter.mightContain(5, 6));
+    }
+
+    @Test
+    void testResyncFallsBackToDatabaseUntilRebuilt() {
+        when(followGraphRepository.countEdges()).thenReturn(0L).thenThrow(new IllegalStateException("db down"));
+        bloomFilter.rebuild();
+        assertFalse(bloomFilter.mightContain(7, 8));
+
+        bloomFilter.resync("lost event");
+
+        assertTrue(bloomFilter.mightContain(7, 8));
+    }
+
+    @Test
+    void testRebuildStartedBeforeResyncIsDiscarded() {
+        when(followGraphRepository.countEdges()).thenReturn(1L).thenThrow(new IllegalStateException("db down"));
+        doAnswer(invocation -> {
+            bloomFilter.resync("lost event");
+            return null;
+        }).when(followGraphRepository).forEachEdge(any());
+
+        bloomFilter.rebuild();
+
+        // снимок мог не содержать потерянную подписку, поэтому он не публикуется
+        assertTrue(bloomFilter.mightContain(2, 1));
+    }
+
+    @Test
+    void testResyncBurstQueuesSingleRebuild() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(followGraphRepository.countEdges()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        bloomFilter.resync("lost event");
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            bloomFilter.resync("lost event");
+        }
+        release.countDown();
+
+        // идущая пересборка и одна поставленная после нее, а не по одной на каждый resync
+        verify(followGraphRepository, timeout(1000).times(2)).countEdges();
+        verify(followGraphRepository, after(200).times(2)).countEdges();
+    }
+}
@@ -0,0 +1,63 @@
+package school.faang.user_service.service.subscription;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionCounterReconcilerTest {
+    @Mock
+    private SubscriptionCounterRepository subscriptionCounterRepository;
+    private SubscriptionCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new SubscriptionCounterReconciler(subscriptionCounterRepository, 10);
+    }
+
+    private void lockAcquired() {
+        when(subscriptionCounterRepository.withReconcileLock(any()))
+                .thenAnswer(invocation -> Optional.of(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
+    @Test
+    void testReconcileWalksUserIdRanges() {
+        lockAcquired();
+        when(subscriptionCounterRepository.findMaxUserId()).thenReturn(25L);
+        when(subscriptionCounterRepository.reconcileRange(0, 9)).thenReturn(0);
+        when(subscriptionCounterRepository.reconcileRange(10, 19)).thenReturn(2);
+        when(subscriptionCounterRepository.reconcileRange(20, 29)).thenReturn(1);
+
+        assertEquals(3, reconciler.reconcile());
+    }
+
+    @Test
+    void testReconcileWithoutUsers() {
+        lockAcquired();
+        when(subscriptionCounterRepository.findMaxUserId()).thenReturn(null);
+
+        assertEquals(0, reconciler.reconcile());
+        verify(subscriptionCounterRepository, never()).reconcileRange(anyLong(), anyLong());
+    }
+
+    @Test
+    void testReconcileSkipsWhenAnotherNodeHoldsLock() {
+        when(subscriptionCounterRepository.withReconcileLock(any())).thenReturn(Optional.empty());
+
+        assertEquals(0, reconciler.reconcile());
+        verify(subscriptionCounterRepository, never()).findMaxUserId();
+    }
+}
@@ -0,0 +1,147 @@
+package school.faang.user_service.service.subscription.graph;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import school.faang.user_service.dto.subscription.FollowDegreeDto;
+import school.faang.user_service.dto.subscription.FollowGraphLoadedEvent;
+import school.faang.user_service.dto.subscription.SubscriptionChangedEvent;
+import school.faang.user_service.exception.ServiceNotReadyException;
+import school.faang.user_service.repository.FollowGraphRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphIndexTest {
+    @Mock
+    private FollowGraphRepository followGraphRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private FollowGraphIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FollowGraphIndex(followGraphRepository, eventPublisher, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    // 1 <-> 2, 1 -> 3, 3 -> 2, 4 -> 2
+    private void load() {
+        doAnswer(invocation -> {
+            FollowGraphRepository.EdgeConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1, 2);
+            consumer.accept(2, 1);
+            consumer.accept(1, 3);
+            consumer.accept(3, 2);
+            consumer.accept(4, 2);
+            return null;
+        }).when(followGraphRepository).forEachEdge(any());
+        index.rebuild();
+    }
+
+    @Test
+    void testQueriesBeforeLoadShouldThrow() {
+        assertThrows(ServiceNotReadyException.class, () -> index.follows(1, 2));
+    }
+
+    @Test
+    void testOnlyFirstLoadIsAnnounced() {
+        load();
+        index.rebuild();
+
+        verify(eventPublisher).publishEvent(new FollowGraphLoadedEvent(4, 5));
+    }
+
+    @Test
+    void testSocialQueriesOnLoadedGraph() {
+        load();
+
+        assertTrue(index.isLoaded());
+        assertArrayEquals(new long[]{2}, index.mutuals(1));
+        assertArrayEquals(new long[]{1}, index.commonFollowers(2, 3));
+        assertArrayEquals(new long[]{2}, index.commonFollowees(3, 4));
+        assertEquals(new FollowDegreeDto(2, 3, 1), index.degree(2));
+    }
+
+    @Test
+    void testChangesAreVisibleBeforeCompaction() {
+        load();
+
+        index.onSubscriptionChanged(new SubscriptionChangedEvent(2, List.of(3L, 4L), true));
+        index.onSubscriptionChanged(new SubscriptionChangedEvent(1, List.of(2L), false));
+
+        assertTrue(index.follows(2, 4));
+        assertFalse(index.follows(1, 2));
+        assertArrayEquals(new long[]{1, 3, 4}, index.followees(2));
+        assertArrayEquals(new long[]{3, 4}, index.mutuals(2));
+        assertEquals(new FollowDegreeDto(2, 2, 3), index.degree(2));
+    }
+
+    @Test
+    void testCompactionMergesChangesIntoGraph() {
+        load();
+        index.onSubscriptionChanged(new SubscriptionChangedEvent(2, List.of(3L), true));
+        index.onSubscriptionChanged(new SubscriptionChangedEvent(4, List.of(2L), false));
+
+        index.compact();
+
+        assertArrayEquals(new long[]{1, 3}, index.followees(2));
+        assertArrayEquals(new long[]{1, 2}, index.followers(3));
+        assertArrayEquals(new long[]{1, 3}, index.followers(2));
+        assertEquals(new FollowDegreeDto(4, 0, 0), index.degree(4));
+    }
+
+    @Test
+    void testRebuildDropsDeltaRecordedBeforeSnapshot() {
+        load();
+        // Ошибочная запись: в БД подписки 4 -> 3 нет
+        index.onSubscriptionChanged(new SubscriptionChangedEvent(4, List.of(3L), true));
+        assertTrue(index.follows(4, 3));
+
+        index.rebuild();
+
+        assertFalse(index.follows(4, 3));
+        assertArrayEquals(new long[]{2}, index.followees(4));
+    }
+
+    @Test
+    void testRebuildKeepsChangesRecordedDuringSnapshot() {
+        load();
+        doAnswer(invocation -> {
+            FollowGraphRepository.EdgeConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1, 2);
+            // Отписка зафиксирована, пока снимок читается, и в него уже не попала
+            index.onSubscriptionChanged(new SubscriptionChangedEvent(1, List.of(2L), false));
+            consumer.accept(2, 1);
+            return null;
+        }).when(followGraphRepository).forEachEdge(any());
+
+        index.rebuild();
+
+        assertFalse(index.follows(1, 2));
+        assertTrue(index.follows(2, 1));
+    }
+
+    @Test
+    void testIntersectSortedArrays() {
+        assertArrayEquals(new long[]{3, 7}, FollowGraphIndex.intersect(new long[]{1, 3, 5, 7}, new long[]{2, 3, 7, 9}));
+        assertArrayEquals(new long[0], FollowGraphIndex.intersect(new long[]{1}, new long[0]));
+    }
+}
@@ -0,0 +1,60 @@
+package school.faang.user_service.service.subscription.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FollowGraphTest {
+
+    private FollowGraph graph(long[]... edges) {
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        for (long[] edge : edges) {
+            builder.accept(edge[0], edge[1]);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testBuildStoresBothDirectionsSorted() {
+        FollowGraph graph = graph(new long[]{1, 30}, new long[]{1, 20}, new long[]{20, 1}, new long[]{30, 20});
+
+        assertEquals(3, graph.userCount());
+        assertEquals(4, graph.edgeCount());
+        assertArrayEquals(new long[]{20, 30}, graph.followees(1));
+        assertArrayEquals(new long[]{1, 30}, graph.followers(20));
+        assertEquals(2, graph.followerCount(20));
+        assertEquals(1, graph.followeeCount(30));
+    }
+
+    @Test
+    void testFollowsIsDirected() {
+        FollowGraph graph = graph(new long[]{1, 2});
+
+        assertTrue(graph.follows(1, 2));
+        assertFalse(graph.follows(2, 1));
+        assertFalse(graph.follows(1, 99));
+    }
+
+    @Test
+    void testUnknownUserHasNoEdges() {
+        FollowGraph graph = graph(new long[]{1, 2});
+
+        assertArrayEquals(new long[0], graph.followers(42));
+        assertEquals(0, graph.followeeCount(42));
+    }
+
+    @Test
+    void testBuilderGrowsBeyondInitialCapacity() {
+        FollowGraph.Builder builder = new FollowGraph.Builder();
+        for (long follower = 1; follower <= 5000; follower++) {
+            builder.accept(follower, 0);
+        }
+        FollowGraph graph = builder.build();
+
+        assertEquals(5000, graph.followerCount(0));
+        assertTrue(graph.follows(4999, 0));
+    }
+}
@@ -0,0 +1,169 @@
+package school.faang.user_service.service.subscription.graph;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.dto.subscription.FollowGraphLoadedEvent;
+import school.faang.user_service.dto.subscription.FollowRecommendationDto;
+import school.faang.user_service.repository.FollowGraphRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowRecommendationEngineTest {
+    @Mock
+    private FollowGraphIndex followGraphIndex;
+    @Mock
+    private FollowGraphRepository followGraphRepository;
+    private FollowRecommendationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new FollowRecommendationEngine(followGraphIndex, followGraphRepository, 50, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    // 1 -> 2, 1 -> 3, 2 -> 3, 2 -> 4, 3 -> 4, 3 -> 5; у 1 и 5 общие навыки 10 и 11
+    private void recompute() {
+        stubGraph();
+        engine.recompute();
+    }
+
+    private void stubGraph() {
+        FollowGraph.Builder graph = new FollowGraph.Builder();
+        graph.accept(1, 2);
+        graph.accept(1, 3);
+        graph.accept(2, 3);
+        graph.accept(2, 4);
+        graph.accept(3, 4);
+        graph.accept(3, 5);
+        when(followGraphIndex.isLoaded()).thenReturn(true);
+        when(followGraphIndex.snapshot()).thenReturn(graph.build());
+        doAnswer(invocation -> {
+            FollowGraphRepository.EdgeConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1, 10);
+            consumer.accept(1, 11);
+            consumer.accept(4, 12);
+            consumer.accept(5, 10);
+            consumer.accept(5, 11);
+            return null;
+        }).when(followGraphRepository).forEachUserSkill(any());
+    }
+
+    // Загрузка навыков ждет, пока тест не отпустит защелку
+    private CountDownLatch blockSkillLoading() {
+        FollowGraph.Builder graph = new FollowGraph.Builder();
+        graph.accept(1, 2);
+        graph.accept(2, 3);
+        when(followGraphIndex.isLoaded()).thenReturn(true);
+        when(followGraphIndex.snapshot()).thenReturn(graph.build());
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(followGraphRepository).forEachUserSkill(any());
+        return release;
+    }
+
+    private void awaitRecommendations() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (engine.getRecommendations(1, 10).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(new FollowRecommendationDto(3, 1, 0)), engine.getRecommendations(1, 10));
+    }
+
+    @Test
+    void testSecondDegreeCandidatesRankedBySharedFolloweesAndSkills() {
+        recompute();
+
+        assertEquals(List.of(
+                new FollowRecommendationDto(5, 1, 2),
+                new FollowRecommendationDto(4, 2, 0)), engine.getRecommendations(1, 10));
+    }
+
+    @Test
+    void testAlreadyFollowedCandidatesAreSkipped() {
+        recompute();
+        when(followGraphIndex.follows(1, 5)).thenReturn(true);
+        when(followGraphIndex.follows(1, 4)).thenReturn(false);
+
+        assertEquals(List.of(new FollowRecommendationDto(4, 2, 0)), engine.getRecommendations(1, 10));
+    }
+
+    @Test
+    void testLimitIsApplied() {
+        recompute();
+
+        assertEquals(1, engine.getRecommendations(1, 1).size());
+    }
+
+    @Test
+    void testUnknownUserHasNoRecommendations() {
+        recompute();
+
+        assertTrue(engine.getRecommendations(42, 10).isEmpty());
+    }
+
+    @Test
+    void testScheduledRecomputeDoesNotBlockCaller() throws Exception {
+        CountDownLatch release = blockSkillLoading();
+
+        engine.scheduleRecompute();
+
+        // Поток планировщика уже свободен, хотя расчет еще ждет навыки
+        verify(followGraphRepository, timeout(1000)).forEachUserSkill(any());
+        assertTrue(engine.getRecommendations(1, 10).isEmpty());
+        release.countDown();
+        awaitRecommendations();
+    }
+
+    @Test
+    void testOverlappingRecomputeIsSkipped() throws Exception {
+        CountDownLatch release = blockSkillLoading();
+
+        engine.scheduleRecompute();
+        verify(followGraphRepository, timeout(1000)).forEachUserSkill(any());
+        engine.scheduleRecompute();
+        release.countDown();
+        awaitRecommendations();
+
+        verify(followGraphRepository, times(1)).forEachUserSkill(any());
+    }
+
+    @Test
+    void testGraphLoadTriggersRecompute() throws Exception {
+        blockSkillLoading().countDown();
+
+        engine.onGraphLoaded(new FollowGraphLoadedEvent(5, 6));
+
+        awaitRecommendations();
+    }
+
+    @Test
+    void testRecomputeIsSkippedUntilGraphIsLoaded() {
+        engine.recompute();
+
+        verifyNoInteractions(followGraphRepository);
+        assertTrue(engine.getRecommendations(1, 10).isEmpty());
+    }
+}
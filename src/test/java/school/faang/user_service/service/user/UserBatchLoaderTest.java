@@ -0,0 +1,79 @@
+package school.faang.user_service.service.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.repository.UserReadRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchLoaderTest {
+    private static final int CHUNK_SIZE = 2;
+    @Mock
+    private UserReadRepository userReadRepository;
+    @InjectMocks
+    private UserBatchLoader userBatchLoader;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userBatchLoader, "chunkSize", CHUNK_SIZE);
+    }
+
+    @Test
+    void testLoadByIdsSplitsIdsIntoChunks() {
+        when(userReadRepository.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(user(1L), user(2L)));
+        when(userReadRepository.findAllByIds(List.of(3L))).thenReturn(List.of(user(3L)));
+
+        Map<Long, UserDto> result = userBatchLoader.loadByIds(List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.size());
+        assertEquals(3L, result.get(3L).getId());
+    }
+
+    @Test
+    void testLoadByIdsSkipsDuplicatesAndNulls() {
+        when(userReadRepository.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(user(1L)));
+
+        Map<Long, UserDto> result = userBatchLoader.loadByIds(Arrays.asList(1L, null, 2L, 1L));
+
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey(1L));
+    }
+
+    @Test
+    void testLoadByIdsWithEmptyList() {
+        assertTrue(userBatchLoader.loadByIds(List.of()).isEmpty());
+        verify(userReadRepository, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    void testLoadInOrderKeepsRequestedOrder() {
+        when(userReadRepository.findAllByIds(List.of(3L, 1L))).thenReturn(List.of(user(1L), user(3L)));
+        when(userReadRepository.findAllByIds(List.of(2L))).thenReturn(List.of());
+
+        List<UserDto> result = userBatchLoader.loadInOrder(List.of(3L, 1L, 2L));
+
+        assertEquals(List.of(3L, 1L), result.stream().map(UserDto::getId).toList());
+    }
+
+    private UserDto user(long id) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        return user;
+    }
+}
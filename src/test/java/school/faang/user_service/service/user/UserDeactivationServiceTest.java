@@ -0,0 +1,128 @@
+package school.faang.user_service.service.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import school.faang.user_service.dto.UserDeactivationReportDto;
+import school.faang.user_service.dto.UserProfileChangedEvent;
+import school.faang.user_service.repository.UserDeactivationRepository;
+import school.faang.user_service.service.user.cache.UserProfileCache;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeactivationServiceTest {
+    private static final int CHUNK_SIZE = 2;
+    @Mock
+    private UserDeactivationRepository deactivationRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private UserProfileCache userProfileCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    private UserDeactivationService deactivationService;
+
+    @BeforeEach
+    void setUp() {
+        deactivationService = new UserDeactivationService(deactivationRepository, transactionManager,
+                userProfileCache, eventPublisher);
+        ReflectionTestUtils.setField(deactivationService, "chunkSize", CHUNK_SIZE);
+    }
+
+    @Test
+    void testDeactivateRunsSetBasedStatementsInOneTransaction() {
+        List<Long> ids = List.of(1L);
+        when(deactivationRepository.findActiveFlags(ids)).thenReturn(Map.of(1L, true));
+
+        deactivationService.deactivate(1L);
+
+        InOrder order = inOrder(deactivationRepository);
+        order.verify(deactivationRepository).deleteSoloGoals(ids);
+        order.verify(deactivationRepository).deleteOwnedEvents(ids);
+        order.verify(deactivationRepository).deleteWaitlistEntries(ids);
+        order.verify(deactivationRepository).deleteMentorships(ids);
+        order.verify(deactivationRepository).deactivateUsers(ids);
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+        verify(userProfileCache).evict(ids);
+        verify(eventPublisher, never()).publishEvent(any(UserProfileChangedEvent.class));
+    }
+
+    @Test
+    void testDeactivateEvictsProfilesOfRelatedUsers() {
+        List<Long> ids = List.of(1L);
+        when(deactivationRepository.findActiveFlags(ids)).thenReturn(Map.of(1L, true));
+        when(deactivationRepository.deleteSoloGoals(ids)).thenReturn(List.of(1L));
+        when(deactivationRepository.deleteOwnedEvents(ids)).thenReturn(List.of(2L, 3L));
+        when(deactivationRepository.deleteMentorships(ids)).thenReturn(List.of(3L, 4L));
+
+        deactivationService.deactivate(1L);
+
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(List.of(2L, 3L, 4L)));
+        verify(userProfileCache).evict(ids);
+    }
+
+    @Test
+    void testDeactivateUserNotFound() {
+        when(deactivationRepository.findActiveFlags(List.of(1L))).thenReturn(Map.of());
+
+        assertEquals("User does not exist",
+                assertThrows(RuntimeException.class, () -> deactivationService.deactivate(1L)).getMessage());
+        verify(deactivationRepository, never()).deactivateUsers(anyCollection());
+        verify(userProfileCache, never()).evict(anyCollection());
+    }
+
+    @Test
+    void testDeactivateUserAlreadyDeactivated() {
+        when(deactivationRepository.findActiveFlags(List.of(1L))).thenReturn(Map.of(1L, false));
+
+        assertEquals("User is already deactivated",
+                assertThrows(RuntimeException.class, () -> deactivationService.deactivate(1L)).getMessage());
+        verify(deactivationRepository, never()).deleteSoloGoals(anyCollection());
+    }
+
+    @Test
+    void testDeactivateAllProcessesChunksInSeparateTransactions() {
+        when(deactivationRepository.findActiveFlags(List.of(1L, 2L))).thenReturn(Map.of(1L, true, 2L, false));
+        when(deactivationRepository.findActiveFlags(List.of(3L))).thenReturn(Map.of(3L, true));
+
+        UserDeactivationReportDto report = deactivationService.deactivateAll(List.of(1L, 2L, 1L, 3L));
+
+        assertEquals(3, report.getRequested());
+        assertEquals(2, report.getDeactivated());
+        assertEquals(List.of(2L), report.getAlreadyDeactivatedIds());
+        assertEquals(List.of(), report.getNotFoundIds());
+        verify(transactionManager, times(2)).commit(any());
+        verify(userProfileCache).evict(List.of(1L));
+        verify(userProfileCache).evict(List.of(3L));
+    }
+
+    @Test
+    void testDeactivateAllSkipsChunkWithoutActiveUsers() {
+        when(deactivationRepository.findActiveFlags(List.of(5L))).thenReturn(Map.of());
+
+        UserDeactivationReportDto report = deactivationService.deactivateAll(List.of(5L));
+
+        assertEquals(0, report.getDeactivated());
+        assertEquals(List.of(5L), report.getNotFoundIds());
+        verify(deactivationRepository, never()).deleteSoloGoals(anyCollection());
+    }
+}
@@ -0,0 +1,168 @@
+package school.faang.user_service.service.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import school.faang.user_service.dto.ProfilePicDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.UserProfilePic;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.exception.NotFoundException;
+import school.faang.user_service.repository.UserRepository;
+import school.faang.user_service.service.user.content.ContentStore;
+import school.faang.user_service.service.user.content.StoredContent;
+import school.faang.user_service.service.user.thumbnail.ProfilePicThumbnailService;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfilePicServiceTest {
+    private static final long USER_ID = 1L;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ContentStore contentStore;
+    @Mock
+    private ProfilePicThumbnailService thumbnailService;
+    private UserProfilePicService profilePicService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        profilePicService = new UserProfilePicService(userRepository, contentStore, thumbnailService,
+                DataSize.ofBytes(10));
+        user = new User();
+        user.setId(USER_ID);
+    }
+
+    @Test
+    void testUploadReplacesPreviousPicture() {
+        UserProfilePic previous = new UserProfilePic();
+        previous.setFileId("old");
+        previous.setSmallFileId("old-small");
+        user.setUserProfilePic(previous);
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+        when(contentStore.save(any(InputStream.class), eq("image/png")))
+                .thenReturn(new StoredContent("new", 3, "image/png", "new-hash"));
+
+        ProfilePicDto result = profilePicService.upload(USER_ID, image(new byte[]{1, 2, 3}));
+
+        assertEquals(new ProfilePicDto("new", 3, "image/png", "new-hash"), result);
+        assertEquals("new", user.getUserProfilePic().getFileId());
+        verify(userRepository).save(user);
+        verify(contentStore).delete("old");
+        verify(contentStore).delete("old-small");
+        verify(thumbnailService).generate(USER_ID, new StoredContent("new", 3, "image/png", "new-hash"));
+    }
+
+    @Test
+    void testUploadDeletesNewFileWhenUserUpdateFails() {
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+        when(contentStore.save(any(InputStream.class), eq("image/png")))
+                .thenReturn(new StoredContent("new", 3, "image/png", "new-hash"));
+        when(userRepository.save(user)).thenThrow(new IllegalStateException("db is down"));
+
+        assertThrows(IllegalStateException.class, () -> profilePicService.upload(USER_ID, image(new byte[]{1, 2, 3})));
+
+        verify(contentStore).delete("new");
+        verifyNoInteractions(thumbnailService);
+    }
+
+    @Test
+    void testUploadRejectsNonImage() {
+        MockMultipartFile file = new MockMultipartFile("file", "a.txt", "text/plain", new byte[]{1});
+
+        assertThrows(DataValidationException.class, () -> profilePicService.upload(USER_ID, file));
+        verifyNoInteractions(contentStore, userRepository);
+    }
+
+    @Test
+    void testUploadRejectsTooLargeFile() {
+        assertThrows(DataValidationException.class, () -> profilePicService.upload(USER_ID, image(new byte[11])));
+        verifyNoInteractions(contentStore);
+    }
+
+    @Test
+    void testGetProfilePicWithoutPicture() {
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+
+        assertThrows(NotFoundException.class, () -> profilePicService.getProfilePic(USER_ID, false));
+    }
+
+    @Test
+    void testGetProfilePic() {
+        UserProfilePic profilePic = new UserProfilePic();
+        profilePic.setFileId("file");
+        user.setUserProfilePic(profilePic);
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+        when(contentStore.find("file")).thenReturn(Optional.of(new StoredContent("file", 5, "image/jpeg", "file-hash")));
+
+        assertEquals(new ProfilePicDto("file", 5, "image/jpeg", "file-hash"), profilePicService.getProfilePic(USER_ID, false));
+    }
+
+    @Test
+    void testGetSmallProfilePic() {
+        UserProfilePic profilePic = new UserProfilePic();
+        profilePic.setFileId("file");
+        profilePic.setSmallFileId("small");
+        user.setUserProfilePic(profilePic);
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+        when(contentStore.find("small")).thenReturn(Optional.of(new StoredContent("small", 2, "image/jpeg", "small-hash")));
+
+        assertEquals(new ProfilePicDto("small", 2, "image/jpeg", "small-hash"), profilePicService.getProfilePic(USER_ID, true));
+    }
+
+    @Test
+    void testGetSmallProfilePicFallsBackToOriginal() {
+        UserProfilePic profilePic = new UserProfilePic();
+        profilePic.setFileId("file");
+        user.setUserProfilePic(profilePic);
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+        when(contentStore.find("file")).thenReturn(Optional.of(new StoredContent("file", 5, "image/png", "file-hash")));
+
+        assertEquals(new ProfilePicDto("file", 5, "image/png", "file-hash"), profilePicService.getProfilePic(USER_ID, true));
+    }
+
+    @Test
+    void testDeleteWithoutPicture() {
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+
+        profilePicService.delete(USER_ID);
+
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(contentStore);
+    }
+
+    @Test
+    void testDelete() {
+        UserProfilePic profilePic = new UserProfilePic();
+        profilePic.setFileId("file");
+        user.setUserProfilePic(profilePic);
+        when(userRepository.getById(USER_ID)).thenReturn(user);
+
+        profilePicService.delete(USER_ID);
+
+        assertNull(user.getUserProfilePic());
+        verify(userRepository).save(user);
+        verify(contentStore).delete("file");
+    }
+
+    private MockMultipartFile image(byte[] content) {
+        return new MockMultipartFile("file", "avatar.png", "image/png", content);
+    }
+}
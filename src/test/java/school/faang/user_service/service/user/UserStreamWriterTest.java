@@ -0,0 +1,86 @@
+package school.faang.user_service.service.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserStreamWriterTest {
+    private static final int FETCH_SIZE = 2;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserBatchLoader userBatchLoader;
+    @InjectMocks
+    private UserStreamWriter userStreamWriter;
+    private final RecordingWriter writer = new RecordingWriter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userStreamWriter, "fetchSize", FETCH_SIZE);
+    }
+
+    @Test
+    void testWriteAllLoadsChunksOfFetchSize() {
+        Specification<User> specification = Specification.where(null);
+        when(userRepository.streamIdsOrderById(specification, FETCH_SIZE)).thenReturn(Stream.of(1L, 2L, 3L));
+        when(userBatchLoader.loadInOrder(List.of(1L, 2L))).thenReturn(List.of(user(1L), user(2L)));
+        when(userBatchLoader.loadInOrder(List.of(3L))).thenReturn(List.of(user(3L)));
+
+        userStreamWriter.writeAll(specification, writer);
+
+        assertEquals(List.of(1L, 2L, 3L), writer.rows.stream().map(row -> ((UserDto) row).getId()).toList());
+        assertTrue(writer.flushed);
+    }
+
+    @Test
+    void testWriteIdsClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        userStreamWriter.writeIds(Stream.<Long>empty().onClose(() -> closed.set(true)), writer);
+
+        assertTrue(closed.get());
+        verify(userBatchLoader, never()).loadInOrder(anyList());
+    }
+
+    private UserDto user(long id) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        return user;
+    }
+
+    private static class RecordingWriter implements RowWriter {
+        private final List<Object> rows = new ArrayList<>();
+        private boolean flushed;
+
+        @Override
+        public void write(Object row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void flush() {
+            flushed = true;
+        }
+    }
+}
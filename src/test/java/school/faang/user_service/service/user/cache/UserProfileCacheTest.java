@@ -0,0 +1,206 @@
+package school.faang.user_service.service.user.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import school.faang.user_service.dto.UserCacheInvalidationEvent;
+import school.faang.user_service.dto.UserCacheStatsDto;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserProfileChangedEvent;
+import school.faang.user_service.publisher.UserCacheInvalidationPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+    private static final long USER_ID = 7L;
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private UserCacheInvalidationPublisher invalidationPublisher;
+    private UserProfileCache cache;
+    private UserDto user;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new UserProfileCache(redisTemplate, objectMapper, invalidationPublisher,
+                100, Duration.ofMinutes(1), REDIS_TTL);
+        user = new UserDto();
+        user.setId(USER_ID);
+        user.setUsername("alex");
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+    }
+
+    @Test
+    void testMissLoadsFromDatabaseAndFillsBothTiers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        UserDto first = cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        UserDto second = cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        assertEquals(user, first);
+        assertEquals(user, second);
+        assertEquals(1, loads.get());
+        verify(valueOperations).set("user:profile:7", objectMapper.writeValueAsString(user), REDIS_TTL);
+        UserCacheStatsDto stats = cache.getStats();
+        assertEquals(1, stats.getNearHits());
+        assertEquals(1, stats.getNearMisses());
+        assertEquals(1, stats.getRedisMisses());
+    }
+
+    @Test
+    void testRedisHitSkipsLoader() throws Exception {
+        when(valueOperations.get("user:profile:7")).thenReturn(objectMapper.writeValueAsString(user));
+
+        UserDto result = cache.get(USER_ID, id -> {
+            throw new IllegalStateException("must not hit the database");
+        });
+
+        assertEquals(user, result);
+        assertEquals(1, cache.getStats().getRedisHits());
+    }
+
+    @Test
+    void testRedisFailureFallsBackToLoader() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(user, cache.get(USER_ID, id -> user));
+        assertEquals(1, cache.getStats().getRedisErrors());
+    }
+
+    @Test
+    void testMissingUserIsNotCached() {
+        assertNull(cache.get(USER_ID, id -> null));
+
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+        assertEquals(0, cache.getStats().getNearSize());
+    }
+
+    @Test
+    void testEvictDropsBothTiersAndBroadcasts() throws Exception {
+        cache.get(USER_ID, id -> user);
+
+        cache.evict(List.of(USER_ID));
+
+        verify(redisTemplate).delete(List.of("user:profile:7"));
+        verify(invalidationPublisher).publish(new UserCacheInvalidationEvent(List.of(USER_ID)));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictLocalKeepsRedis() {
+        cache.get(USER_ID, id -> user);
+
+        cache.evictLocal(List.of(USER_ID));
+
+        verify(redisTemplate, never()).delete(eq(List.of("user:profile:7")));
+        assertEquals(0, cache.getStats().getNearSize());
+    }
+
+    @Test
+    void testEvictDuringLoadSkipsRedisWrite() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        Thread evictor = startAfter(loading, () -> cache.evict(List.of(USER_ID)));
+
+        UserDto result = cache.get(USER_ID, id -> {
+            loading.countDown();
+            // evict сначала меняет поколение и только потом ждет конца загрузки на локальном кэше
+            awaitBlocked(evictor);
+            return user;
+        });
+        evictor.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals(user, result);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+        assertEquals(1, cache.getStats().getStaleWritesDropped());
+    }
+
+    @Test
+    void testEvictRacingWithRedisWriteDeletesWrittenValue() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        Thread evictor = startAfter(writing, () -> cache.evictLocal(List.of(USER_ID)));
+        doAnswer(invocation -> {
+            writing.countDown();
+            awaitBlocked(evictor);
+            return null;
+        }).when(valueOperations).set(eq("user:profile:7"), any(), eq(REDIS_TTL));
+
+        cache.get(USER_ID, id -> user);
+        evictor.join(TimeUnit.SECONDS.toMillis(5));
+
+        verify(redisTemplate).delete("user:profile:7");
+        assertEquals(1, cache.getStats().getStaleWritesDropped());
+    }
+
+    @Test
+    void testProfileChangeEvictsProfiles() throws Exception {
+        cache.onProfileChanged(new UserProfileChangedEvent(List.of(USER_ID, 8L)));
+
+        verify(redisTemplate).delete(List.of("user:profile:7", "user:profile:8"));
+        verify(invalidationPublisher).publish(new UserCacheInvalidationEvent(List.of(USER_ID, 8L)));
+    }
+
+    private static Thread startAfter(CountDownLatch latch, Runnable action) {
+        Thread thread = new Thread(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            action.run();
+        });
+        thread.start();
+        return thread;
+    }
+
+    // Поток ждет на блокировке загружаемого ключа - значит, поколение он уже поменял
+    private static void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.BLOCKED) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Evicting thread did not reach the loading key");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
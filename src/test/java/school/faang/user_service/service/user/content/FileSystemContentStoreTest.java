@@ -0,0 +1,100 @@
+package school.faang.user_service.service.user.content;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import school.faang.user_service.exception.NotFoundException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemContentStoreTest {
+    private static final int CHUNK_SIZE = 4;
+    private static final byte[] CONTENT = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    @TempDir
+    private Path root;
+    private FileSystemContentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FileSystemContentStore(root, CHUNK_SIZE);
+    }
+
+    @Test
+    void testSaveAndReadWholeContent() {
+        StoredContent stored = store.save(new ByteArrayInputStream(CONTENT), "image/png");
+
+        assertEquals(stored.hash() + ".png", stored.fileId());
+        assertEquals(CONTENT.length, stored.size());
+        assertEquals(stored, store.find(stored.fileId()).orElseThrow());
+        assertArrayEquals(CONTENT, read(stored.fileId(), 0, CONTENT.length));
+    }
+
+    @Test
+    void testReadRangeAcrossChunks() {
+        StoredContent stored = store.save(new ByteArrayInputStream(CONTENT), "image/jpeg");
+
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 3, 13), read(stored.fileId(), 3, 10));
+    }
+
+    @Test
+    void testReadIsLimitedBySize() {
+        StoredContent stored = store.save(new ByteArrayInputStream(CONTENT), "image/jpeg");
+
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 10, 16), read(stored.fileId(), 10, 100));
+    }
+
+    @Test
+    void testDelete() {
+        StoredContent stored = store.save(new ByteArrayInputStream(CONTENT), "image/png");
+
+        store.delete(stored.fileId());
+
+        assertTrue(store.find(stored.fileId()).isEmpty());
+        assertThrows(NotFoundException.class, () -> read(stored.fileId(), 0, 1));
+    }
+
+    @Test
+    void testDuplicateUploadsShareFileUntilLastReferenceIsDeleted() {
+        StoredContent first = store.save(new ByteArrayInputStream(CONTENT), "image/png");
+        StoredContent second = store.save(new ByteArrayInputStream(CONTENT), "image/png");
+
+        assertEquals(first, second);
+
+        store.delete(first.fileId());
+        assertArrayEquals(CONTENT, read(second.fileId(), 0, CONTENT.length));
+
+        store.delete(second.fileId());
+        assertTrue(store.find(second.fileId()).isEmpty());
+    }
+
+    @Test
+    void testHashIsSha256OfContent() throws Exception {
+        StoredContent stored = store.save(new ByteArrayInputStream(CONTENT), "image/png");
+
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(CONTENT);
+        assertEquals(HexFormat.of().formatHex(expected), stored.hash());
+    }
+
+    @Test
+    void testFileIdOutsideRootIsNotResolved() {
+        assertTrue(store.find("../secret.png").isEmpty());
+        assertThrows(NotFoundException.class, () -> read("../../etc/passwd", 0, 1));
+    }
+
+    private byte[] read(String fileId, long offset, long length) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.read(fileId, offset, length, out);
+        return out.toByteArray();
+    }
+}
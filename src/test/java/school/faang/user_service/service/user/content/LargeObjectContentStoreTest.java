@@ -0,0 +1,97 @@
+package school.faang.user_service.service.user.content;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.entity.ContentData;
+import school.faang.user_service.repository.ContentDataRepository;
+import school.faang.user_service.repository.LargeObjectRepository;
+
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LargeObjectContentStoreTest {
+    // sha-256 строки "abcde"
+    private static final String HASH = "36bbe50ed96841d10443bcb670d6554f0a34b761be67ec9c4a8ad2c0c44ca42c";
+    private static final long NEW_OID = 10L;
+    @Mock
+    private ContentDataRepository contentDataRepository;
+    @Mock
+    private LargeObjectRepository largeObjectRepository;
+    private LargeObjectContentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LargeObjectContentStore(contentDataRepository, largeObjectRepository, 2);
+    }
+
+    @Test
+    void testSaveWritesChunksAndKeepsNewObject() {
+        when(largeObjectRepository.create()).thenReturn(NEW_OID);
+        when(contentDataRepository.findByHash(HASH))
+                .thenReturn(Optional.of(new ContentData(1L, NEW_OID, 5, "image/png", HASH, 1)));
+
+        StoredContent stored = store.save(new ByteArrayInputStream("abcde".getBytes()), "image/png");
+
+        assertEquals(new StoredContent("1", 5, "image/png", HASH), stored);
+        verify(largeObjectRepository).writeChunk(NEW_OID, 0, "ab".getBytes());
+        verify(largeObjectRepository).writeChunk(NEW_OID, 2, "cd".getBytes());
+        verify(largeObjectRepository).writeChunk(NEW_OID, 4, "e".getBytes());
+        verify(contentDataRepository).upsertReference(NEW_OID, 5, "image/png", HASH);
+        verify(largeObjectRepository, never()).unlink(anyLong());
+    }
+
+    @Test
+    void testSaveDuplicateUnlinksNewObject() {
+        when(largeObjectRepository.create()).thenReturn(NEW_OID);
+        when(contentDataRepository.findByHash(HASH))
+                .thenReturn(Optional.of(new ContentData(1L, 3L, 5, "image/png", HASH, 2)));
+
+        StoredContent stored = store.save(new ByteArrayInputStream("abcde".getBytes()), "image/png");
+
+        assertEquals("1", stored.fileId());
+        verify(largeObjectRepository).unlink(NEW_OID);
+    }
+
+    @Test
+    void testDeleteSharedContentDecrementsReferences() {
+        ContentData data = new ContentData(1L, 3L, 5, "image/png", HASH, 2);
+        when(contentDataRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(data));
+
+        store.delete("1");
+
+        assertEquals(1, data.getRefCount());
+        verify(largeObjectRepository, never()).unlink(anyLong());
+        verify(contentDataRepository, never()).delete(data);
+    }
+
+    @Test
+    void testDeleteLastReferenceUnlinksObject() {
+        ContentData data = new ContentData(1L, 3L, 5, "image/png", HASH, 1);
+        when(contentDataRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(data));
+
+        store.delete("1");
+
+        verify(largeObjectRepository).unlink(3L);
+        verify(contentDataRepository).delete(data);
+    }
+
+    @Test
+    void testDeleteIgnoresForeignFileId() {
+        store.delete("not-a-number");
+
+        verify(contentDataRepository, never()).findByIdForUpdate(anyLong());
+        verify(contentDataRepository, never()).upsertReference(anyLong(), anyLong(), anyString(), eq(HASH));
+    }
+}
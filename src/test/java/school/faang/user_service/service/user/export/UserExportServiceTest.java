@@ -0,0 +1,112 @@
+package school.faang.user_service.service.user.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.UserDto;
+import school.faang.user_service.dto.UserExportFormat;
+import school.faang.user_service.dto.filter.UserFilterDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.filter.user.UserCityFilter;
+import school.faang.user_service.filter.user.UserFilter;
+import school.faang.user_service.service.user.RowWriter;
+import school.faang.user_service.service.user.UserStreamWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+    @Mock
+    private UserStreamWriter userStreamWriter;
+    private UserExportService exportService;
+    private UserDto user;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new UserExportService(List.of(new UserCityFilter()), userStreamWriter,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        user = new UserDto();
+        user.setId(1L);
+        user.setUsername("alex");
+        user.setPassword("secret");
+        user.setCity("London");
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        user.setGoalsIds(List.of(7L, 8L));
+    }
+
+    @Test
+    void testExportCsvWritesHeaderWithoutPassword() {
+        writeUsers();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(new UserFilterDto(), UserExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,username,email"));
+        assertFalse(lines[0].contains("password"));
+        assertTrue(lines[1].startsWith("1,alex,"));
+        assertTrue(lines[1].contains("2024-01-02T03:04:05"));
+        assertTrue(lines[1].contains("7;8"));
+        assertFalse(lines[1].contains("secret"));
+    }
+
+    @Test
+    void testExportNdjsonOmitsPassword() {
+        writeUsers();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(UserFilterDto.builder().city("Lon").build(), UserExportFormat.NDJSON, out);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("{\"id\":1,"));
+        assertFalse(json.contains("password"));
+    }
+
+    @Test
+    void testExportRejectsFilterWithoutQueryCondition() {
+        UserFilter inMemoryOnly = new UserFilter() {
+            @Override
+            public boolean checkingForNull(UserFilterDto userFilterDto) {
+                return true;
+            }
+
+            @Override
+            public boolean filterUsers(User user, UserFilterDto userFilterDto) {
+                return true;
+            }
+        };
+        exportService = new UserExportService(List.of(inMemoryOnly), userStreamWriter, new ObjectMapper());
+
+        assertThrows(DataValidationException.class, () ->
+                exportService.export(new UserFilterDto(), UserExportFormat.CSV, new ByteArrayOutputStream()));
+        verify(userStreamWriter, never()).writeAll(any(), any());
+    }
+
+    private void writeUsers() {
+        doAnswer(invocation -> {
+            RowWriter writer = invocation.getArgument(1);
+            writer.write(user);
+            writer.flush();
+            return null;
+        }).when(userStreamWriter).writeAll(any(Specification.class), any(RowWriter.class));
+    }
+}
@@ -0,0 +1,88 @@
+package school.faang.user_service.service.user.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import school.faang.user_service.entity.User;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentRowMapperTest {
+    private final StudentRowMapper mapper = new StudentRowMapper(new ObjectMapper());
+
+    @Test
+    void testMapValidRow() {
+        StudentRowResult result = mapper.map(new StudentCsvRow(1, validRow()));
+
+        assertTrue(result.isAccepted());
+        User user = result.user();
+        assertEquals("john.doe.123456", user.getUsername());
+        assertEquals("johndoe@example.com", user.getEmail());
+        assertEquals("+1-123-456-7890", user.getPhone());
+        assertEquals("New York", user.getCity());
+        assertEquals("USA", user.getCountry().getTitle());
+        assertEquals("Computer Science, Software Engineering", user.getAboutMe());
+    }
+
+    @Test
+    void testRejectsNonNumericYear() {
+        Map<String, String> row = validRow();
+        row.put("yearOfBirth", "nineteen");
+
+        StudentRowResult result = mapper.map(new StudentCsvRow(3, row));
+
+        assertFalse(result.isAccepted());
+        assertEquals(3, result.rowNumber());
+        assertEquals("123456", result.studentId());
+        assertTrue(result.rejectionReason().contains("yearOfBirth"));
+    }
+
+    @Test
+    void testRejectsInvalidEmail() {
+        Map<String, String> row = validRow();
+        row.put("email", "not-an-email");
+
+        assertEquals("Invalid email", mapper.map(new StudentCsvRow(1, row)).rejectionReason());
+    }
+
+    @Test
+    void testRejectsMissingCountry() {
+        Map<String, String> row = validRow();
+        row.remove("country");
+
+        assertEquals("Invalid country", mapper.map(new StudentCsvRow(1, row)).rejectionReason());
+    }
+
+    private Map<String, String> validRow() {
+        Map<String, String> row = new HashMap<>();
+        row.put("firstName", "John");
+        row.put("lastName", "Doe");
+        row.put("yearOfBirth", "1998");
+        row.put("group", "A");
+        row.put("studentID", "123456");
+        row.put("email", "johndoe@example.com");
+        row.put("phone", "+1-123-456-7890");
+        row.put("street", "123 Main Street");
+        row.put("city", "New York");
+        row.put("state", "NY");
+        row.put("country", "USA");
+        row.put("postalCode", "10001");
+        row.put("faculty", "Computer Science");
+        row.put("yearOfStudy", "3");
+        row.put("major", "Software Engineering");
+        row.put("GPA", "3.8");
+        row.put("status", "Active");
+        row.put("admissionDate", "2016-09-01");
+        row.put("graduationDate", "2020-05-30");
+        row.put("degree", "High School Diploma");
+        row.put("institution", "XYZ High School");
+        row.put("completionYear", "2016");
+        row.put("scholarship", "true");
+        row.put("employer", "XYZ Technologies");
+        return row;
+    }
+}
@@ -0,0 +1,105 @@
+package school.faang.user_service.service.user.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.dto.userimport.UserImportReportDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.UserImportRepository;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+    private static final String HEADER = "\uFEFFfirstName,lastName,yearOfBirth,group,studentID,email,phone,street,"
+            + "city,state,country,postalCode,faculty,yearOfStudy,major,GPA,status,admissionDate,graduationDate,"
+            + "degree,institution,completionYear,scholarship,employer\n";
+    @Mock
+    private UserImportRepository userImportRepository;
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new UserImportService(new StudentRowMapper(new ObjectMapper()), userImportRepository,
+                2, 1, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void testImportsValidRowsInChunksAndReportsRejections() {
+        String csv = HEADER
+                + row("John", "Doe", "1998", "1", "john@example.com", "111")
+                + row("Jane", "Roe", "1999", "2", "jane@example.com", "222")
+                + row("Bad", "Year", "abc", "3", "bad@example.com", "333")
+                + row("Mike", "Poe", "1990", "4", "mike@example.com", "444");
+        when(userImportRepository.resolveCountryIds(anyCollection())).thenReturn(Map.of("USA", 1L));
+        when(userImportRepository.insertIgnoringConflicts(anyList()))
+                .thenReturn(Set.of("john.doe.1", "jane.roe.2"))
+                .thenReturn(Set.of());
+
+        UserImportReportDto report = importService.importStudents(stream(csv));
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(2, report.getRejectedRows());
+        assertEquals(1, report.getRejections().size());
+        assertEquals(3, report.getRejections().get(0).getRowNumber());
+        assertTrue(report.isRejectionsTruncated());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userImportRepository, times(2)).insertIgnoringConflicts(captor.capture());
+        assertEquals(1L, captor.getAllValues().get(0).get(0).getCountry().getId());
+    }
+
+    @Test
+    void testDuplicatesInsideFileAreRejectedBeforeInsert() {
+        importService = new UserImportService(new StudentRowMapper(new ObjectMapper()), userImportRepository,
+                10, 10, 2);
+        String csv = HEADER
+                + row("John", "Doe", "1998", "1", "john@example.com", "111")
+                + row("Johnny", "Doe", "1998", "5", "john@example.com", "555");
+        when(userImportRepository.resolveCountryIds(anyCollection())).thenReturn(Map.of("USA", 1L));
+        when(userImportRepository.insertIgnoringConflicts(anyList())).thenReturn(Set.of("john.doe.1"));
+
+        UserImportReportDto report = importService.importStudents(stream(csv));
+
+        assertEquals(1, report.getImportedRows());
+        assertEquals(1, report.getRejectedRows());
+        assertEquals("Duplicate username, email or phone in file", report.getRejections().get(0).getReason());
+        assertFalse(report.isRejectionsTruncated());
+    }
+
+    private String row(String firstName, String lastName, String year, String studentId, String email,
+                       String phone) {
+        return String.join(",", firstName, lastName, year, "A", studentId, email, phone, "Main Street",
+                "New York", "NY", "USA", "10001", "Law", "2", "Corporate Law", "3.5", "Active", "2019-01-01",
+                "2021-12-31", "Bachelor", "DEF University", "2019", "true", "ABC") + "\n";
+    }
+
+    private ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package school.faang.user_service.service.user.thumbnail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.repository.UserRepository;
+import school.faang.user_service.service.user.content.ContentStore;
+import school.faang.user_service.service.user.content.StoredContent;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilePicThumbnailServiceTest {
+    private static final long USER_ID = 1L;
+    private static final StoredContent ORIGINAL = new StoredContent("original", 3, "image/png", "original-hash");
+    private static final StoredContent SMALL = new StoredContent("small", 1, "image/jpeg", "small-hash");
+    @Mock
+    private ContentStore contentStore;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ThumbnailRenderer thumbnailRenderer;
+    private ProfilePicThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailService = new ProfilePicThumbnailService(contentStore, userRepository, thumbnailRenderer, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    void testCreateThumbnailLinksSmallFile() {
+        stubRendering();
+        when(userRepository.setProfilePicSmallFileId(USER_ID, "original", "small")).thenReturn(1);
+
+        thumbnailService.createThumbnail(USER_ID, ORIGINAL);
+
+        verify(thumbnailRenderer).render(new byte[]{1, 2, 3});
+        verify(contentStore, never()).delete(anyString());
+    }
+
+    @Test
+    void testCreateThumbnailDeletesSmallFileWhenPictureWasReplaced() {
+        stubRendering();
+        when(userRepository.setProfilePicSmallFileId(USER_ID, "original", "small")).thenReturn(0);
+
+        thumbnailService.createThumbnail(USER_ID, ORIGINAL);
+
+        verify(contentStore).delete("small");
+    }
+
+    @Test
+    void testCreateThumbnailSwallowsRenderingErrors() {
+        doAnswer(invocation -> null).when(contentStore).read(eq("original"), eq(0L), eq(3L), any(OutputStream.class));
+        when(thumbnailRenderer.render(any())).thenThrow(new IllegalStateException("broken image"));
+
+        thumbnailService.createThumbnail(USER_ID, ORIGINAL);
+
+        verify(contentStore, never()).save(any(), anyString());
+        verifyNoInteractions(userRepository);
+    }
+
+    private void stubRendering() {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write(new byte[]{1, 2, 3});
+            return null;
+        }).when(contentStore).read(eq("original"), eq(0L), eq(3L), any(OutputStream.class));
+        when(thumbnailRenderer.render(new byte[]{1, 2, 3})).thenReturn(new byte[]{9});
+        when(thumbnailRenderer.contentType()).thenReturn("image/jpeg");
+        when(contentStore.save(any(InputStream.class), eq("image/jpeg"))).thenReturn(SMALL);
+    }
+}
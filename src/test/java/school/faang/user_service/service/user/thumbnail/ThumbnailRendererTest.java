@@ -0,0 +1,48 @@
+package school.faang.user_service.service.user.thumbnail;
+
+import org.junit.jupiter.api.Test;
+import school.faang.user_service.exception.DataValidationException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThumbnailRendererTest {
+    private final ThumbnailRenderer renderer = new ThumbnailRenderer(170);
+
+    @Test
+    void testRenderFitsLongestSide() throws IOException {
+        BufferedImage thumbnail = decode(renderer.render(png(2000, 1000)));
+
+        assertEquals(170, thumbnail.getWidth());
+        assertEquals(85, thumbnail.getHeight());
+    }
+
+    @Test
+    void testRenderDoesNotUpscale() throws IOException {
+        BufferedImage thumbnail = decode(renderer.render(png(40, 60)));
+
+        assertEquals(40, thumbnail.getWidth());
+        assertEquals(60, thumbnail.getHeight());
+    }
+
+    @Test
+    void testRenderRejectsUnknownFormat() {
+        assertThrows(DataValidationException.class, () -> renderer.render(new byte[]{1, 2, 3}));
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage decode(byte[] image) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(image));
+    }
+}
@@ -0,0 +1,141 @@
+package school.faang.user_service.service.user.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import school.faang.user_service.config.context.UserContext;
+import school.faang.user_service.dto.ProfileViewEvent;
+import school.faang.user_service.publisher.ProfileViewEventPublisher;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileViewTrackerTest {
+    private static final long VIEWER_ID = 7L;
+    private static final long VIEWEE_ID = 42L;
+    @Mock
+    private UserContext userContext;
+    @Mock
+    private ProfileViewEventPublisher profileViewEventPublisher;
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private HyperLogLogOperations<String, Object> hyperLogLogOperations;
+    private ProfileViewTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ProfileViewTracker(userContext, profileViewEventPublisher, redisTemplate,
+                Duration.ofHours(1), 2);
+    }
+
+    private void pipelineToConnection() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    @Test
+    void testViewsAreCoalescedUntilBucketCloses() throws Exception {
+        when(userContext.findUserId()).thenReturn(Optional.of(VIEWER_ID));
+        pipelineToConnection();
+        tracker.recordView(VIEWEE_ID);
+        assertEquals(0, tracker.flush());
+        tracker.recordView(VIEWEE_ID);
+        assertEquals(0, tracker.flush());
+        verify(profileViewEventPublisher, never()).publishAll(any());
+
+        // Интервал в час гарантированно закрыт через час
+        assertEquals(1, tracker.flush(System.currentTimeMillis() + Duration.ofHours(1).toMillis()));
+
+        ProfileViewEvent event = publishedEvents().get(0);
+        assertEquals(VIEWER_ID, event.getViewerId());
+        assertEquals(VIEWEE_ID, event.getVieweeId());
+        assertEquals(2, event.getViews());
+        verify(connection, times(2)).pfAdd(aryEq("profile:viewers:42".getBytes(StandardCharsets.UTF_8)),
+                aryEq("7".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testClosedBucketIsPublishedOnce() throws Exception {
+        when(userContext.findUserId()).thenReturn(Optional.of(VIEWER_ID));
+        pipelineToConnection();
+        tracker.recordView(VIEWEE_ID);
+        long closedAt = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+
+        assertEquals(1, tracker.flush(closedAt));
+        assertEquals(0, tracker.flush(closedAt));
+
+        verify(profileViewEventPublisher, times(1)).publishAll(any());
+    }
+
+    @Test
+    void testShutdownPublishesOpenBuckets() throws Exception {
+        when(userContext.findUserId()).thenReturn(Optional.of(VIEWER_ID));
+        pipelineToConnection();
+        tracker.recordView(VIEWEE_ID);
+        tracker.flush();
+
+        tracker.shutdown();
+
+        assertEquals(1, publishedEvents().get(0).getViews());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProfileViewEvent> publishedEvents() throws Exception {
+        ArgumentCaptor<List<ProfileViewEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(profileViewEventPublisher).publishAll(events.capture());
+        return events.getValue();
+    }
+
+    @Test
+    void testAnonymousAndOwnViewsAreIgnored() {
+        when(userContext.findUserId()).thenReturn(Optional.empty(), Optional.of(VIEWEE_ID));
+        tracker.recordView(VIEWEE_ID);
+        tracker.recordView(VIEWEE_ID);
+
+        assertEquals(0, tracker.flush());
+        verifyNoInteractions(profileViewEventPublisher, redisTemplate);
+    }
+
+    @Test
+    void testViewsOverStripeCapacityAreDropped() {
+        when(userContext.findUserId()).thenReturn(Optional.of(VIEWER_ID));
+        tracker.recordView(VIEWEE_ID);
+        tracker.recordView(VIEWEE_ID);
+        tracker.recordView(VIEWEE_ID);
+
+        assertEquals(1, tracker.getDroppedViews());
+    }
+
+    @Test
+    void testCountUniqueViewersReadsHyperLogLog() {
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(hyperLogLogOperations.size("profile:viewers:42")).thenReturn(3L);
+
+        assertEquals(3, tracker.countUniqueViewers(VIEWEE_ID));
+    }
+}
@@ -52,6 +52,22 @@ public class EventValidatorTest {
         assertFalse(eventValidator.validateEventDto(eventDto), "Отсутствует дата в EventDto");
     }
 
+    @Test
+    public void testValidateEndBeforeStart() {
+        EventDto eventDto = createValidEventDto();
+        eventDto.setEndDate(eventDto.getStartDate().minusMinutes(1));
+
+        assertFalse(eventValidator.validateEventDto(eventDto), "Событие заканчивается раньше начала в EventDto");
+    }
+
+    @Test
+    public void testValidateNullEndDate() {
+        EventDto eventDto = createValidEventDto();
+        eventDto.setEndDate(null);
+
+        assertFalse(eventValidator.validateEventDto(eventDto), "Отсутствует дата окончания в EventDto");
+    }
+
     @Test
     public void testValidateNullOwnerId() {
         EventDto eventDto = createValidEventDto();
@@ -60,6 +76,22 @@ public class EventValidatorTest {
         assertFalse(eventValidator.validateEventDto(eventDto), "Отсутствует пользователь в EventDto");
     }
 
+    @Test
+    public void testValidateZeroMaxAttendees() {
+        EventDto eventDto = createValidEventDto();
+        eventDto.setMaxAttendees(0);
+
+        assertFalse(eventValidator.validateEventDto(eventDto), "Событие без мест в EventDto");
+    }
+
+    @Test
+    public void testValidateUnlimitedMaxAttendees() {
+        EventDto eventDto = createValidEventDto();
+        eventDto.setMaxAttendees(null);
+
+        assertTrue(eventValidator.validateEventDto(eventDto), "Событие без лимита участников в EventDto");
+    }
+
     @Test
     public void testSuccessfulValidation() {
         EventDto eventDto = createValidEventDto();
@@ -139,7 +171,8 @@ public class EventValidatorTest {
     }
 
     private EventDto createValidEventDto() {
-        return new EventDto(1L, "title", "description", LocalDateTime.now(), LocalDateTime.now(),
+        LocalDateTime startDate = LocalDateTime.of(2024, 6, 1, 10, 0);
+        return new EventDto(1L, "title", "description", startDate, startDate.plusHours(2),
                 "location", 1, 1L, List.of(1L, 2L));
     }
 